@@ -0,0 +1,78 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.BenchmarkMappings.MatchPosition;
+import com.variety.store.user_service.security.BenchmarkMappings.PatternShape;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * CustomAuthorizationManager.authorize() 의 처리량/지연 시간/할당량 측정.
+ *
+ * 매핑 수, 패턴 형태, 사용자 권한 수, 매칭 위치(첫 번째/마지막/없음/거부)와 결정 캐시 사용 여부를 조합한다.
+ * 결정 캐시를 끄면 매 요청마다 트라이 탐색과 역할 마스크 비교가 수행된다.
+ */
+@State(Scope.Benchmark)
+public class AuthorizationManagerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int mappingCount;
+
+    @Param({"LITERAL", "VARIABLE", "DOUBLE_WILDCARD", "OVERLAPPING"})
+    private PatternShape patternShape;
+
+    @Param({"1", "8", "64"})
+    private int authorityCount;
+
+    @Param({"FIRST", "LAST", "NONE", "DENIED"})
+    private MatchPosition matchPosition;
+
+    @Param({"false", "true"})
+    private boolean decisionCache;
+
+    private CustomAuthorizationManager authorizationManager;
+    private Mono<Authentication> authentication;
+    private AuthorizationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RoleRegistry roleRegistry = new RoleRegistry();
+        AuthorizationService authorizationService = new AuthorizationService(roleRegistry);
+        BenchmarkMappings.populate(authorizationService, patternShape, mappingCount);
+
+        AuthorizationCacheProperties cacheProperties = new AuthorizationCacheProperties();
+        cacheProperties.setEnabled(decisionCache);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(cacheProperties, meterRegistry);
+
+        authorizationManager = new CustomAuthorizationManager(authorizationService, cache, roleRegistry,
+                new AuthorizationMetrics(meterRegistry));
+
+        List<String> authorities = BenchmarkMappings.authorities(authorityCount, matchPosition, mappingCount);
+        roleRegistry.registerAll(authorities);
+        authentication = Mono.just(new TestingAuthenticationToken("user", null,
+                AuthorityUtils.createAuthorityList(authorities.toArray(String[]::new))));
+
+        String path = matchPosition.path(patternShape, mappingCount);
+        context = new AuthorizationContext(MockServerWebExchange.from(MockServerHttpRequest.get(path)));
+
+        // 잘못된 설정으로 엉뚱한 결정을 측정하지 않도록 확인.
+        if (authorizationManager.authorize(authentication, context).block().isGranted() != matchPosition.granted()) {
+            throw new IllegalStateException("Benchmark request must be " + (matchPosition.granted() ? "granted" : "denied") + ": " + path);
+        }
+    }
+
+    @Benchmark
+    public AuthorizationResult authorize() {
+        return authorizationManager.authorize(authentication, context).block();
+    }
+}
@@ -0,0 +1,49 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.BenchmarkMappings.PatternShape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+
+/**
+ * 매핑 변경(addMapping / updateMapping) 비용 측정.
+ *
+ * 변경마다 전체 매핑 정렬과 트라이 컴파일 후 스냅샷을 교체하므로, 기존 매핑 수에 비례하는 비용을 확인한다.
+ * 매핑 수가 측정 중에 늘어나지 않도록 addMapping 은 추가한 매핑을 바로 제거하는 쌍으로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class AuthorizationMappingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int mappingCount;
+
+    @Param({"LITERAL", "VARIABLE", "DOUBLE_WILDCARD", "OVERLAPPING"})
+    private PatternShape patternShape;
+
+    private AuthorizationService authorizationService;
+    private String existingPattern;
+    private String newPattern;
+    private long priority;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        authorizationService = new AuthorizationService(new RoleRegistry());
+        BenchmarkMappings.populate(authorizationService, patternShape, mappingCount);
+
+        existingPattern = patternShape.pattern(mappingCount / 2);
+        newPattern = patternShape.pattern(mappingCount + 1);
+    }
+
+    @Benchmark
+    public long updateMapping() {
+        authorizationService.updateMapping(priority++ % mappingCount, existingPattern, Set.of("ROLE_ADMIN"));
+        return authorizationService.getVersion();
+    }
+
+    @Benchmark
+    public long addAndRemoveMapping() {
+        authorizationService.addMapping((long) mappingCount, newPattern, Set.of("ROLE_ADMIN"));
+        authorizationService.removeMapping(newPattern);
+        return authorizationService.getVersion();
+    }
+}
@@ -0,0 +1,101 @@
+package com.variety.store.user_service.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 벤치마크용 매핑/요청 경로 생성.
+ */
+final class BenchmarkMappings {
+
+    // 매핑마다 요구하는 역할은 ROLE_R0 ~ ROLE_R31 중 하나.
+    static final int REQUIRED_ROLE_COUNT = 32;
+
+    // "/api/**" 매핑이 요구하는 역할. 벤치마크 사용자는 이 역할을 갖지 않는다.
+    static final String CATCH_ALL_ROLE = "ROLE_CATCH_ALL";
+
+    /**
+     * OVERLAPPING 은 같은 경로에 매칭되는 패턴을 우선순위를 달리해 겹쳐 둔다.
+     * 인덱스마다 "/api/svc{i}/items/{id}"(우선순위 i)와 "/api/svc{i}/**"(우선순위 mappingCount + i, 다른 역할)를,
+     * 마지막에 "/api/**"(우선순위 2 * mappingCount, CATCH_ALL_ROLE)를 추가하므로 매핑 수는 2 * mappingCount + 1 이다.
+     * 우선순위가 낮은 매핑이 선택되면 요청이 거부되어 설정 확인에서 실패한다.
+     */
+    enum PatternShape {
+        LITERAL, VARIABLE, DOUBLE_WILDCARD, OVERLAPPING;
+
+        String pattern(int index) {
+            return switch (this) {
+                case LITERAL -> "/api/svc" + index + "/items";
+                case VARIABLE, OVERLAPPING -> "/api/svc" + index + "/items/{id}";
+                case DOUBLE_WILDCARD -> "/api/svc" + index + "/**";
+            };
+        }
+
+        String path(int index) {
+            return switch (this) {
+                case LITERAL -> "/api/svc" + index + "/items";
+                case VARIABLE, DOUBLE_WILDCARD, OVERLAPPING -> "/api/svc" + index + "/items/42";
+            };
+        }
+    }
+
+    /**
+     * 요청 경로와 매칭되는 매핑의 위치 (우선순위 기준)
+     * NONE 은 매핑이 없는 경로(기본 허용), DENIED 는 첫 번째 매핑에 매칭되지만 필요한 역할이 없는 요청이다.
+     */
+    enum MatchPosition {
+        FIRST, LAST, NONE, DENIED;
+
+        String path(PatternShape shape, int mappingCount) {
+            return switch (this) {
+                case FIRST, DENIED -> shape.path(0);
+                case LAST -> shape.path(mappingCount - 1);
+                case NONE -> "/unmapped/path/42";
+            };
+        }
+
+        int mappingIndex(int mappingCount) {
+            return this == LAST ? mappingCount - 1 : 0;
+        }
+
+        boolean granted() {
+            return this != DENIED;
+        }
+    }
+
+    private BenchmarkMappings() {
+    }
+
+    static String requiredRole(int index) {
+        return "ROLE_R" + (index % REQUIRED_ROLE_COUNT);
+    }
+
+    static void populate(AuthorizationService authorizationService, PatternShape shape, int mappingCount) {
+        authorizationService.applyChanges(batch -> {
+            batch.clear();
+            for (int i = 0; i < mappingCount; i++) {
+                batch.addMapping((long) i, shape.pattern(i), Set.of(requiredRole(i)));
+            }
+            if (shape == PatternShape.OVERLAPPING) {
+                for (int i = 0; i < mappingCount; i++) {
+                    batch.addMapping((long) mappingCount + i, "/api/svc" + i + "/**", Set.of(requiredRole(i + 1)));
+                }
+                batch.addMapping(2L * mappingCount, "/api/**", Set.of(CATCH_ALL_ROLE));
+            }
+        });
+    }
+
+    // 매칭된 매핑이 요구하는 역할을 마지막에 포함하는 authorityCount 개의 권한 이름. (DENIED 는 요구 역할 없이 채운다)
+    static List<String> authorities(int authorityCount, MatchPosition position, int mappingCount) {
+        List<String> authorities = new ArrayList<>(authorityCount);
+        int extraCount = position.granted() ? authorityCount - 1 : authorityCount;
+        for (int i = 0; i < extraCount; i++) {
+            authorities.add("ROLE_EXTRA" + i);
+        }
+        if (position.granted()) {
+            authorities.add(requiredRole(position.mappingIndex(mappingCount)));
+        }
+        return authorities;
+    }
+}
@@ -0,0 +1,153 @@
+package com.variety.store.user_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 작업(JPA/JDBC, @Transactional 서비스 호출) 실행기.
+ *
+ * WebFlux 의 이벤트 루프 스레드에서 블로킹 호출을 하면 같은 스레드의 다른 요청이 모두 멈추므로,
+ * 컨트롤러는 서비스 호출을 call() 로 감싸 전용 스케줄러에서 실행한다.
+ *
+ * - 스레드 수는 DB 연결 풀 크기에 맞춘다. 연결보다 많은 스레드는 연결을 기다리기만 하기 때문이다.
+ * - 대기열이 가득 차면 기다리지 않고 503 으로 응답한다.
+ * - 대기 중인 작업 수, 대기 시간, 실행 시간을 blocking.scheduler.* 지표로 기록한다.
+ */
+@Slf4j
+@Component
+public class BlockingExecutor {
+
+    private static final String METRIC_PREFIX = "blocking.scheduler";
+    private static final String THREAD_NAME_PREFIX = "blocking-";
+
+    private final Scheduler scheduler;
+    private final int threadCap;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejected;
+
+    public BlockingExecutor(BlockingSchedulerProperties properties,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                            MeterRegistry meterRegistry) {
+        this.threadCap = properties.getThreadCap() > 0 ? properties.getThreadCap() : connectionPoolSize;
+        this.scheduler = Schedulers.newBoundedElastic(threadCap, properties.getQueuedTaskCap(),
+                threadFactory(properties.isVirtualThreads()), (int) properties.getThreadTtl().toSeconds());
+
+        Gauge.builder(METRIC_PREFIX + ".queued", queued, AtomicInteger::get)
+                .description("실행 스레드를 기다리는 블로킹 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", active, AtomicInteger::get)
+                .description("실행 중인 블로킹 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".threads.max", this, executor -> executor.threadCap)
+                .description("블로킹 작업 스케줄러의 최대 스레드 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("블로킹 작업이 실행되기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(METRIC_PREFIX + ".execution")
+                .description("블로킹 작업 실행 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열이 가득 차 거절된 블로킹 작업 수")
+                .register(meterRegistry);
+
+        log.info("Blocking scheduler: threadCap={}, queuedTaskCap={}, virtualThreads={}",
+                threadCap, properties.getQueuedTaskCap(), properties.isVirtualThreads());
+    }
+
+    /**
+     * task 를 블로킹 작업 스케줄러에서 실행. 구독할 때마다 한 번씩 실행된다.
+     */
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.defer(() -> {
+            long submittedAt = System.nanoTime();
+            AtomicBoolean dequeued = new AtomicBoolean();
+            queued.incrementAndGet();
+
+            return Mono.fromCallable(() -> {
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                        long startedAt = System.nanoTime();
+                        waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+                        active.incrementAndGet();
+                        try {
+                            return task.call();
+                        }
+                        finally {
+                            active.decrementAndGet();
+                            executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .subscribeOn(scheduler)
+                    // 실행 전에 취소/거절된 경우
+                    .doFinally(signal -> {
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                    })
+                    .onErrorMap(RejectedExecutionException.class, e -> {
+                        rejected.increment();
+                        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다.", e);
+                    });
+        });
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+    // JDK 21 이상이면 가상 스레드, 아니면 데몬 플랫폼 스레드. (Java 17 로 빌드하므로 가상 스레드 API 는 리플렉션으로 호출)
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX + "virtual-", 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            }
+            catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not available on this JDK ({}), using platform threads", Runtime.version());
+            }
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory defaults = Executors.defaultThreadFactory();
+        return runnable -> {
+            Thread thread = defaults.newThread(runnable);
+            thread.setName(THREAD_NAME_PREFIX + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
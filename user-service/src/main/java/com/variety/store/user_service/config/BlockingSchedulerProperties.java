@@ -0,0 +1,33 @@
+package com.variety.store.user_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 블로킹 작업(JPA/JDBC) 전용 스케줄러(BlockingExecutor) 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blocking.scheduler")
+public class BlockingSchedulerProperties {
+
+    public enum EventLoopCheck { OFF, WARN, FAIL }
+
+    // 최대 스레드 수. 0 이면 DB 연결 풀 크기(spring.datasource.hikari.maximum-pool-size)와 같게 맞춘다.
+    private int threadCap = 0;
+
+    // 스레드마다 대기시킬 수 있는 최대 작업 수. 초과하면 즉시 503 으로 응답한다.
+    private int queuedTaskCap = 1000;
+
+    // 유휴 스레드 유지 시간
+    private Duration threadTtl = Duration.ofSeconds(60);
+
+    // 가상 스레드 사용 여부. JDK 21 이상에서만 적용되며, 그 외에는 플랫폼 스레드를 사용한다.
+    private boolean virtualThreads = false;
+
+    // 이벤트 루프(논블로킹) 스레드에서 DB 연결을 요청했을 때의 처리. (OFF: 확인 안 함, WARN: 경고 로그, FAIL: 예외)
+    private EventLoopCheck eventLoopCheck = EventLoopCheck.OFF;
+}
@@ -0,0 +1,79 @@
+package com.variety.store.user_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 이벤트 루프(논블로킹) 스레드에서 DB 연결을 요청하는지 확인.
+ *
+ * DataSource 를 감싸서 연결을 얻는 시점에 현재 스레드를 확인한다. Reactor Netty 이벤트 루프와 parallel 스케줄러 스레드가 대상이다.
+ * blocking.scheduler.event-loop-check 가 WARN 이면 경고 로그를, FAIL 이면 IllegalStateException 을 발생시킨다. (테스트용)
+ */
+@Slf4j
+@Component
+public class EventLoopJdbcGuard implements BeanPostProcessor, EnvironmentAware {
+
+    private BlockingSchedulerProperties.EventLoopCheck mode = BlockingSchedulerProperties.EventLoopCheck.OFF;
+
+    // BeanPostProcessor 는 설정 클래스 바인딩보다 먼저 만들어지므로, 설정 값을 직접 읽는다.
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.mode = Binder.get(environment)
+                .bind("blocking.scheduler.event-loop-check", BlockingSchedulerProperties.EventLoopCheck.class)
+                .orElse(BlockingSchedulerProperties.EventLoopCheck.OFF);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (mode == BlockingSchedulerProperties.EventLoopCheck.OFF || !(bean instanceof DataSource dataSource)
+                || bean instanceof GuardedDataSource) {
+            return bean;
+        }
+        log.info("Checking for JDBC connections on event-loop threads: dataSource={}, mode={}", beanName, mode);
+        return new GuardedDataSource(dataSource, mode);
+    }
+
+    static void check(BlockingSchedulerProperties.EventLoopCheck mode) {
+        if (mode == BlockingSchedulerProperties.EventLoopCheck.OFF || !Schedulers.isInNonBlockingThread()) {
+            return;
+        }
+        String message = "Blocking JDBC call on non-blocking thread " + Thread.currentThread().getName()
+                + ". Wrap the call with BlockingExecutor.call().";
+        if (mode == BlockingSchedulerProperties.EventLoopCheck.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message, new IllegalStateException(message));
+    }
+
+    static class GuardedDataSource extends DelegatingDataSource {
+
+        private final BlockingSchedulerProperties.EventLoopCheck mode;
+
+        GuardedDataSource(DataSource target, BlockingSchedulerProperties.EventLoopCheck mode) {
+            super(target);
+            this.mode = mode;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            check(mode);
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            check(mode);
+            return super.getConnection(username, password);
+        }
+    }
+}
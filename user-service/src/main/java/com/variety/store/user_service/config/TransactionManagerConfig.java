@@ -0,0 +1,29 @@
+package com.variety.store.user_service.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * JPA(쓰기)와 R2DBC(조회)를 함께 사용하므로 트랜잭션 매니저가 두 개 등록된다.
+ *
+ * R2DBC 트랜잭션 매니저가 먼저 등록되면 JPA 트랜잭션 매니저 자동 설정이 생략되므로 직접 등록하고,
+ * 한정자 없는 @Transactional 이 JPA 트랜잭션 매니저를 사용하도록 @Primary 로 지정한다.
+ */
+@Configuration
+public class TransactionManagerConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,29 @@
+package com.variety.store.user_service.controller;
+
+import com.variety.store.user_service.security.AuthorizationClusterSync;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 같은 서비스의 다른 인스턴스로부터 인가 매핑 변경 알림을 수신.
+ * 알림에는 변경 이력 id 만 담겨 있으며, 실제 변경 내용은 DB 에서 다시 읽는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorizationSyncController {
+
+    private final AuthorizationClusterSync clusterSync;
+
+    @PostMapping("/internal/authorization/changes")
+    public ResponseEntity<Void> notifyChange(@RequestParam("changeId") long changeId) {
+        log.debug("run notifyChange(): {}", changeId);
+
+        clusterSync.onPeerNotification(changeId);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -1,11 +1,18 @@
 package com.variety.store.user_service.controller;
 
+import com.variety.store.user_service.config.BlockingExecutor;
 import com.variety.store.user_service.domain.dto.request.RoleRequest;
+import com.variety.store.user_service.domain.dto.request.UserRoleAssignmentRequest;
+import com.variety.store.user_service.domain.dto.response.UserRoleAssignmentResponse;
+import com.variety.store.user_service.service.KeycloakRealmReader;
+import com.variety.store.user_service.service.KeycloakReconciler;
 import com.variety.store.user_service.service.KeycloakService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -17,6 +24,9 @@ import java.util.List;
 public class KeycloakTestController {
 
     private final KeycloakService keycloakService;
+    private final KeycloakRealmReader keycloakRealmReader;
+    private final KeycloakReconciler keycloakReconciler;
+    private final BlockingExecutor blockingExecutor;
 
     /**
      * ✅ 사용자 생성
@@ -30,6 +40,23 @@ public class KeycloakTestController {
                 .then(Mono.just(ResponseEntity.ok().build()));
     }
 
+    /**
+     * ✅ 전체 사용자 조회
+     * Realm 의 사용자를 페이지 단위로 나눠 읽으며, 읽는 대로 NDJSON 으로 반환한다.
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<KeycloakService.UserRepresentation> streamUsers(@RequestParam(required = false) Integer pageSize) {
+        return pageSize != null ? keycloakRealmReader.streamUsers(pageSize) : keycloakRealmReader.streamUsers();
+    }
+
+    /**
+     * ✅ 전체 사용자별 역할 매핑 조회 (NDJSON)
+     */
+    @GetMapping(value = "/users/role-mappings", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<KeycloakRealmReader.UserRoleMapping> streamUserRoleMappings() {
+        return keycloakRealmReader.streamUserRoleMappings();
+    }
+
     /**
      * ✅ 사용자의 정보 조회
      */
@@ -114,4 +141,28 @@ public class KeycloakTestController {
         return keycloakService.updateUserRoles(username, roleNameList)
                 .then(Mono.just(ResponseEntity.ok().build()));
     }
+
+    /**
+     * ✅ 사용자 역할 일괄 재할당
+     * 요청 본문은 JSON 배열 또는 NDJSON 으로 받을 수 있으며, 사용자별 결과를 완료되는 대로 NDJSON 으로 반환한다.
+     */
+    @PostMapping(value = "/users/roles/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserRoleAssignmentResponse> updateUserRolesInBulk(
+            @RequestBody Flux<UserRoleAssignmentRequest> requests,
+            @RequestParam(required = false) Integer concurrency) {
+
+        log.info("run updateUserRolesInBulk(): concurrency - {}", concurrency);
+
+        return keycloakService.updateUserRolesInBulk(requests, concurrency);
+    }
+
+    /**
+     * ✅ 로컬 사용자/역할과 Keycloak 정합성 점검 실행
+     * 점검은 DB 를 읽고 Keycloak 응답을 기다리므로 블로킹 작업 스케줄러에서 실행한다.
+     */
+    @PostMapping("/reconciliation")
+    public Mono<ResponseEntity<KeycloakReconciler.Report>> reconcile() {
+        return blockingExecutor.call(keycloakReconciler::reconcile)
+                .map(ResponseEntity::ok);
+    }
 }
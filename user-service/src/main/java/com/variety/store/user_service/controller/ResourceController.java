@@ -0,0 +1,38 @@
+package com.variety.store.user_service.controller;
+
+import com.variety.store.user_service.domain.dto.response.ResourceResponse;
+import com.variety.store.user_service.repository.reactive.ResourceReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceController {
+
+    private final ResourceReadRepository resourceReadRepository;
+
+    // 리소스 목록 조회. (역할 포함)
+    @GetMapping("/resources")
+    public Mono<ResponseEntity<List<ResourceResponse>>> getAllResources() {
+        return resourceReadRepository.findAll()
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    // 리소스 상세 조회.
+    @GetMapping("/resources/{resourceId}")
+    public Mono<ResponseEntity<ResourceResponse>> getResourceInfo(@PathVariable Long resourceId) {
+
+        return resourceReadRepository.findById(resourceId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Resource not found with ID: " + resourceId)))
+                .map(ResponseEntity::ok);
+    }
+}
@@ -1,7 +1,8 @@
 package com.variety.store.user_service.controller;
 
+import com.variety.store.user_service.config.BlockingExecutor;
 import com.variety.store.user_service.domain.dto.request.RoleRequest;
-import com.variety.store.user_service.service.KeycloakService;
+import com.variety.store.user_service.repository.reactive.RoleReadRepository;
 import com.variety.store.user_service.service.ResourceService;
 import com.variety.store.user_service.service.RoleService;
 import com.variety.store.user_service.service.UserService;
@@ -21,48 +22,47 @@ public class RoleController {
     private final UserService userService;
     private final RoleService roleService;
     private final ResourceService resourceService;
-
-    private final KeycloakService keycloakService;
+    private final BlockingExecutor blockingExecutor;
+    private final RoleReadRepository roleReadRepository;
 
     /**
      * 권한 생성.
-     * 1. RoleService를 사용하여 DB에 권한(역할) 저장.
-     * 2. Keycloak Admin REST API 를 호출하여, 인가 서버에 권한(역할) 생성.
+     * RoleService를 사용하여 DB에 권한(역할)을 저장한다.
+     * Keycloak 역할 생성은 같은 트랜잭션에서 아웃박스에 기록되며, 응답 이후 KeycloakOutboxRelay 가 비동기로 반영한다.
      */
     @PostMapping("/roles")
     public Mono<ResponseEntity<RoleRequest>> createRole(@RequestBody RoleRequest roleRequest) {
 
         log.info("run createRole(): {}", roleRequest);
 
-        return Mono.fromCallable(() -> roleService.createRole(roleRequest))
-                .flatMap(savedRole -> keycloakService.createRole(savedRole.getName(), savedRole.getDescription())
-                        .thenReturn(ResponseEntity.ok(savedRole))
-                )
-                .doOnError(e -> log.error("권한(역할) 등록 실패: {}", e.getMessage()));
+        return blockingExecutor.call(() -> roleService.createRole(roleRequest))
+                .map(ResponseEntity::ok);
     }
 
     // 권한 목록 조회.
     // 페이징 및 검색 조건 추가 필요.
     @GetMapping("/roles")
-    public ResponseEntity<List<RoleRequest>> getAllRoles() {
-        List<RoleRequest> result = roleService.getAllRoles();
-        return ResponseEntity.ok(result);
+    public Mono<ResponseEntity<List<RoleRequest>>> getAllRoles() {
+        return roleReadRepository.findAll()
+                .collectList()
+                .map(ResponseEntity::ok);
     }
 
     // 권한 상세 조회.
     @GetMapping("/roles/{roleId}")
-    public ResponseEntity<RoleRequest> getRoleInfo(@PathVariable Long roleId) {
+    public Mono<ResponseEntity<RoleRequest>> getRoleInfo(@PathVariable Long roleId) {
 
-        RoleRequest result = roleService.getRoleById(roleId);
-        return ResponseEntity.ok(result);
+        return roleReadRepository.findById(roleId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("role not found with roleId:" + roleId)))
+                .map(ResponseEntity::ok);
     }
 
     // 권한 수정.
     @PutMapping("/roles/{roleId}")
-    public ResponseEntity<RoleRequest> updateRole(@PathVariable Long roleId, @RequestBody RoleRequest roleRequest) {
+    public Mono<ResponseEntity<RoleRequest>> updateRole(@PathVariable Long roleId, @RequestBody RoleRequest roleRequest) {
 
-        RoleRequest updatedRole = roleService.updateRole(roleId, roleRequest);
-        return ResponseEntity.ok(updatedRole);
+        return blockingExecutor.call(() -> roleService.updateRole(roleId, roleRequest))
+                .map(ResponseEntity::ok);
     }
 
 
@@ -1,13 +1,20 @@
 package com.variety.store.user_service.controller;
 
+import com.variety.store.user_service.config.BlockingExecutor;
 import com.variety.store.user_service.domain.dto.request.UserRequest;
+import com.variety.store.user_service.domain.dto.response.CursorPage;
 import com.variety.store.user_service.domain.dto.response.UserResponse;
-import com.variety.store.user_service.service.KeycloakService;
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.repository.reactive.UserReadRepository;
 import com.variety.store.user_service.service.ResourceService;
 import com.variety.store.user_service.service.RoleService;
 import com.variety.store.user_service.service.UserService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -24,14 +31,15 @@ public class UserController {
     private final UserService userService;
     private final RoleService roleService;
     private final ResourceService resourceService;
-
-    private final KeycloakService keycloakService;
+    private final BlockingExecutor blockingExecutor;
+    private final UserReadRepository userReadRepository;
 
     /**
      * 사용자 정보 조회.
+     * 조회는 R2DBC 로 처리하므로 DB 응답을 기다리는 동안 스레드를 점유하지 않는다.
      */
     @GetMapping("/users/{userId}")
-    public ResponseEntity<UserResponse> getUserInfo(Authentication authentication, @PathVariable Long userId) {
+    public Mono<ResponseEntity<UserResponse>> getUserInfo(Authentication authentication, @PathVariable Long userId) {
         Jwt jwt = (Jwt) authentication.getPrincipal();
         String username = jwt.getClaim("preferred_username");
 
@@ -41,25 +49,61 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
         }
 
-        UserResponse result = userService.getUserBasicInfo(userId);
-        return ResponseEntity.ok(result);
+        return userReadRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("User not found with id: " + userId)))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 사용자 목록 검색. (username 부분 일치, roleNames 중 하나라도 가진 사용자)
+     * 전체 개수는 같은 조건이면 캐시된 값(조건이 없으면 추정치)을 사용하며, count=EXACT 이면 다시 계산한다.
+     */
+    @GetMapping("/users")
+    public Mono<ResponseEntity<PagedModel<UserResponse>>> searchUsers(@ModelAttribute UserSearch userSearch,
+                                                                      @RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+
+        return userReadRepository.searchUserList(userSearch, PageRequest.of(page, size))
+                .map(result -> ResponseEntity.ok(new PagedModel<>(result)));
+    }
+
+    /**
+     * 사용자 목록 검색 (전체 개수 없이 다음 페이지 존재 여부만 반환).
+     */
+    @GetMapping("/users/slice")
+    public Mono<ResponseEntity<Slice<UserResponse>>> searchUserSlice(@ModelAttribute UserSearch userSearch,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+
+        return userReadRepository.searchUserSlice(userSearch, PageRequest.of(page, size))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 사용자 목록 검색 (keyset 페이징).
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, 페이지 깊이와 관계없이 조회 비용이 같다.
+     */
+    @GetMapping("/users/scroll")
+    public Mono<ResponseEntity<CursorPage<UserResponse>>> scrollUsers(@ModelAttribute UserSearch userSearch,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+
+        return userReadRepository.scrollUserList(userSearch, cursor, size)
+                .map(ResponseEntity::ok);
     }
 
     /**
      * 사용자 생성.
-     * 1. UserService 를 사용하여 DB에 사용자 저장.
-     * 2. Keycloak Admin REST API 를 호출하여, 인가 서버에 사용자 저장.
+     * UserService 를 사용하여 DB에 사용자를 저장한다.
+     * Keycloak 사용자 등록은 같은 트랜잭션에서 아웃박스에 기록되며, 응답 이후 KeycloakOutboxRelay 가 비동기로 반영한다.
      */
     @PostMapping("/users")
     public Mono<ResponseEntity<UserResponse>> createUser(@RequestBody UserRequest userRequest) {
 
         log.info("run createUser: {}", userRequest);
 
-        return Mono.fromCallable(() -> userService.createUser(userRequest))
-                .flatMap(savedUser -> keycloakService.createUser(userRequest.getUsername(), userRequest.getEmail(), userRequest.getPassword())
-                        .thenReturn(ResponseEntity.ok(savedUser))
-                )
-                .doOnError(e -> log.error("사용자 등록 실패: {}", e.getMessage()));
+        return blockingExecutor.call(() -> userService.createUser(userRequest))
+                .map(ResponseEntity::ok);
     }
 
 }
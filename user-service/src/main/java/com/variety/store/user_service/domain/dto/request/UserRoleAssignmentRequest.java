@@ -0,0 +1,21 @@
+package com.variety.store.user_service.domain.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 역할 일괄 재할당 요청의 한 건. roleNames 가 사용자의 최종 역할 목록이 된다. (기본 역할 제외)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserRoleAssignmentRequest {
+
+    private String username;
+    private List<String> roleNames;
+}
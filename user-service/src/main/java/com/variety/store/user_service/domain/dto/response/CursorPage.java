@@ -0,0 +1,24 @@
+package com.variety.store.user_service.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 응답. 다음 페이지가 있으면 nextCursor 를 그대로 다음 요청의 cursor 로 전달한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.variety.store.user_service.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 역할 일괄 재할당 결과의 한 건.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserRoleAssignmentResponse {
+
+    public enum Status {
+        UPDATED,    // 역할이 추가 또는 제거됨
+        UNCHANGED,  // 이미 요청한 역할 목록과 같아 변경 요청을 보내지 않음
+        NOT_FOUND,  // Keycloak 에 사용자가 없음
+        INVALID,    // 역할 카탈로그에 없는 역할이 있어 변경 요청을 보내지 않음
+        FAILED
+    }
+
+    private String username;
+    private Status status;
+
+    private List<String> addedRoles;
+    private List<String> removedRoles;
+    private List<String> unknownRoles;  // 역할 카탈로그에 없는 역할 이름
+
+    private String message;
+}
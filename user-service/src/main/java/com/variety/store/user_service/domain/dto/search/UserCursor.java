@@ -0,0 +1,37 @@
+package com.variety.store.user_service.domain.dto.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 keyset 페이지 커서. 마지막으로 반환한 사용자의 (정렬 키 값, user_id) 를 담는다.
+ *
+ * 클라이언트에는 Base64(URL) 로 인코딩한 불투명한 문자열로만 전달하며, 다음 페이지를 요청할 때 그대로 돌려받는다.
+ */
+public record UserCursor(UserSearch.SortKey sortKey, String value, long id) {
+
+    public String encode() {
+        String raw = sortKey.name() + ":" + id + ":" + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석. 형식이 잘못되었거나 정렬 기준이 다른 커서이면 IllegalArgumentException.
+     */
+    public static UserCursor decode(String cursor, UserSearch.SortKey expectedSortKey) {
+        UserCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            decoded = new UserCursor(UserSearch.SortKey.valueOf(parts[0]), parts[2], Long.parseLong(parts[1]));
+        }
+        catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+
+        if (decoded.sortKey() != expectedSortKey) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다: " + decoded.sortKey());
+        }
+        return decoded;
+    }
+}
@@ -10,4 +10,13 @@ public class UserSearch {
     private String username;
     private List<String> roleNames;
 
+    // keyset 페이지 정렬 기준. 같은 값이면 user_id 순서.
+    private SortKey sort = SortKey.ID;
+
+    // 전체 개수 계산 방식. (Page 조회에만 적용, CACHED: 캐시된 개수 또는 추정치 사용)
+    private CountMode count = CountMode.CACHED;
+
+    public enum SortKey { ID, USERNAME }
+
+    public enum CountMode { EXACT, CACHED }
 }
@@ -0,0 +1,37 @@
+package com.variety.store.user_service.domain.entity;
+
+import com.variety.store.user_service.domain.entity.base.Time;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인가 매핑 변경 이력. 식별자(id)가 곧 클러스터 전체에서 공유되는 매핑 버전이다.
+ *
+ * 리소스 변경과 같은 트랜잭션에서 기록되며, 각 인스턴스는 마지막으로 반영한 id 이후의 이력만 읽어
+ * 변경된 리소스만 다시 조회한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorizationChange extends Time {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "authorization_change_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long resourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResourceChangedEvent.Type changeType;
+
+    public AuthorizationChange(Long resourceId, ResourceChangedEvent.Type changeType) {
+        this.resourceId = resourceId;
+        this.changeType = changeType;
+    }
+}
@@ -0,0 +1,35 @@
+package com.variety.store.user_service.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정리(prune)된 변경 이력의 위치. 한 행(ID)만 사용한다.
+ *
+ * 롤백된 트랜잭션도 이력 id 를 소비하므로, 가장 오래 남은 이력 id 만으로는 이력이 정리되었는지 알 수 없다.
+ * 각 인스턴스는 반영한 id 가 이 값보다 작을 때만 정리된 이력을 놓친 것으로 보고 전체 매핑을 다시 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorizationChangeWatermark {
+
+    public static final Long ID = 1L;
+
+    @Id
+    @Column(name = "authorization_change_watermark_id")
+    private Long id;
+
+    // 정리된 이력 중 가장 큰 id
+    @Column(nullable = false)
+    private Long prunedChangeId;
+
+    public AuthorizationChangeWatermark(Long prunedChangeId) {
+        this.id = ID;
+        this.prunedChangeId = prunedChangeId;
+    }
+}
@@ -0,0 +1,119 @@
+package com.variety.store.user_service.domain.entity;
+
+import com.variety.store.user_service.domain.entity.base.Time;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keycloak 동기화 작업 아웃박스.
+ *
+ * 사용자/역할 변경과 같은 트랜잭션에서 기록되며, KeycloakOutboxRelay 가 커밋 이후 비동기로 Keycloak 에 반영한다.
+ * 같은 대상(aggregateType + aggregateKey)의 작업은 id 순서대로 하나씩 처리된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_keycloak_outbox_status", columnList = "status, keycloak_outbox_id"),
+        @Index(name = "idx_keycloak_outbox_aggregate", columnList = "aggregate_type, aggregate_key, status")
+})
+public class KeycloakOutbox extends Time {
+
+    public enum AggregateType { USER, ROLE }
+
+    public enum Operation { CREATE_USER, CREATE_ROLE }
+
+    // PENDING: 처리 대기(재시도 포함), DONE: 반영 완료, DEAD: 재시도 포기
+    public enum Status { PENDING, DONE, DEAD }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "keycloak_outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AggregateType aggregateType;
+
+    // 사용자 아이디(username) 또는 역할 이름
+    @Column(nullable = false)
+    private String aggregateKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    // 작업 내용(JSON)
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 처리 중인 릴레이 식별자와 점유 만료 시각. 만료되면 다른 인스턴스가 다시 가져갈 수 있다.
+    private String claimedBy;
+    private LocalDateTime claimedUntil;
+
+    private LocalDateTime processedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public KeycloakOutbox(AggregateType aggregateType, String aggregateKey, Operation operation, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateKey = aggregateKey;
+        this.operation = operation;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.DONE;
+        this.attempts++;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+        release();
+    }
+
+    // 일시적인 실패. nextAttemptAt 이후에 다시 시도한다.
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        release();
+    }
+
+    // 재시도해도 성공할 수 없는 실패. 같은 대상의 이후 작업은 계속 처리된다.
+    public void deadLetter(String error) {
+        this.status = Status.DEAD;
+        this.attempts++;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = truncate(error);
+        release();
+    }
+
+    // 처리가 끝난 작업에서 민감한 값을 제거할 때 사용.
+    public void replacePayload(String payload) {
+        this.payload = payload;
+    }
+
+    public void release() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
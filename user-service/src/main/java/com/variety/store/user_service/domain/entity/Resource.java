@@ -9,12 +9,14 @@ import lombok.NoArgsConstructor;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"pattern", "http_method"}))
 public class Resource extends Tracking {
 
     @Id
@@ -24,10 +26,11 @@ public class Resource extends Tracking {
 
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(name = "pattern", nullable = false)
     private String pattern;  // 자원 경로(url)
 
-    private String httpMethod;
+    @Column(name = "http_method")
+    private String httpMethod;  // 비어 있으면 모든 HTTP 메서드에 적용
     private String description;
     private Long priority;
 
@@ -50,6 +53,11 @@ public class Resource extends Tracking {
         resourceRoles.add(new ResourceRole(this, role));
     }
 
+    // 허용 역할에서 제외. (역할 삭제 시 사용)
+    public void removeRole(Role role) {
+        resourceRoles.removeIf(resourceRole -> Objects.equals(resourceRole.getRole().getId(), role.getId()));
+    }
+
     public void update(String name, String pattern, String httpMethod, String description, Long priority, Set<Role> newRoles) {
 
         // 기본 정보 수정.
@@ -0,0 +1,20 @@
+package com.variety.store.user_service.domain.event;
+
+import com.variety.store.user_service.domain.entity.KeycloakOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Keycloak 동기화 작업이 아웃박스에 기록되었음을 알리는 이벤트.
+ * 커밋 이후 릴레이를 바로 깨우는 용도이며, 이벤트가 유실되어도 주기적 조회로 처리된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeycloakOutboxEnqueuedEvent {
+
+    private final Long outboxId;
+    private final KeycloakOutbox.Operation operation;
+    private final String aggregateKey;
+}
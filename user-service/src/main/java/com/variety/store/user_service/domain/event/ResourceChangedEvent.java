@@ -0,0 +1,57 @@
+package com.variety.store.user_service.domain.event;
+
+import com.variety.store.user_service.domain.entity.Resource;
+import com.variety.store.user_service.domain.entity.ResourceRole;
+import com.variety.store.user_service.domain.entity.Role;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리소스(자원) 변경 이벤트.
+ * 트랜잭션 안에서 변경 시점의 리소스 정보를 담아 발행되며, 커밋 이후 인가 매핑에 증분 반영된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long resourceId;
+    private final String pattern;
+    private final String httpMethod;
+    private final Long priority;
+    private final Set<String> roleNames;
+
+    public static ResourceChangedEvent created(Resource resource) {
+        return of(Type.CREATED, resource);
+    }
+
+    public static ResourceChangedEvent updated(Resource resource) {
+        return of(Type.UPDATED, resource);
+    }
+
+    public static ResourceChangedEvent deleted(Resource resource) {
+        return new ResourceChangedEvent(Type.DELETED, resource.getId(), resource.getPattern(),
+                resource.getHttpMethod(), resource.getPriority(), Set.of());
+    }
+
+    private static ResourceChangedEvent of(Type type, Resource resource) {
+        Set<String> roleNames = resource.getResourceRoles() == null ? Set.of() : resource.getResourceRoles().stream()
+                .map(ResourceRole::getRole)
+                .filter(Objects::nonNull)
+                .map(Role::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new ResourceChangedEvent(type, resource.getId(), resource.getPattern(),
+                resource.getHttpMethod(), resource.getPriority(), roleNames);
+    }
+}
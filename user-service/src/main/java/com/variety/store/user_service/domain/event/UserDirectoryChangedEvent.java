@@ -0,0 +1,19 @@
+package com.variety.store.user_service.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자 목록 검색 결과(개수)에 영향을 주는 사용자/역할 변경 이벤트.
+ * 커밋 이후 사용자 수 캐시(UserCountCache)를 비우는 용도이다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserDirectoryChangedEvent {
+
+    public enum Type { USER_CREATED, USER_DELETED, USER_ROLES_UPDATED, ROLE_UPDATED, ROLE_DELETED }
+
+    private final Type type;
+}
@@ -0,0 +1,26 @@
+package com.variety.store.user_service.repository;
+
+import com.variety.store.user_service.domain.entity.AuthorizationChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuthorizationChangeRepository extends JpaRepository<AuthorizationChange, Long> {
+
+    List<AuthorizationChange> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("select coalesce(max(c.id), 0) from AuthorizationChange c")
+    Long findMaxId();
+
+    // 보관 기간이 지난 이력 중 가장 큰 id. (정리 기준)
+    @Query("select coalesce(max(c.id), 0) from AuthorizationChange c where c.createdDate < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from AuthorizationChange c where c.id <= :id")
+    int deleteUpTo(@Param("id") Long id);
+}
@@ -0,0 +1,18 @@
+package com.variety.store.user_service.repository;
+
+import com.variety.store.user_service.domain.entity.AuthorizationChangeWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuthorizationChangeWatermarkRepository extends JpaRepository<AuthorizationChangeWatermark, Long> {
+
+    @Query("select coalesce(max(w.prunedChangeId), 0) from AuthorizationChangeWatermark w")
+    Long findPrunedChangeId();
+
+    // 조건부 갱신으로 앞으로만 이동. 다른 인스턴스가 더 큰 값으로 먼저 옮겼으면 갱신되지 않는다.
+    @Modifying
+    @Query("update AuthorizationChangeWatermark w set w.prunedChangeId = :changeId where w.prunedChangeId < :changeId")
+    int advance(@Param("changeId") Long changeId);
+}
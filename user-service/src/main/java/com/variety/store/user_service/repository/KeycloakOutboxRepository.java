@@ -0,0 +1,45 @@
+package com.variety.store.user_service.repository;
+
+import com.variety.store.user_service.domain.entity.KeycloakOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface KeycloakOutboxRepository extends JpaRepository<KeycloakOutbox, Long> {
+
+    // 처리 가능한(재시도 시각이 지났고, 다른 릴레이가 점유하지 않은) 작업 id 를 순서대로 조회.
+    @Query("select o.id from KeycloakOutbox o" +
+            " where o.status = com.variety.store.user_service.domain.entity.KeycloakOutbox.Status.PENDING" +
+            " and o.nextAttemptAt <= :now and (o.claimedUntil is null or o.claimedUntil < :now)" +
+            " order by o.id asc")
+    List<Long> findRelayableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 갱신으로 점유. 다른 인스턴스가 먼저 점유한 작업은 갱신되지 않는다.
+    @Modifying
+    @Query("update KeycloakOutbox o set o.claimedBy = :owner, o.claimedUntil = :until" +
+            " where o.id in :ids" +
+            " and o.status = com.variety.store.user_service.domain.entity.KeycloakOutbox.Status.PENDING" +
+            " and (o.claimedUntil is null or o.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    List<KeycloakOutbox> findByClaimedByOrderByIdAsc(String claimedBy);
+
+    // 같은 대상의 앞선 작업이 아직 남아 있는지 확인. (순서 보장)
+    boolean existsByAggregateTypeAndAggregateKeyAndStatusAndIdLessThan(
+            KeycloakOutbox.AggregateType aggregateType, String aggregateKey, KeycloakOutbox.Status status, Long id);
+
+    long countByStatus(KeycloakOutbox.Status status);
+
+    @Modifying
+    @Query("delete from KeycloakOutbox o" +
+            " where o.status = com.variety.store.user_service.domain.entity.KeycloakOutbox.Status.DONE" +
+            " and o.processedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
@@ -2,7 +2,23 @@ package com.variety.store.user_service.repository;
 
 import com.variety.store.user_service.domain.entity.Resource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
 
+    // 리소스와 허용 역할을 한 번의 fetch join 쿼리로 조회. (리소스별 지연 로딩 방지)
+    @Query("select distinct r from Resource r left join fetch r.resourceRoles rr left join fetch rr.role")
+    List<Resource> findAllWithRoles();
+
+    @Query("select distinct r from Resource r left join fetch r.resourceRoles rr left join fetch rr.role where r.id in :ids")
+    List<Resource> findAllWithRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 해당 역할을 허용 역할로 가진 리소스를 모든 허용 역할과 함께 조회. (역할 이름 변경/삭제를 인가 매핑에 반영)
+    @Query("select distinct r from Resource r left join fetch r.resourceRoles rr left join fetch rr.role" +
+            " where exists (select 1 from ResourceRole target where target.resource = r and target.role.id = :roleId)")
+    List<Resource> findAllWithRolesByRoleId(@Param("roleId") Long roleId);
 }
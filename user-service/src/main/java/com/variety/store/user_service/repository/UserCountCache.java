@@ -0,0 +1,120 @@
+package com.variety.store.user_service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.domain.event.UserDirectoryChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 목록 검색의 전체 개수 캐시. (JPA, R2DBC 검색 공용)
+ *
+ * - 검색 조건을 정규화(username 소문자, roleNames 정렬/중복 제거)하여 같은 조건이면 같은 개수를 사용한다.
+ * - 조건이 없는 전체 목록은 count 대신 DB 통계의 추정 행 수를 사용한다.
+ * - 사용자/역할 변경이 커밋되면 전체를 비운다. 비우기 직전에 시작한 count 결과가 남을 수 있으나 timeToLive 이내로 제한된다.
+ * - UserSearch.count 가 EXACT 이면 항상 다시 계산하고 캐시를 갱신한다.
+ */
+@Slf4j
+@Component
+public class UserCountCache {
+
+    public static final String CACHE_NAME = "user-search.count";
+
+    // H2 테이블 통계의 추정 행 수
+    public static final String ROW_COUNT_ESTIMATE_SQL = "select row_count_estimate from information_schema.tables"
+            + " where table_schema = current_schema and table_name = 'USERS'";
+
+    private final Cache<Key, Long> cache;
+    private final UserCountCacheProperties properties;
+
+    public UserCountCache(UserCountCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long count(UserSearch userSearch, LongSupplier exactCount, Supplier<Long> estimate) {
+        Key key = Key.of(userSearch);
+        if (useCache(userSearch)) {
+            Long cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+            if (useEstimate(key)) {
+                Long estimated = estimate.get();
+                if (estimated != null && estimated >= 0) {
+                    cache.put(key, estimated);
+                    return estimated;
+                }
+            }
+        }
+        long exact = exactCount.getAsLong();
+        cache.put(key, exact);
+        return exact;
+    }
+
+    public Mono<Long> count(UserSearch userSearch, Mono<Long> exactCount, Mono<Long> estimate) {
+        Key key = Key.of(userSearch);
+        Mono<Long> exact = exactCount.doOnNext(total -> cache.put(key, total));
+        if (!useCache(userSearch)) {
+            return exact;
+        }
+
+        Mono<Long> uncached = useEstimate(key)
+                ? estimate.filter(estimated -> estimated >= 0).doOnNext(estimated -> cache.put(key, estimated)).switchIfEmpty(exact)
+                : exact;
+        return Mono.defer(() -> Mono.justOrEmpty(cache.getIfPresent(key))).switchIfEmpty(uncached);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDirectoryChanged(UserDirectoryChangedEvent event) {
+        log.debug("Invalidating user search counts: {}", event);
+        cache.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private boolean useCache(UserSearch userSearch) {
+        return properties.isEnabled() && userSearch.getCount() != UserSearch.CountMode.EXACT;
+    }
+
+    private boolean useEstimate(Key key) {
+        return properties.isApproximateUnfiltered() && key.unfiltered();
+    }
+
+    // 정규화한 검색 조건
+    record Key(String username, List<String> roleNames) {
+
+        static Key of(UserSearch userSearch) {
+            String username = StringUtils.hasLength(userSearch.getUsername())
+                    ? userSearch.getUsername().toLowerCase(Locale.ROOT) : null;
+            List<String> roleNames = CollectionUtils.isEmpty(userSearch.getRoleNames()) ? List.of()
+                    : userSearch.getRoleNames().stream().distinct().sorted().toList();
+            return new Key(username, roleNames);
+        }
+
+        boolean unfiltered() {
+            return username == null && roleNames.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.variety.store.user_service.repository;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 목록 검색의 전체 개수 캐시 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-search.count-cache")
+public class UserCountCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시에 보관할 최대 검색 조건 수
+    private long maximumSize = 1_000;
+
+    // 개수 보관 시간. 사용자/역할 변경 시에는 즉시 비워지며, 이 시간은 다른 인스턴스의 변경이 반영되는 최대 지연이다.
+    private Duration timeToLive = Duration.ofMinutes(1);
+
+    // 검색 조건이 없는 전체 목록은 DB 통계의 추정 행 수를 사용한다.
+    private boolean approximateUnfiltered = true;
+}
@@ -2,12 +2,34 @@ package com.variety.store.user_service.repository;
 
 import com.variety.store.user_service.domain.entity.User;
 import com.variety.store.user_service.repository.custom.UserRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
+
+    // Keycloak 정합성 점검용: 소문자 username 순서로 after(소문자) 다음 사용자 조회. (keyset 페이지, 필요한 컬럼만 조회)
+    // Keycloak 은 소문자 이름순으로 반환하므로 같은 순서로 읽는다.
+    @Query("select u.username as username, u.email as email, u.password as password, u.isDeleted as deleted" +
+            " from User u where lower(u.username) > :after order by lower(u.username) asc")
+    List<SyncView> findSyncViewsAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("select u.username as username, u.email as email, u.password as password, u.isDeleted as deleted" +
+            " from User u where u.username in :usernames")
+    List<SyncView> findSyncViewsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    interface SyncView {
+        String getUsername();
+        String getEmail();
+        String getPassword();
+        boolean isDeleted();
+    }
 }
@@ -1,12 +1,19 @@
 package com.variety.store.user_service.repository.custom;
 
-import com.variety.store.user_service.domain.dto.request.UserRequest;
+import com.variety.store.user_service.domain.dto.response.CursorPage;
 import com.variety.store.user_service.domain.dto.response.UserResponse;
 import com.variety.store.user_service.domain.dto.search.UserSearch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface UserRepositoryCustom {
 
     public Page<UserResponse> searchUserList(UserSearch userSearch, Pageable pageable);
+
+    // 전체 개수 없이 다음 페이지 존재 여부만 조회.
+    public Slice<UserResponse> searchUserSlice(UserSearch userSearch, Pageable pageable);
+
+    // keyset 페이지 조회. cursor 가 null 이면 첫 페이지.
+    public CursorPage<UserResponse> scrollUserList(UserSearch userSearch, String cursor, int size);
 }
@@ -1,30 +1,41 @@
 package com.variety.store.user_service.repository.custom;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLTemplates;
 import com.querydsl.jpa.impl.JPAQuery;
-import com.variety.store.user_service.domain.dto.request.UserRequest;
+import com.variety.store.user_service.domain.dto.response.CursorPage;
 import com.variety.store.user_service.domain.dto.response.UserResponse;
+import com.variety.store.user_service.domain.dto.search.UserCursor;
 import com.variety.store.user_service.domain.dto.search.UserSearch;
 import com.variety.store.user_service.domain.entity.*;
+import com.variety.store.user_service.repository.UserCountCache;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.variety.store.user_service.utility.mapper.UserMapper;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final UserCountCache countCache;
 
-    public UserRepositoryCustomImpl(EntityManager em) {
+    public UserRepositoryCustomImpl(EntityManager em, UserCountCache countCache) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, em);
+        this.countCache = countCache;
     }
 
     QUser user = QUser.user;
@@ -34,33 +45,132 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
     // 검색 조건과 페이징이 가능한 회원 목록 조회.
     public Page<UserResponse> searchUserList(UserSearch userSearch, Pageable pageable) {
 
-        // 유저 목록을 조회하면서 Role과 Address 정보까지 한 번에 가져옴.
-        List<User> results = queryFactory
-                .selectFrom(user)
-                .leftJoin(user.userRoles, userRole).fetchJoin()
-                .leftJoin(userRole.role, role).fetchJoin()
+        // 1단계: 조건에 맞는 사용자 ID 만 페이지 크기만큼 조회. (컬렉션 fetch join 이 없으므로 limit 이 DB 에서 적용된다)
+        List<Long> ids = findIds(userSearch, pageable.getOffset(), pageable.getPageSize());
+
+        // 2단계: 해당 ID 의 사용자와 Role 정보를 한 번에 가져옴.
+        List<UserResponse> content = fetchUsersWithRoles(ids);
+
+        // 전체 개수 조회. (역할 조건은 exists 서브쿼리이므로 join 없이 사용자만 센다. 같은 조건의 개수는 캐시에서 재사용)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(user.count())
+                .from(user)
                 .where(
                         usernameEq(userSearch.getUsername()),
                         roleNameIn(userSearch.getRoleNames())
+                );
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.count(userSearch, countQuery::fetchOne, this::estimateUserCount));
+    }
+
+    // 전체 개수 없이 다음 페이지 존재 여부만 필요한 목록 조회. (한 건 더 읽어 확인)
+    public Slice<UserResponse> searchUserSlice(UserSearch userSearch, Pageable pageable) {
+        List<Long> ids = findIds(userSearch, pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<UserResponse> content = fetchUsersWithRoles(hasNext ? ids.subList(0, pageable.getPageSize()) : ids);
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // 검색 조건과 keyset 페이징이 가능한 회원 목록 조회. 페이지 깊이와 관계없이 (정렬 키, user_id) 인덱스 범위만 읽는다.
+    public CursorPage<UserResponse> scrollUserList(UserSearch userSearch, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        UserSearch.SortKey sortKey = userSearch.getSort() != null ? userSearch.getSort() : UserSearch.SortKey.ID;
+        UserCursor after = cursor != null ? UserCursor.decode(cursor, sortKey) : null;
+
+        // 1단계: 커서 다음의 사용자 ID 를 (size + 1) 개 조회. 하나 더 읽어 다음 페이지 존재 여부를 확인한다.
+        List<Tuple> keys = queryFactory
+                .select(user.id, user.username)
+                .from(user)
+                .where(
+                        usernameEq(userSearch.getUsername()),
+                        roleNameIn(userSearch.getRoleNames()),
+                        after(sortKey, after)
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
+                .orderBy(orderBy(sortKey))
+                .limit(size + 1L)
                 .fetch();
 
-        List<UserResponse> content = results.stream().map(UserMapper::convertToResponse).toList();
+        boolean hasNext = keys.size() > size;
+        List<Tuple> page = hasNext ? keys.subList(0, size) : keys;
 
-        // 전체 개수 조회
-        JPAQuery<Long> countQuery = queryFactory
-                .select(user.countDistinct())
+        // 2단계: 해당 ID 의 사용자와 Role 정보를 한 번에 가져옴.
+        List<UserResponse> content = fetchUsersWithRoles(page.stream().map(key -> key.get(user.id)).toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = new UserCursor(sortKey, last.get(user.username), last.get(user.id)).encode();
+        }
+
+        return CursorPage.<UserResponse>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<Long> findIds(UserSearch userSearch, long offset, int limit) {
+        return queryFactory
+                .select(user.id)
                 .from(user)
-                .leftJoin(user.userRoles, userRole).fetchJoin()
                 .where(
                         usernameEq(userSearch.getUsername()),
                         roleNameIn(userSearch.getRoleNames())
-                );
+                )
+                .orderBy(user.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    private Long estimateUserCount() {
+        Object estimate = em.createNativeQuery(UserCountCache.ROW_COUNT_ESTIMATE_SQL).getSingleResult();
+        return estimate instanceof Number number ? number.longValue() : null;
+    }
+
+    // ID 목록 순서대로 사용자와 Role 정보 조회.
+    private List<UserResponse> fetchUsersWithRoles(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserResponse> usersById = queryFactory
+                .selectFrom(user)
+                .leftJoin(user.userRoles, userRole).fetchJoin()
+                .leftJoin(userRole.role, role).fetchJoin()
+                .where(user.id.in(ids))
+                .distinct()
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(User::getId, UserMapper::convertToResponse));
+
+        return ids.stream().map(usersById::get).filter(Objects::nonNull).toList();
+    }
+
+    private BooleanExpression after(UserSearch.SortKey sortKey, UserCursor cursor) {
+        // username 정렬은 unique 인덱스를 그대로 사용하며, username 이 없는 사용자는 포함하지 않는다.
+        BooleanExpression sortable = sortKey == UserSearch.SortKey.USERNAME ? user.username.isNotNull() : null;
+        if (cursor == null) {
+            return sortable;
+        }
+        return switch (sortKey) {
+            case ID -> user.id.gt(cursor.id());
+            case USERNAME -> user.username.gt(cursor.value())
+                    .or(user.username.eq(cursor.value()).and(user.id.gt(cursor.id())));
+        };
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private OrderSpecifier<?>[] orderBy(UserSearch.SortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> new OrderSpecifier<?>[]{user.id.asc()};
+            case USERNAME -> new OrderSpecifier<?>[]{user.username.asc(), user.id.asc()};
+        };
     }
 
     private BooleanExpression usernameEq(String username) {
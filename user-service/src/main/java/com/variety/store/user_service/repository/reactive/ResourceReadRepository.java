@@ -0,0 +1,66 @@
+package com.variety.store.user_service.repository.reactive;
+
+import com.variety.store.user_service.domain.dto.response.ResourceResponse;
+import com.variety.store.user_service.domain.dto.response.RoleResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리소스 조회 전용 R2DBC 저장소. (쓰기와 인가 매핑 적재는 JPA ResourceRepository)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResourceReadRepository {
+
+    private static final String RESOURCE_COLUMNS = "resource_id, name, pattern, http_method, description, priority";
+
+    private final DatabaseClient databaseClient;
+    private final RoleReadRepository roleReadRepository;
+
+    public Flux<ResourceResponse> findAll() {
+        return databaseClient.sql("select " + RESOURCE_COLUMNS + " from resource order by resource_id")
+                .map(ResourceReadRepository::toResourceResponse)
+                .all()
+                .collectList()
+                .flatMapMany(resources -> withRoles(resources).flatMapIterable(list -> list));
+    }
+
+    public Mono<ResourceResponse> findById(Long resourceId) {
+        return databaseClient.sql("select " + RESOURCE_COLUMNS + " from resource where resource_id = :resourceId")
+                .bind("resourceId", resourceId)
+                .map(ResourceReadRepository::toResourceResponse)
+                .one()
+                .flatMap(resource -> withRoles(List.of(resource)).map(resources -> resources.get(0)));
+    }
+
+    private Mono<List<ResourceResponse>> withRoles(List<ResourceResponse> resources) {
+        Map<Long, ResourceResponse> byId = new LinkedHashMap<>();
+        resources.forEach(resource -> byId.put(resource.getId(), resource));
+
+        return roleReadRepository.findRolesByOwnerIds("resource_role", "resource_id", byId.keySet())
+                .map(rolesByResourceId -> {
+                    byId.forEach((id, resource) -> resource.setRoles(rolesByResourceId.getOrDefault(id, Set.<RoleResponse>of())));
+                    return resources;
+                });
+    }
+
+    private static ResourceResponse toResourceResponse(Readable row) {
+        return ResourceResponse.builder()
+                .id(row.get("resource_id", Long.class))
+                .name(row.get("name", String.class))
+                .pattern(row.get("pattern", String.class))
+                .httpMethod(row.get("http_method", String.class))
+                .description(row.get("description", String.class))
+                .priority(row.get("priority", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.variety.store.user_service.repository.reactive;
+
+import com.variety.store.user_service.domain.dto.request.RoleRequest;
+import com.variety.store.user_service.domain.dto.response.RoleResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 역할 조회 전용 R2DBC 저장소. (쓰기는 JPA RoleRepository)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoleReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<RoleRequest> findAll() {
+        return databaseClient.sql("select role_id, name, description from role order by role_id")
+                .map(RoleReadRepository::toRoleRequest)
+                .all();
+    }
+
+    public Mono<RoleRequest> findById(Long roleId) {
+        return databaseClient.sql("select role_id, name, description from role where role_id = :roleId")
+                .bind("roleId", roleId)
+                .map(RoleReadRepository::toRoleRequest)
+                .one();
+    }
+
+    /**
+     * 연결 테이블(user_role, resource_role)을 통해 owner 별 역할 조회. 역할이 없는 owner 는 결과에 포함되지 않는다.
+     */
+    Mono<Map<Long, Set<RoleResponse>>> findRolesByOwnerIds(String joinTable, String ownerColumn, Collection<Long> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        // joinTable, ownerColumn 은 이 패키지의 상수만 전달된다.
+        String sql = "select j." + ownerColumn + " as owner_id, r.role_id, r.name, r.description"
+                + " from " + joinTable + " j join role r on r.role_id = j.role_id"
+                + " where j." + ownerColumn + " in (:ownerIds)";
+
+        return databaseClient.sql(sql)
+                .bind("ownerIds", List.copyOf(ownerIds))
+                .map(row -> Map.entry(row.get("owner_id", Long.class), toRoleResponse(row)))
+                .all()
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toSet())));
+    }
+
+    static RoleResponse toRoleResponse(Readable row) {
+        return RoleResponse.builder()
+                .id(row.get("role_id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .build();
+    }
+
+    private static RoleRequest toRoleRequest(Readable row) {
+        return RoleRequest.builder()
+                .id(row.get("role_id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .build();
+    }
+}
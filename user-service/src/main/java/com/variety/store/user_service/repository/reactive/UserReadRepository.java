@@ -0,0 +1,231 @@
+package com.variety.store.user_service.repository.reactive;
+
+import com.variety.store.user_service.domain.dto.response.AddressResponse;
+import com.variety.store.user_service.domain.dto.response.CursorPage;
+import com.variety.store.user_service.domain.dto.response.RoleResponse;
+import com.variety.store.user_service.domain.dto.response.UserResponse;
+import com.variety.store.user_service.domain.dto.search.UserCursor;
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.repository.UserCountCache;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 조회 전용 R2DBC 저장소. (쓰기는 JPA UserRepository)
+ *
+ * JPA 의 fetch join 대신, 사용자를 먼저 조회한 뒤 해당 사용자들의 역할을 한 번에 조회해 합친다.
+ * 검색 조건과 결과는 UserRepositoryCustomImpl.searchUserList() 와 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserReadRepository {
+
+    private static final String USER_COLUMNS = "u.user_id, u.username, u.first_name, u.last_name, u.email, u.phone_number,"
+            + " u.state, u.city, u.area, u.street, u.building_number, u.apartment, u.zip_code";
+
+    private final DatabaseClient databaseClient;
+    private final RoleReadRepository roleReadRepository;
+    private final UserCountCache countCache;
+
+    public Mono<UserResponse> findById(Long userId) {
+        return databaseClient.sql("select " + USER_COLUMNS + " from users u where u.user_id = :userId")
+                .bind("userId", userId)
+                .map(UserReadRepository::toUserResponse)
+                .one()
+                .flatMap(user -> withRoles(List.of(user)).map(users -> users.get(0)));
+    }
+
+    // 검색 조건과 페이징이 가능한 회원 목록 조회.
+    public Mono<Page<UserResponse>> searchUserList(UserSearch userSearch, Pageable pageable) {
+        Condition condition = Condition.of(userSearch);
+
+        return findUsers(condition, pageable.getOffset(), pageable.getPageSize()).flatMap(users -> {
+            // 첫 페이지가 다 차지 않았거나 마지막 페이지이면 전체 개수를 조회하지 않는다. (PageableExecutionUtils 와 같은 규칙)
+            if (pageable.getOffset() == 0 && users.size() < pageable.getPageSize()) {
+                return Mono.just(new PageImpl<>(users, pageable, users.size()));
+            }
+            if (!users.isEmpty() && users.size() < pageable.getPageSize()) {
+                return Mono.just(new PageImpl<>(users, pageable, pageable.getOffset() + users.size()));
+            }
+
+            // 같은 조건의 개수는 캐시에서 재사용한다.
+            Mono<Long> exactCount = condition.bindTo(databaseClient.sql("select count(*) as total from users u" + condition.where()))
+                    .map(row -> row.get("total", Long.class))
+                    .one();
+            // 추정치를 얻지 못하면 정확한 개수를 사용한다.
+            Mono<Long> estimate = databaseClient.sql(UserCountCache.ROW_COUNT_ESTIMATE_SQL)
+                    .map(row -> Optional.ofNullable(row.get(0, Long.class)))
+                    .one()
+                    .flatMap(Mono::justOrEmpty)
+                    .onErrorResume(e -> Mono.empty());
+
+            return countCache.count(userSearch, exactCount, estimate)
+                    .map(total -> new PageImpl<>(users, pageable, total));
+        });
+    }
+
+    // 전체 개수 없이 다음 페이지 존재 여부만 필요한 목록 조회. (한 건 더 읽어 확인)
+    public Mono<Slice<UserResponse>> searchUserSlice(UserSearch userSearch, Pageable pageable) {
+        return findUsers(Condition.of(userSearch), pageable.getOffset(), pageable.getPageSize() + 1)
+                .map(users -> {
+                    boolean hasNext = users.size() > pageable.getPageSize();
+                    return new SliceImpl<>(hasNext ? users.subList(0, pageable.getPageSize()) : users, pageable, hasNext);
+                });
+    }
+
+    private Mono<List<UserResponse>> findUsers(Condition condition, long offset, int limit) {
+        return condition.bindTo(databaseClient.sql("select " + USER_COLUMNS
+                        + " from users u" + condition.where() + " order by u.user_id limit :limit offset :offset"))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(UserReadRepository::toUserResponse)
+                .all()
+                .collectList()
+                .flatMap(this::withRoles);
+    }
+
+    // 검색 조건과 keyset 페이징이 가능한 회원 목록 조회. (UserRepositoryCustomImpl.scrollUserList() 와 같은 커서를 사용)
+    public Mono<CursorPage<UserResponse>> scrollUserList(UserSearch userSearch, String cursor, int size) {
+        return Mono.defer(() -> {
+            if (size < 1) {
+                throw new IllegalArgumentException("size must be positive: " + size);
+            }
+            UserSearch.SortKey sortKey = userSearch.getSort() != null ? userSearch.getSort() : UserSearch.SortKey.ID;
+            UserCursor after = cursor != null ? UserCursor.decode(cursor, sortKey) : null;
+            Condition condition = Condition.of(userSearch).after(sortKey, after);
+            String orderBy = sortKey == UserSearch.SortKey.USERNAME ? " order by u.username, u.user_id" : " order by u.user_id";
+
+            // 하나 더 읽어 다음 페이지 존재 여부를 확인한다.
+            return condition.bindTo(databaseClient.sql("select " + USER_COLUMNS + " from users u" + condition.where()
+                            + orderBy + " limit :limit"))
+                    .bind("limit", size + 1)
+                    .map(UserReadRepository::toUserResponse)
+                    .all()
+                    .collectList()
+                    .flatMap(users -> {
+                        boolean hasNext = users.size() > size;
+                        List<UserResponse> page = hasNext ? users.subList(0, size) : users;
+                        UserResponse last = hasNext ? page.get(page.size() - 1) : null;
+
+                        return withRoles(page).map(content -> CursorPage.<UserResponse>builder()
+                                .content(content)
+                                .size(size)
+                                .hasNext(hasNext)
+                                .nextCursor(last != null ? new UserCursor(sortKey, last.getUsername(), last.getId()).encode() : null)
+                                .build());
+                    });
+        });
+    }
+
+    private Mono<List<UserResponse>> withRoles(List<UserResponse> users) {
+        Map<Long, UserResponse> byId = new LinkedHashMap<>();
+        users.forEach(user -> byId.put(user.getId(), user));
+
+        return roleReadRepository.findRolesByOwnerIds("user_role", "user_id", byId.keySet())
+                .map(rolesByUserId -> {
+                    byId.forEach((id, user) -> user.setRoles(rolesByUserId.getOrDefault(id, Set.<RoleResponse>of())));
+                    return users;
+                });
+    }
+
+    private static UserResponse toUserResponse(Readable row) {
+        return UserResponse.builder()
+                .id(row.get("user_id", Long.class))
+                .username(row.get("username", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .address(toAddressResponse(row))
+                .build();
+    }
+
+    // 주소 컬럼이 모두 비어 있으면 JPA(@Embedded)와 같이 null.
+    private static AddressResponse toAddressResponse(Readable row) {
+        AddressResponse address = AddressResponse.builder()
+                .state(row.get("state", String.class))
+                .city(row.get("city", String.class))
+                .area(row.get("area", String.class))
+                .street(row.get("street", String.class))
+                .buildingNumber(row.get("building_number", String.class))
+                .apartment(row.get("apartment", String.class))
+                .zipCode(row.get("zip_code", String.class))
+                .build();
+
+        boolean empty = Stream.of(address.getState(), address.getCity(), address.getArea(), address.getStreet(),
+                address.getBuildingNumber(), address.getApartment(), address.getZipCode()).allMatch(value -> value == null);
+        return empty ? null : address;
+    }
+
+    // 검색 조건 (where 절과 바인딩 값)
+    private record Condition(List<String> predicates, Map<String, Object> bindings) {
+
+        static Condition of(UserSearch userSearch) {
+            List<String> predicates = new ArrayList<>();
+            Map<String, Object> bindings = new LinkedHashMap<>();
+
+            if (StringUtils.hasLength(userSearch.getUsername())) {
+                predicates.add("lower(u.username) like :username escape '\\'");
+                bindings.put("username", "%" + escapeLike(userSearch.getUsername().toLowerCase()) + "%");
+            }
+            if (!CollectionUtils.isEmpty(userSearch.getRoleNames())) {
+                predicates.add("exists (select 1 from user_role ur join role r on r.role_id = ur.role_id"
+                        + " where ur.user_id = u.user_id and r.name in (:roleNames))");
+                bindings.put("roleNames", List.copyOf(userSearch.getRoleNames()));
+            }
+            return new Condition(predicates, bindings);
+        }
+
+        // keyset 조건. username 정렬은 username 이 없는 사용자를 포함하지 않는다.
+        Condition after(UserSearch.SortKey sortKey, UserCursor cursor) {
+            if (sortKey == UserSearch.SortKey.USERNAME) {
+                predicates.add("u.username is not null");
+            }
+            if (cursor == null) {
+                return this;
+            }
+            switch (sortKey) {
+                case ID -> predicates.add("u.user_id > :afterId");
+                case USERNAME -> {
+                    predicates.add("(u.username > :afterValue or (u.username = :afterValue and u.user_id > :afterId))");
+                    bindings.put("afterValue", cursor.value());
+                }
+            }
+            bindings.put("afterId", cursor.id());
+            return this;
+        }
+
+        String where() {
+            return predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+        }
+
+        DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+                spec = spec.bind(binding.getKey(), binding.getValue());
+            }
+            return spec;
+        }
+
+        private static String escapeLike(String value) {
+            return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.variety.store.user_service.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인가 결정 캐시 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "authorization.decision-cache")
+public class AuthorizationCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시에 보관할 최대 결정 수
+    private long maximumSize = 10_000;
+
+    // 결정이 캐시에 머무를 수 있는 최대 시간
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
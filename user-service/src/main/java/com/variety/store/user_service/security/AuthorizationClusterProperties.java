@@ -0,0 +1,34 @@
+package com.variety.store.user_service.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 인가 매핑 변경 전파 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "authorization.cluster")
+public class AuthorizationClusterProperties {
+
+    // 변경 시 다른 인스턴스에 즉시 알림(push) 여부. 꺼져 있어도 주기적 조회(poll)로 따라잡는다.
+    private boolean notifyPeers = true;
+
+    // 인스턴스 간 알림에 사용하는 공유 비밀 값. 설정하지 않으면 알림을 보내지도 받지도 않는다. (poll 로만 동기화)
+    private String sharedSecret;
+
+    // 변경 이력 조회 주기
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    // 알림 요청 타임아웃
+    private Duration notifyTimeout = Duration.ofSeconds(1);
+
+    // 건너뛴 이력 id 를 다시 조회하는 최대 시간 (늦게 커밋되는 트랜잭션 대비)
+    private Duration gapTimeout = Duration.ofMinutes(1);
+
+    // 변경 이력 보관 기간
+    private Duration retention = Duration.ofDays(1);
+}
@@ -0,0 +1,188 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.domain.entity.AuthorizationChange;
+import com.variety.store.user_service.domain.entity.AuthorizationChangeWatermark;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
+import com.variety.store.user_service.repository.AuthorizationChangeRepository;
+import com.variety.store.user_service.repository.AuthorizationChangeWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인스턴스 간 인가 매핑 변경 전파.
+ *
+ * - 기록: 리소스 변경과 같은 트랜잭션에서 변경 이력(AuthorizationChange)을 저장.
+ * - push: 커밋 이후 Eureka 에 등록된 같은 서비스의 다른 인스턴스에 변경 이력 id 를 알림. (공유 비밀 값을 헤더로 전달)
+ * - poll: 알림이 유실되더라도 주기적으로 변경 이력을 조회해 따라잡는다.
+ *
+ * 실제 반영은 AuthorizationMappingLoader.synchronize() 가 담당하며, 알림이 몰려도 동기화는 하나만 실행된다.
+ */
+@Slf4j
+@Component
+public class AuthorizationClusterSync {
+
+    static final String NOTIFY_PATH = "/internal/authorization/changes";
+    static final String SECRET_HEADER = "X-Authorization-Sync-Secret";
+
+    private final AuthorizationChangeRepository changeRepository;
+    private final AuthorizationChangeWatermarkRepository watermarkRepository;
+    private final AuthorizationMappingLoader mappingLoader;
+    private final AuthorizationClusterProperties properties;
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final WebClient webClient;
+    private final String serviceId;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    public AuthorizationClusterSync(AuthorizationChangeRepository changeRepository,
+                                    AuthorizationChangeWatermarkRepository watermarkRepository,
+                                    AuthorizationMappingLoader mappingLoader,
+                                    AuthorizationClusterProperties properties,
+                                    DiscoveryClient discoveryClient,
+                                    ObjectProvider<Registration> registration,
+                                    WebClient.Builder webClientBuilder,
+                                    @Value("${spring.application.name}") String serviceId) {
+        this.changeRepository = changeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.mappingLoader = mappingLoader;
+        this.properties = properties;
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.webClient = webClientBuilder.build();
+        this.serviceId = serviceId;
+    }
+
+    // 리소스 변경과 같은 트랜잭션에서 변경 이력 기록. (롤백되면 이력도 남지 않는다)
+    @EventListener
+    public void recordChange(ResourceChangedEvent event) {
+        changeRepository.save(new AuthorizationChange(event.getResourceId(), event.getType()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (properties.isNotifyPeers() && StringUtils.hasText(properties.getSharedSecret())) {
+            notifyPeers();
+        }
+    }
+
+    // 다른 인스턴스가 보낸 알림인지 확인. (공유 비밀 값 비교, 비교 시간이 값에 따라 달라지지 않도록 MessageDigest.isEqual 사용)
+    public boolean isTrustedPeer(@Nullable String secret) {
+        String expected = properties.getSharedSecret();
+        if (!StringUtils.hasText(expected) || secret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 인스턴스의 알림 수신. 이미 반영한 이력이면 무시.
+    public void onPeerNotification(long changeId) {
+        if (changeId > mappingLoader.getAppliedChangeId()) {
+            requestSync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${authorization.cluster.poll-interval:5s}",
+            initialDelayString = "${authorization.cluster.poll-interval:5s}")
+    public void poll() {
+        requestSync();
+    }
+
+    @Scheduled(cron = "${authorization.cluster.prune-cron:0 0 * * * *}")
+    @Transactional
+    public void pruneChanges() {
+        pruneChangesBefore(LocalDateTime.now().minus(properties.getRetention()));
+    }
+
+    /**
+     * before 이전에 기록된 이력까지 정리하고, 정리한 마지막 id 를 워터마크로 남긴다. (같은 트랜잭션)
+     * 워터마크 이하의 id 는 모두 지우므로, 반영한 id 가 워터마크 이상인 인스턴스는 놓친 이력이 없다.
+     */
+    @Transactional
+    public int pruneChangesBefore(LocalDateTime before) {
+        long prunedChangeId = changeRepository.findMaxIdCreatedBefore(before);
+        if (prunedChangeId == 0) {
+            return 0;
+        }
+
+        if (watermarkRepository.advance(prunedChangeId) == 0 && !watermarkRepository.existsById(AuthorizationChangeWatermark.ID)) {
+            watermarkRepository.save(new AuthorizationChangeWatermark(prunedChangeId));
+        }
+        int deleted = changeRepository.deleteUpTo(prunedChangeId);
+        if (deleted > 0) {
+            log.info("Pruned {} authorization change records up to change {}", deleted, prunedChangeId);
+        }
+        return deleted;
+    }
+
+    // 동기화 요청. 실행 중이면 끝난 뒤 한 번 더 실행되도록 표시만 한다.
+    public void requestSync() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            Schedulers.boundedElastic().schedule(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                mappingLoader.synchronize();
+            }
+        }
+        catch (Exception e) {
+            log.warn("Failed to synchronize authorization mappings", e);
+        }
+        finally {
+            running.set(false);
+        }
+        if (requested.get()) {
+            requestSync();
+        }
+    }
+
+    private void notifyPeers() {
+        long changeId = changeRepository.findMaxId();
+        String selfId = registration.stream().map(Registration::getInstanceId).findFirst().orElse(null);
+
+        Flux.fromIterable(discoveryClient.getInstances(serviceId))
+                .filter(instance -> selfId == null || !Objects.equals(instance.getInstanceId(), selfId))
+                .flatMap(instance -> notifyPeer(instance, changeId))
+                .subscribe();
+    }
+
+    private Flux<Void> notifyPeer(ServiceInstance instance, long changeId) {
+        return webClient.post()
+                .uri(instance.getUri() + NOTIFY_PATH + "?changeId={changeId}", changeId)
+                .header(SECRET_HEADER, properties.getSharedSecret())
+                .retrieve()
+                .bodyToFlux(Void.class)
+                .timeout(properties.getNotifyTimeout())
+                .onErrorResume(e -> {
+                    // 알림 실패는 주기적 조회로 보완된다.
+                    log.debug("Failed to notify authorization change to {}: {}", instance.getUri(), e.toString());
+                    return Flux.empty();
+                });
+    }
+}
@@ -0,0 +1,115 @@
+package com.variety.store.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.variety.store.user_service.security.AuthorizationService.AuthorizationMapping;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (HTTP 메서드, 경로, 권한 집합) 단위의 인가 결정 캐시.
+ *
+ * 각 결정은 계산 당시의 매핑 스냅샷 버전과 함께 저장되며, 더 최신 버전이 관측되면 캐시 전체를 비운다.
+ * 따라서 리소스나 역할이 변경되면 다음 요청부터 바로 새로운 매핑으로 평가된다.
+ * 적중/미스/축출 지표는 "authorization.decision" 캐시 이름으로 Micrometer 에 등록된다.
+ */
+@Component
+public class AuthorizationDecisionCache {
+
+    public static final String CACHE_NAME = "authorization.decision";
+
+    private final boolean enabled;
+    private final Cache<DecisionKey, CachedDecision> cache;
+
+    // 캐시가 마지막으로 관측한 매핑 스냅샷 버전
+    private final AtomicLong observedVersion = new AtomicLong();
+
+    public AuthorizationDecisionCache(AuthorizationCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 캐시된 결정 조회. 캐시되지 않았거나 다른 버전에서 계산된 결정이면 null.
+    public CachedDecision get(DecisionKey key, long version) {
+        if (!enabled) {
+            return null;
+        }
+        invalidateIfStale(version);
+
+        CachedDecision cached = cache.getIfPresent(key);
+        if (cached == null || cached.version != version) {
+            return null;
+        }
+        return cached;
+    }
+
+    // mapping 은 결정에 사용된 매핑. 매칭되는 매핑이 없었던 경우 null.
+    public void put(DecisionKey key, long version, boolean granted, AuthorizationMapping mapping) {
+        if (!enabled) {
+            return;
+        }
+        invalidateIfStale(version);
+
+        // 평가 도중 매핑이 변경된 경우, 이전 버전의 결정은 저장하지 않는다.
+        if (version == observedVersion.get()) {
+            cache.put(key, new CachedDecision(version, granted, mapping));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidateIfStale(long version) {
+        long observed = observedVersion.get();
+        if (version > observed && observedVersion.compareAndSet(observed, version)) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class CachedDecision {
+
+        private final long version;
+        private final boolean granted;
+        private final AuthorizationMapping mapping;
+    }
+
+    /**
+     * 캐시 키. 권한 집합은 역할 마스크(RoleMask)로 정규화하여, 권한의 순서와 무관하게 같은 키가 된다.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class DecisionKey {
+
+        private final HttpMethod method;
+        private final String path;
+        private final RoleMask authorities;
+
+        public static DecisionKey of(HttpMethod method, String path, RoleMask authorities) {
+            return new DecisionKey(method, path, authorities);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.AuthorizationMetrics.Outcome;
+import com.variety.store.user_service.security.AuthorizationService.AuthorizationMapping;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 인가 결정 현황 조회 (/actuator/authorization).
+ *
+ * 결정 결과별 횟수와 함께 리소스별 적중 횟수를 우선순위 순서로 보여준다.
+ * 적중 횟수가 0 인 규칙은 사용되지 않는(dead) 규칙이거나, 더 높은 우선순위의 규칙에 가려진 규칙이다.
+ */
+@Component
+@Endpoint(id = "authorization")
+@RequiredArgsConstructor
+public class AuthorizationEndpoint {
+
+    private final AuthorizationService authorizationService;
+    private final AuthorizationDecisionCache decisionCache;
+    private final AuthorizationMetrics metrics;
+
+    @ReadOperation
+    public AuthorizationReport report() {
+        AuthorizationSnapshot snapshot = authorizationService.getSnapshot();
+        Map<Long, Long> hits = metrics.resourceHits();
+
+        List<RuleReport> rules = new ArrayList<>();
+        for (AuthorizationMapping mapping : snapshot.getMappings()) {
+            if (mapping.getResourceId() == null) {
+                continue;
+            }
+            rules.add(new RuleReport(mapping.getResourceId(),
+                    mapping.getHttpMethod() != null ? mapping.getHttpMethod().name() : "*",
+                    mapping.getPattern(), mapping.getPriority(), mapping.getRoles(),
+                    hits.getOrDefault(mapping.getResourceId(), 0L)));
+        }
+
+        Map<String, Long> outcomes = new LinkedHashMap<>();
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome.name().toLowerCase(Locale.ROOT), metrics.count(outcome));
+        }
+
+        long deadRules = rules.stream().filter(rule -> rule.getHits() == 0).count();
+        return new AuthorizationReport(snapshot.getVersion(), snapshot.getMappings().size(), decisionCache.size(),
+                outcomes, deadRules, rules);
+    }
+
+    // 리소스별 적중 횟수 초기화. (우선순위 조정 후 다시 측정할 때 사용)
+    @DeleteOperation
+    public void resetHits() {
+        metrics.resetResourceHits();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AuthorizationReport {
+
+        private final long version;
+        private final int mappingCount;
+        private final long cachedDecisions;
+        private final Map<String, Long> outcomes;
+        private final long deadRules;
+        private final List<RuleReport> rules;  // 우선순위 오름차순
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RuleReport {
+
+        private final Long resourceId;
+        private final String httpMethod;
+        private final String pattern;
+        private final Long priority;
+        private final Set<String> roles;
+        private final long hits;
+    }
+}
@@ -0,0 +1,218 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.domain.entity.AuthorizationChange;
+import com.variety.store.user_service.domain.entity.Resource;
+import com.variety.store.user_service.domain.entity.ResourceRole;
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
+import com.variety.store.user_service.repository.AuthorizationChangeRepository;
+import com.variety.store.user_service.repository.AuthorizationChangeWatermarkRepository;
+import com.variety.store.user_service.repository.ResourceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resource / ResourceRole / Role 테이블로부터 인가 매핑을 구성.
+ *
+ * - 시작 시: fetch join 쿼리 한 번으로 전체 리소스를 읽어 하나의 스냅샷으로 교체.
+ * - 이후: ResourceService 가 발행한 변경 이벤트를 커밋 이후에 해당 리소스 단위로만 반영.
+ * - 다른 인스턴스의 변경: 변경 이력(AuthorizationChange)에서 마지막으로 반영한 id 이후의 이력만 읽어,
+ *   변경된 리소스만 다시 조회해 반영(synchronize).
+ *
+ * 변경 이력의 id 는 커밋 순서와 다를 수 있으므로(먼저 채번한 트랜잭션이 늦게 커밋), 건너뛴 id 는 gap 으로 기억해 두고
+ * 일정 시간(gapTimeout) 동안 다시 조회한다. 롤백된 트랜잭션의 id 는 영원히 채워지지 않으므로 시간이 지나면 버린다.
+ * 보관 기간이 지나 정리된 이력을 놓쳤는지는 정리 워터마크(AuthorizationChangeWatermark)로 판단한다.
+ */
+@Slf4j
+@Component
+public class AuthorizationMappingLoader {
+
+    // 한 번에 추적하는 gap 의 최대 크기. 이보다 큰 id 점프는 이력 정리(retention) 등으로 보고 추적하지 않는다.
+    private static final int MAX_GAP_SPAN = 1_000;
+
+    private final ResourceRepository resourceRepository;
+    private final AuthorizationChangeRepository changeRepository;
+    private final AuthorizationChangeWatermarkRepository watermarkRepository;
+    private final AuthorizationService authorizationService;
+    private final Duration gapTimeout;
+    private final Timer loadTimer;
+    private final Timer syncTimer;
+
+    // 이 인스턴스가 반영한 마지막 변경 이력 id (클러스터 매핑 버전)
+    private final AtomicLong appliedChangeId = new AtomicLong();
+
+    // 아직 커밋되지 않았을 수 있는 이력 id -> 처음 발견한 시각(ms)
+    private final Map<Long, Long> pendingGaps = new HashMap<>();
+
+    public AuthorizationMappingLoader(ResourceRepository resourceRepository,
+                                      AuthorizationChangeRepository changeRepository,
+                                      AuthorizationChangeWatermarkRepository watermarkRepository,
+                                      AuthorizationService authorizationService,
+                                      AuthorizationClusterProperties clusterProperties,
+                                      MeterRegistry meterRegistry) {
+        this.resourceRepository = resourceRepository;
+        this.changeRepository = changeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.authorizationService = authorizationService;
+        this.gapTimeout = clusterProperties.getGapTimeout();
+        this.loadTimer = Timer.builder("authorization.mappings.load")
+                .description("Resource 테이블 전체로 인가 매핑을 구성하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.syncTimer = Timer.builder("authorization.mappings.sync")
+                .description("변경 이력으로 다른 인스턴스의 매핑 변경을 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadAll() {
+        long startedAt = System.nanoTime();
+        long usedHeapBefore = usedHeap();
+
+        // 리소스를 읽기 전에 이력 위치를 기록. 그 사이 커밋된 변경은 다음 동기화에서 다시 반영된다.
+        // 이력이 모두 정리되어 비어 있어도 워터마크보다 뒤에서 시작한다.
+        long changeId = Math.max(changeRepository.findMaxId(), watermarkRepository.findPrunedChangeId());
+        List<Resource> resources = resourceRepository.findAllWithRoles();
+
+        AuthorizationSnapshot snapshot = authorizationService.applyChanges(batch -> {
+            batch.clear();
+            resources.forEach(resource -> batch.putResource(resource.getId(),
+                    AuthorizationService.parseHttpMethod(resource.getHttpMethod()), resource.getPriority(),
+                    resource.getPattern(), roleNamesOf(resource)));
+        });
+
+        appliedChangeId.set(changeId);
+        pendingGaps.clear();
+
+        long elapsed = System.nanoTime() - startedAt;
+        loadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        log.info("Loaded {} authorization mappings in {} ms (version={}, changeId={}, heap delta ~{} KB)",
+                snapshot.getMappings().size(), elapsed / 1_000_000, snapshot.getVersion(), changeId,
+                (usedHeap() - usedHeapBefore) / 1024);
+    }
+
+    /**
+     * 마지막으로 반영한 이력 이후의 변경분만 반영. 반영한 리소스 수를 반환.
+     * 같은 이력을 여러 번 반영해도 결과는 같다(리소스의 현재 상태를 다시 읽어 교체).
+     */
+    @Transactional(readOnly = true)
+    public synchronized int synchronize() {
+        long startedAt = System.nanoTime();
+        long applied = appliedChangeId.get();
+
+        // 보관 기간이 지나 이력이 정리된 구간을 놓쳤다면 전체를 다시 읽는다.
+        // (가장 오래 남은 id 와 비교하지 않는다. 롤백된 트랜잭션이 남긴 빈 id 를 정리로 오인하게 된다)
+        long prunedChangeId = watermarkRepository.findPrunedChangeId();
+        if (applied < prunedChangeId) {
+            log.warn("Authorization change log was pruned past applied id {} (pruned up to {}), reloading all mappings",
+                    applied, prunedChangeId);
+            loadAll();
+            return authorizationService.getMappings().size();
+        }
+
+        List<AuthorizationChange> changes = new ArrayList<>(changeRepository.findTop500ByIdGreaterThanOrderByIdAsc(applied));
+        if (!pendingGaps.isEmpty()) {
+            changes.addAll(changeRepository.findAllById(pendingGaps.keySet()));
+            long now = System.currentTimeMillis();
+            pendingGaps.values().removeIf(firstSeen -> now - firstSeen > gapTimeout.toMillis());
+        }
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        long next = trackGaps(applied, changes);
+        Set<Long> resourceIds = changes.stream()
+                .map(AuthorizationChange::getResourceId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Resource> resources = resourceRepository.findAllWithRolesByIdIn(resourceIds).stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+
+        AuthorizationSnapshot snapshot = authorizationService.applyChanges(batch -> resourceIds.forEach(resourceId -> {
+            Resource resource = resources.get(resourceId);
+            if (resource == null) {
+                batch.removeResource(resourceId);
+            }
+            else {
+                batch.putResource(resource.getId(), AuthorizationService.parseHttpMethod(resource.getHttpMethod()),
+                        resource.getPriority(), resource.getPattern(), roleNamesOf(resource));
+            }
+        }));
+        appliedChangeId.set(next);
+
+        syncTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("Synchronized {} changed resources up to change {} (version={}, pending gaps={})",
+                resourceIds.size(), next, snapshot.getVersion(), pendingGaps.size());
+        return resourceIds.size();
+    }
+
+    public long getAppliedChangeId() {
+        return appliedChangeId.get();
+    }
+
+    // 새로 읽은 이력 사이에서 비어 있는 id 를 gap 으로 기록하고, 다음 기준 id 를 반환.
+    private long trackGaps(long applied, List<AuthorizationChange> changes) {
+        long now = System.currentTimeMillis();
+        long next = applied;
+
+        for (AuthorizationChange change : changes) {
+            pendingGaps.remove(change.getId());
+            if (change.getId() <= next) {
+                continue;
+            }
+            if (change.getId() - next <= MAX_GAP_SPAN) {
+                for (long id = next + 1; id < change.getId(); id++) {
+                    pendingGaps.putIfAbsent(id, now);
+                }
+            }
+            next = change.getId();
+        }
+        return next;
+    }
+
+    // 리소스 변경은 커밋된 이후에만 반영. (롤백된 변경이 매핑에 남지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        authorizationService.applyChanges(batch -> {
+            if (event.getType() == ResourceChangedEvent.Type.DELETED) {
+                batch.removeResource(event.getResourceId());
+            }
+            else {
+                batch.putResource(event.getResourceId(), AuthorizationService.parseHttpMethod(event.getHttpMethod()),
+                        event.getPriority(), event.getPattern(), event.getRoleNames());
+            }
+        });
+
+        log.info("Applied resource change to authorization mappings: {}", event);
+    }
+
+    private static Set<String> roleNamesOf(Resource resource) {
+        return resource.getResourceRoles().stream()
+                .map(ResourceRole::getRole)
+                .map(Role::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,114 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.AuthorizationService.AuthorizationMapping;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인가 결정 지표.
+ *
+ * - authorization.decision (timer): 결정 지연 시간. cache=hit|miss|none 태그.
+ * - authorization.decisions (counter): 결정 결과. outcome=granted|denied|no_match|error 태그.
+ * - authorization.mappings.evaluated (summary): 매칭 과정에서 비교한 후보 매핑 수.
+ * - 리소스(Resource id)별 적중 횟수: 리소스 수만큼 태그가 늘어나지 않도록 Micrometer 대신 내부 카운터로 집계하며,
+ *   actuator 엔드포인트(/actuator/authorization)로 조회한다.
+ */
+@Component
+public class AuthorizationMetrics {
+
+    public enum Outcome {
+        GRANTED, DENIED, NO_MATCH, ERROR;
+
+        private String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+    private final Timer cachedTimer;
+    private final Timer evaluatedTimer;
+    private final Timer uncachedTimer;
+    private final DistributionSummary evaluatedMappings;
+
+    // Resource id -> 적중 횟수. 코드로 직접 등록한 매핑(resourceId 가 null)은 집계하지 않는다.
+    private final Map<Long, LongAdder> resourceHits = new ConcurrentHashMap<>();
+
+    public AuthorizationMetrics(MeterRegistry meterRegistry) {
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("authorization.decisions")
+                    .description("인가 결정 결과별 횟수")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+        }
+        this.cachedTimer = decisionTimer(meterRegistry, "hit");
+        this.evaluatedTimer = decisionTimer(meterRegistry, "miss");
+        this.uncachedTimer = decisionTimer(meterRegistry, "none");
+        this.evaluatedMappings = DistributionSummary.builder("authorization.mappings.evaluated")
+                .description("매칭 과정에서 비교한 후보 매핑 수")
+                .serviceLevelObjectives(1, 2, 4, 8, 16, 32, 64)
+                .register(meterRegistry);
+    }
+
+    private static Timer decisionTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("authorization.decision")
+                .description("인가 결정 지연 시간")
+                .tag("cache", cache)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    // 결정 캐시에서 결정을 찾은 경우.
+    public void recordCached(AuthorizationMapping mapping, boolean granted, long elapsedNanos) {
+        cachedTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        recordOutcome(mapping, granted);
+    }
+
+    // 매핑을 직접 평가한 경우. cacheable 이 false 이면 캐시 대상이 아닌 요청(인증 정보 없음).
+    public void recordEvaluated(AuthorizationMapping mapping, boolean granted, int evaluated, boolean cacheable, long elapsedNanos) {
+        (cacheable ? evaluatedTimer : uncachedTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        evaluatedMappings.record(evaluated);
+        recordOutcome(mapping, granted);
+    }
+
+    public void recordError() {
+        outcomeCounters.get(Outcome.ERROR).increment();
+    }
+
+    public long count(Outcome outcome) {
+        return (long) outcomeCounters.get(outcome).count();
+    }
+
+    // Resource id 별 적중 횟수의 현재 값.
+    public Map<Long, Long> resourceHits() {
+        Map<Long, Long> hits = new HashMap<>();
+        resourceHits.forEach((resourceId, adder) -> hits.put(resourceId, adder.sum()));
+        return hits;
+    }
+
+    public void resetResourceHits() {
+        resourceHits.clear();
+    }
+
+    private void recordOutcome(AuthorizationMapping mapping, boolean granted) {
+        if (mapping == null) {
+            outcomeCounters.get(Outcome.NO_MATCH).increment();
+            return;
+        }
+        outcomeCounters.get(granted ? Outcome.GRANTED : Outcome.DENIED).increment();
+
+        if (mapping.getResourceId() != null) {
+            resourceHits.computeIfAbsent(mapping.getResourceId(), resourceId -> new LongAdder()).increment();
+        }
+    }
+}
@@ -2,73 +2,207 @@ package com.variety.store.user_service.security;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authorization.AuthorizationDecision;
-import org.springframework.security.authorization.ReactiveAuthorizationManager;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.web.server.authorization.AuthorizationContext;
-import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
-import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcherEntry;
-import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
-@Getter
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuthorizationService {
 
-    // 매핑(리소스, 권한) 정보 조회
-    // 리소스와 권한 매핑 정보
-    private final List<AuthorizationMapping> mappings = new ArrayList<>();
+    private final RoleRegistry roleRegistry;
 
-    // 매핑(리소스, 권한) 추가
-    public void addMapping(Long priority, String pattern, Set<String> roles) {
-        ReactiveAuthorizationManager<AuthorizationContext> authManager = createAuthorizationManager(roles);
-        ServerWebExchangeMatcher matcher = ServerWebExchangeMatchers.pathMatchers(pattern);
+    // 리소스와 권한 매핑 정보. 변경 시 새로운 스냅샷으로 통째로 교체(copy-on-write).
+    private final AtomicReference<AuthorizationSnapshot> snapshot = new AtomicReference<>(AuthorizationSnapshot.empty());
 
-        mappings.add(new AuthorizationMapping(priority, matcher, authManager));
+    // 쓰기 작업 간의 직렬화 용도. 읽기(요청 스레드)는 잠금을 사용하지 않는다.
+    private final ReentrantLock writeLock = new ReentrantLock();
 
-        // 우선순위(priority) 기준으로 오름차순 정렬.
-        mappings.sort(Comparator.comparingLong(AuthorizationMapping::getPriority));
+    // 매핑(리소스, 권한) 추가. 모든 HTTP 메서드에 적용.
+    public void addMapping(Long priority, String pattern, Set<String> roles) {
+        addMapping(null, priority, pattern, roles);
+    }
 
-        log.info("Added mapping: priority={}, pattern={}, roles={}", priority, pattern, roles);
+    // 특정 HTTP 메서드에 대한 매핑(리소스, 권한) 추가. method 가 null 이면 모든 메서드에 적용.
+    public void addMapping(HttpMethod method, Long priority, String pattern, Set<String> roles) {
+        applyChanges(batch -> batch.addMapping(method, priority, pattern, roles));
+        log.info("Added mapping: method={}, priority={}, pattern={}, roles={}", method, priority, pattern, roles);
     }
 
-    // 매핑(리소스) 제거
+    // 매핑(리소스) 제거. 같은 패턴의 모든 메서드 매핑이 제거된다.
     public void removeMapping(String pattern) {
-        mappings.removeIf(entry -> entry.getMatcher().toString().equals(pattern));
+        applyChanges(batch -> batch.removeMapping(pattern));
         log.info("Removed mapping: {}", pattern);
     }
 
     // 매핑(리소스, 권한) 수정
     public void updateMapping(Long priority, String pattern, Set<String> roles) {
-        removeMapping(pattern);
-        addMapping(priority, pattern, roles);
+        applyChanges(batch -> batch.updateMapping(priority, pattern, roles));
+        log.info("Updated mapping: priority={}, pattern={}, roles={}", priority, pattern, roles);
+    }
 
-        // 우선순위(priority) 기준으로 오름차순 정렬.
-        mappings.sort(Comparator.comparingLong(AuthorizationMapping::getPriority));
+    /**
+     * 여러 건의 매핑 변경을 하나의 스냅샷 교체로 반영.
+     * 변경 내용은 작업 사본에 적용된 뒤 한 번만 정렬/컴파일되며, 그 사이 요청 스레드는 이전 스냅샷을 그대로 사용한다.
+     */
+    public AuthorizationSnapshot applyChanges(Consumer<MappingBatch> changes) {
+        writeLock.lock();
+        try {
+            AuthorizationSnapshot current = snapshot.get();
+            MappingBatch batch = new MappingBatch(current.getMappings(), roleRegistry);
+            changes.accept(batch);
 
-        log.info("Updated mapping: priority={}, pattern={}, roles={}", priority, pattern, roles);
+            if (!batch.isModified()) {
+                return current;
+            }
+
+            AuthorizationSnapshot next = AuthorizationSnapshot.of(current.getVersion() + 1, batch.sortedMappings());
+            snapshot.set(next);
+
+            log.debug("Published authorization snapshot: version={}, mappings={}", next.getVersion(), next.getMappings().size());
+            return next;
+        }
+        finally {
+            writeLock.unlock();
+        }
     }
 
-    // 역할 기반 ReactiveAuthorizationManager 생성
-    private ReactiveAuthorizationManager<AuthorizationContext> createAuthorizationManager(Set<String> roles) {
-        return (authentication, context) -> authentication.map(auth -> {
-            Collection<? extends GrantedAuthority> userRoles = auth.getAuthorities();
-            boolean hasAccess = userRoles.stream()
-                    .anyMatch(grantedAuthority -> roles.contains(grantedAuthority.getAuthority()));
-            return new AuthorizationDecision(hasAccess);
-        });
+    public AuthorizationSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    public List<AuthorizationMapping> getMappings() {
+        return snapshot.get().getMappings();
+    }
+
+    // 요청 메서드/경로와 매칭되는 매핑 중 우선순위가 가장 높은 매핑과 경로 변수 조회. 매칭되는 매핑이 없으면 null.
+    public PathPatternTrie.Match<AuthorizationMapping> match(HttpMethod method, PathContainer path) {
+        return snapshot.get().match(method, path);
+    }
+
+    // Resource.httpMethod 값을 HttpMethod 로 변환. 비어 있거나 "*", "ANY" 이면 모든 메서드(null).
+    public static HttpMethod parseHttpMethod(String httpMethod) {
+        if (!StringUtils.hasText(httpMethod)) {
+            return null;
+        }
+        String method = httpMethod.trim().toUpperCase(Locale.ROOT);
+        if (method.equals("*") || method.equals("ANY") || method.equals("ALL")) {
+            return null;
+        }
+        return HttpMethod.valueOf(method);
     }
 
     @AllArgsConstructor
     @Getter
     public static class AuthorizationMapping {
 
+        private final Long resourceId;  // 코드로 직접 등록한 매핑은 null
+        private final HttpMethod httpMethod;  // null 이면 모든 메서드(ANY)
         private final Long priority;
-        private final ServerWebExchangeMatcher matcher;
-        private final ReactiveAuthorizationManager<AuthorizationContext> authorizationManager;
+        private final String pattern;
+        private final Set<String> roles;
+        private final RoleMask roleMask;  // 허용된 역할의 비트마스크
+
+        // 사용자의 권한 마스크와 허용된 역할 마스크의 교집합 여부로 접근 허용 판단.
+        public boolean isGranted(RoleMask authorityMask) {
+            return roleMask.intersects(authorityMask);
+        }
+    }
+
+    /**
+     * 스냅샷의 작업 사본. applyChanges() 안에서만 사용된다.
+     */
+    public static class MappingBatch {
+
+        private final List<AuthorizationMapping> mappings;
+        private final RoleRegistry roleRegistry;
+        private boolean modified;
+
+        private MappingBatch(List<AuthorizationMapping> mappings, RoleRegistry roleRegistry) {
+            this.mappings = new ArrayList<>(mappings);
+            this.roleRegistry = roleRegistry;
+        }
+
+        public MappingBatch addMapping(Long priority, String pattern, Set<String> roles) {
+            return add(null, null, priority, pattern, roles);
+        }
+
+        public MappingBatch addMapping(HttpMethod method, Long priority, String pattern, Set<String> roles) {
+            return add(null, method, priority, pattern, roles);
+        }
+
+        public MappingBatch removeMapping(String pattern) {
+            modified |= mappings.removeIf(mapping -> mapping.getPattern().equals(pattern));
+            return this;
+        }
+
+        // 리소스(Resource) 기준 매핑 추가 또는 교체.
+        // 이미 같은 내용으로 반영된 리소스는 변경으로 보지 않는다(다른 인스턴스의 변경 이력 재적용 시 버전 유지).
+        public MappingBatch putResource(Long resourceId, HttpMethod method, Long priority, String pattern, Set<String> roles) {
+            Long effectivePriority = priority != null ? priority : Long.MAX_VALUE;
+            boolean unchanged = mappings.stream()
+                    .filter(mapping -> resourceId.equals(mapping.getResourceId()))
+                    .anyMatch(mapping -> Objects.equals(mapping.getHttpMethod(), method)
+                            && mapping.getPriority().equals(effectivePriority)
+                            && mapping.getPattern().equals(pattern)
+                            && mapping.getRoles().equals(Set.copyOf(roles)));
+            if (unchanged) {
+                return this;
+            }
+
+            removeResource(resourceId);
+            return add(resourceId, method, priority, pattern, roles);
+        }
+
+        public MappingBatch removeResource(Long resourceId) {
+            modified |= mappings.removeIf(mapping -> resourceId.equals(mapping.getResourceId()));
+            return this;
+        }
+
+        public MappingBatch updateMapping(Long priority, String pattern, Set<String> roles) {
+            removeMapping(pattern);
+            return addMapping(priority, pattern, roles);
+        }
+
+        // 전체 매핑 교체.
+        public MappingBatch clear() {
+            modified |= !mappings.isEmpty();
+            mappings.clear();
+            return this;
+        }
+
+        private MappingBatch add(Long resourceId, HttpMethod method, Long priority, String pattern, Set<String> roles) {
+            Set<String> allowedRoles = Set.copyOf(roles);
+
+            // 우선순위가 지정되지 않은 매핑은 가장 마지막에 평가.
+            Long effectivePriority = priority != null ? priority : Long.MAX_VALUE;
+
+            mappings.add(new AuthorizationMapping(resourceId, method, effectivePriority, pattern, allowedRoles, roleRegistry.internAll(allowedRoles)));
+            modified = true;
+            return this;
+        }
+
+        private boolean isModified() {
+            return modified;
+        }
+
+        // 우선순위(priority) 기준으로 오름차순 정렬. 우선순위가 같으면 먼저 추가된 매핑이 앞선다.
+        private List<AuthorizationMapping> sortedMappings() {
+            mappings.sort(Comparator.comparingLong(AuthorizationMapping::getPriority));
+            return mappings;
+        }
     }
 }
@@ -0,0 +1,77 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.AuthorizationService.AuthorizationMapping;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.util.*;
+
+/**
+ * 특정 시점의 매핑(리소스, 권한) 테이블. 생성 이후 변경되지 않는다.
+ *
+ * 매핑이 변경되면 새로운 스냅샷을 만들어 통째로 교체하므로,
+ * 요청 스레드는 잠금 없이 항상 정렬이 완료된 일관된 목록과 트라이를 읽는다.
+ *
+ * 트라이는 HTTP 메서드별로 분리되어 있으며, 각 메서드의 트라이에는 해당 메서드의 매핑과
+ * 메서드를 지정하지 않은(ANY) 매핑이 우선순위 순서로 함께 들어 있다.
+ * 매핑이 하나도 없는 메서드는 ANY 트라이를 사용한다.
+ */
+@Getter
+public final class AuthorizationSnapshot {
+
+    private static final AuthorizationSnapshot EMPTY = of(0L, List.of());
+
+    private final long version;
+    private final List<AuthorizationMapping> mappings;  // 우선순위 오름차순
+
+    @Getter(AccessLevel.NONE)
+    private final Map<HttpMethod, PathPatternTrie<AuthorizationMapping>> methodTries;
+
+    @Getter(AccessLevel.NONE)
+    private final PathPatternTrie<AuthorizationMapping> anyMethodTrie;
+
+    private AuthorizationSnapshot(long version, List<AuthorizationMapping> mappings,
+                                  Map<HttpMethod, PathPatternTrie<AuthorizationMapping>> methodTries,
+                                  PathPatternTrie<AuthorizationMapping> anyMethodTrie) {
+        this.version = version;
+        this.mappings = mappings;
+        this.methodTries = methodTries;
+        this.anyMethodTrie = anyMethodTrie;
+    }
+
+    public static AuthorizationSnapshot empty() {
+        return EMPTY;
+    }
+
+    // 우선순위 순으로 정렬된 매핑 목록으로 다음 버전의 스냅샷 생성.
+    static AuthorizationSnapshot of(long version, List<AuthorizationMapping> sortedMappings) {
+        Map<HttpMethod, PathPatternTrie.Builder<AuthorizationMapping>> methodBuilders = new HashMap<>();
+        for (AuthorizationMapping mapping : sortedMappings) {
+            if (mapping.getHttpMethod() != null) {
+                methodBuilders.computeIfAbsent(mapping.getHttpMethod(), method -> PathPatternTrie.builder());
+            }
+        }
+
+        PathPatternTrie.Builder<AuthorizationMapping> anyMethodBuilder = PathPatternTrie.builder();
+        for (AuthorizationMapping mapping : sortedMappings) {
+            if (mapping.getHttpMethod() == null) {
+                anyMethodBuilder.add(mapping.getPattern(), mapping);
+                methodBuilders.values().forEach(builder -> builder.add(mapping.getPattern(), mapping));
+            }
+            else {
+                methodBuilders.get(mapping.getHttpMethod()).add(mapping.getPattern(), mapping);
+            }
+        }
+
+        Map<HttpMethod, PathPatternTrie<AuthorizationMapping>> methodTries = new HashMap<>();
+        methodBuilders.forEach((method, builder) -> methodTries.put(method, builder.build()));
+
+        return new AuthorizationSnapshot(version, List.copyOf(sortedMappings), Map.copyOf(methodTries), anyMethodBuilder.build());
+    }
+
+    public PathPatternTrie.Match<AuthorizationMapping> match(HttpMethod method, PathContainer path) {
+        return methodTries.getOrDefault(method, anyMethodTrie).match(path);
+    }
+}
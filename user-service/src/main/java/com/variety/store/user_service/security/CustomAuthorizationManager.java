@@ -1,16 +1,19 @@
 package com.variety.store.user_service.security;
 
+import com.variety.store.user_service.security.AuthorizationDecisionCache.CachedDecision;
+import com.variety.store.user_service.security.AuthorizationDecisionCache.DecisionKey;
+import com.variety.store.user_service.security.AuthorizationService.AuthorizationMapping;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
 import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.AuthorizationResult;
 import org.springframework.security.authorization.ReactiveAuthorizationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.server.authorization.AuthorizationContext;
-import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -18,7 +21,13 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CustomAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
 
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
     private final AuthorizationService authorizationService;
+    private final AuthorizationDecisionCache decisionCache;
+    private final RoleRegistry roleRegistry;
+    private final AuthorizationMetrics metrics;
 
     @Deprecated
     @Override
@@ -31,33 +40,95 @@ public class CustomAuthorizationManager implements ReactiveAuthorizationManager<
     public Mono<AuthorizationResult> authorize(Mono<Authentication> authentication, AuthorizationContext context) {
 
         ServerWebExchange exchange = context.getExchange();
+        RequestPath path = exchange.getRequest().getPath();
 
-        return Flux.fromIterable(authorizationService.getMappings())
-                .concatMap(mapping -> mapping.getMatcher()
-                        .matches(exchange)
-                        .filter(ServerWebExchangeMatcher.MatchResult::isMatch)
-                        .flatMap(matchResult -> {
-                            log.debug("Matched path: '{}', checking authorization", exchange.getRequest().getPath());
-                            return mapping.getAuthorizationManager()
-                                    .authorize(authentication, new AuthorizationContext(exchange, matchResult.getVariables()))
-                                    .doOnNext(result -> log.debug("Authorization result for '{}': {}", exchange.getRequest().getPath(), result.isGranted()));
-                        })
-                )
-                .next()
+        return authentication
+                // 사용자의 권한 마스크는 요청당 한 번만 계산.
+                .map(auth -> roleRegistry.maskOf(auth.getAuthorities()))
+                .map(authorityMask -> decide(exchange, authorityMask))
+                // 인증 정보가 없는 요청은 캐시하지 않는다.
+                .switchIfEmpty(Mono.fromSupplier(() -> decide(exchange, null)))
                 .map(result -> {
                     if (!result.isGranted()) {
-                        log.warn("Access denied for '{}'", exchange.getRequest().getPath());
+                        log.warn("Access denied for '{}'", path);
                     }
                     return result;
                 })
-                // 요청에 대해 매칭되는 자원 경로가 존재하지 않은 경우 허용.( 보안이 중요한 경우, false 로 수정. )
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.info("No matching path found for '{}', allowing access", exchange.getRequest().getPath());
-                    return Mono.just(new AuthorizationDecision(true));
-                }))
                 .onErrorResume(error -> {
                     log.error("Authorization error: {}", error.getMessage());
-                    return Mono.just(new AuthorizationDecision(false));
+                    metrics.recordError();
+                    return Mono.just(DENIED);
                 });
     }
+
+    // authorityMask 가 null 이면 인증 정보가 없는 요청.
+    private AuthorizationResult decide(ServerWebExchange exchange, RoleMask authorityMask) {
+
+        long startedAt = System.nanoTime();
+
+        // 요청 처리 동안 동일한 스냅샷을 사용하여, 평가 도중 매핑이 변경되어도 결정과 캐시 버전이 어긋나지 않도록 함.
+        AuthorizationSnapshot snapshot = authorizationService.getSnapshot();
+
+        // 매칭과 캐시 키에 같은 경로(애플리케이션 내부 경로, 정규화)를 사용.
+        PathContainer applicationPath = exchange.getRequest().getPath().pathWithinApplication();
+        String path = normalizePath(applicationPath.value());
+        DecisionKey key = authorityMask != null
+                ? DecisionKey.of(exchange.getRequest().getMethod(), path, authorityMask)
+                : null;
+
+        CachedDecision cached = key != null ? decisionCache.get(key, snapshot.getVersion()) : null;
+        if (cached != null) {
+            metrics.recordCached(cached.getMapping(), cached.isGranted(), System.nanoTime() - startedAt);
+            return cached.isGranted() ? GRANTED : DENIED;
+        }
+
+        // 요청 메서드의 트라이에서 우선순위가 가장 높은 매핑을 한 번에 조회.
+        PathPatternTrie.Match<AuthorizationMapping> match = snapshot.match(exchange.getRequest().getMethod(),
+                path.equals(applicationPath.value()) ? applicationPath : PathContainer.parsePath(path));
+        AuthorizationMapping mapping = match != null ? match.getValue() : null;
+        boolean granted = evaluate(path, mapping, authorityMask);
+
+        if (key != null) {
+            decisionCache.put(key, snapshot.getVersion(), granted, mapping);
+        }
+        metrics.recordEvaluated(mapping, granted, match != null ? match.getEvaluated() : 0, key != null, System.nanoTime() - startedAt);
+
+        return granted ? GRANTED : DENIED;
+    }
+
+    private boolean evaluate(String path, AuthorizationMapping mapping, RoleMask authorityMask) {
+
+        // 요청에 대해 매칭되는 자원 경로가 존재하지 않은 경우 허용.( 보안이 중요한 경우, false 로 수정. )
+        if (mapping == null) {
+            log.info("No matching path found for '{}', allowing access", path);
+            return true;
+        }
+
+        // 보호된 경로에 인증 정보가 없는 경우 거부.
+        boolean granted = authorityMask != null && mapping.isGranted(authorityMask);
+        log.debug("Authorization result for '{}' (pattern '{}'): {}", path, mapping.getPattern(), granted);
+
+        return granted;
+    }
+
+    /**
+     * 연속된 슬래시는 하나로, 끝의 슬래시는 제거한다. (예: "/users//1/" -> "/users/1")
+     * 같은 자원을 가리키는 경로가 서로 다른 매핑에 매칭되거나 캐시 항목을 따로 만들지 않도록 한다.
+     */
+    static String normalizePath(String path) {
+        if (!path.contains("//") && (path.length() <= 1 || !path.endsWith("/"))) {
+            return path;
+        }
+        StringBuilder normalized = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != '/' || normalized.isEmpty() || normalized.charAt(normalized.length() - 1) != '/') {
+                normalized.append(c);
+            }
+        }
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.isEmpty() ? "/" : normalized.toString();
+    }
 }
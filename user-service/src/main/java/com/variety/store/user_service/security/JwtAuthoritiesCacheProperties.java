@@ -0,0 +1,24 @@
+package com.variety.store.user_service.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 액세스 토큰 단위 권한 변환 결과 캐시 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "authorization.jwt-cache")
+public class JwtAuthoritiesCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시에 보관할 최대 토큰 수
+    private long maximumSize = 10_000;
+
+    // 토큰 만료 시각과 관계없이 캐시에 머무를 수 있는 최대 시간
+    private Duration maximumTimeToLive = Duration.ofMinutes(30);
+}
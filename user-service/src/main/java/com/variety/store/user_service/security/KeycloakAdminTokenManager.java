@@ -0,0 +1,192 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.service.SingleFlight;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.ReactiveOAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Keycloak Admin API 접근 토큰(client_credentials) 관리.
+ *
+ * - 만료가 가까워지면(refreshAhead) 요청을 기다리게 하지 않고 백그라운드에서 미리 갱신한다.
+ *   갱신 중에도 아직 유효한 기존 토큰을 계속 사용하므로, 토큰 교체 시점에 Admin API 지연이 늘어나지 않는다.
+ * - 동시에 여러 갱신이 필요해도 토큰 발급 요청은 하나만 보낸다.
+ * - 401 응답을 받으면 토큰을 폐기하고 새 토큰으로 한 번만 다시 요청한다.
+ *
+ * keycloakWebClient 의 필터로 등록되어 모든 요청에 Bearer 토큰을 붙인다.
+ */
+@Slf4j
+public class KeycloakAdminTokenManager implements ExchangeFilterFunction {
+
+    private static final String METRIC_PREFIX = "keycloak.admin-token";
+
+    private final ReactiveClientRegistrationRepository clientRegistrationRepository;
+    private final ReactiveOAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient;
+    private final KeycloakClientProperties.Token properties;
+    private final Clock clock;
+
+    private final AtomicReference<IssuedToken> current = new AtomicReference<>();
+    private final SingleFlight<String, IssuedToken> refreshes = new SingleFlight<>();
+
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+
+    public KeycloakAdminTokenManager(ReactiveClientRegistrationRepository clientRegistrationRepository,
+                                     ReactiveOAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient,
+                                     KeycloakClientProperties.Token properties,
+                                     MeterRegistry meterRegistry,
+                                     Clock clock) {
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.tokenResponseClient = tokenResponseClient;
+        this.properties = properties;
+        this.clock = clock;
+
+        this.refreshSuccess = refreshTimer(meterRegistry, "success");
+        this.refreshFailure = refreshTimer(meterRegistry, "failure");
+
+        Gauge.builder(METRIC_PREFIX + ".age", this, manager -> manager.secondsSince(IssuedToken::obtainedAt))
+                .description("현재 Admin API 토큰을 발급받은 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".remaining", this, manager -> -manager.secondsSince(IssuedToken::expiresAt))
+                .description("현재 Admin API 토큰의 남은 유효 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return getAccessToken()
+                .flatMap(token -> next.exchange(withToken(request, token))
+                        .flatMap(response -> {
+                            if (!response.statusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+                                return Mono.just(response);
+                            }
+                            // 서버에서 토큰이 폐기된 경우(세션 만료, 키 교체 등). 새 토큰으로 한 번만 다시 요청.
+                            log.warn("Keycloak admin token rejected, requesting a new token");
+                            invalidate(token);
+                            return response.releaseBody()
+                                    .then(getAccessToken())
+                                    .flatMap(fresh -> next.exchange(withToken(request, fresh)));
+                        }));
+    }
+
+    /**
+     * 사용할 수 있는 토큰 조회. 유효한 토큰이 없을 때만 발급을 기다린다.
+     */
+    public Mono<String> getAccessToken() {
+        return Mono.defer(() -> {
+            IssuedToken token = current.get();
+            Instant now = clock.instant();
+
+            if (token != null && token.isUsable(now, properties.getClockSkew())) {
+                if (token.shouldRefresh(now, properties.getRefreshAhead())) {
+                    refreshInBackground();
+                }
+                return Mono.just(token.value());
+            }
+            return refresh().map(IssuedToken::value);
+        });
+    }
+
+    // 만료가 가까운 토큰을 주기적으로 미리 갱신. 한 번도 사용하지 않은 경우(토큰 없음)에는 발급하지 않는다.
+    @Scheduled(fixedDelayString = "${keycloak.client.token.check-interval:5s}")
+    public void refreshIfNeeded() {
+        IssuedToken token = current.get();
+        if (token != null && token.shouldRefresh(clock.instant(), properties.getRefreshAhead())) {
+            refreshInBackground();
+        }
+    }
+
+    // 토큰 폐기. 이미 다른 토큰으로 교체되었으면 무시.
+    public void invalidate(String tokenValue) {
+        IssuedToken token = current.get();
+        if (token != null && token.value().equals(tokenValue)) {
+            current.compareAndSet(token, null);
+        }
+    }
+
+    Mono<IssuedToken> refresh() {
+        return refreshes.execute(properties.getRegistrationId(), this::requestToken);
+    }
+
+    private void refreshInBackground() {
+        refresh().subscribe(
+                token -> log.debug("Refreshed Keycloak admin token ahead of expiry: expiresAt={}", token.expiresAt()),
+                // 실패해도 기존 토큰이 유효한 동안은 계속 사용하고, 다음 확인 주기에 다시 시도한다.
+                error -> log.warn("Failed to refresh Keycloak admin token: {}", error.toString()));
+    }
+
+    private Mono<IssuedToken> requestToken() {
+        long startedAt = System.nanoTime();
+
+        return clientRegistrationRepository.findByRegistrationId(properties.getRegistrationId())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "Client registration not found: " + properties.getRegistrationId())))
+                .flatMap(registration -> tokenResponseClient.getTokenResponse(new OAuth2ClientCredentialsGrantRequest(registration)))
+                .timeout(properties.getRefreshTimeout())
+                .map(response -> IssuedToken.of(response.getAccessToken(), clock.instant()))
+                .doOnNext(current::set)
+                .doOnSuccess(token -> refreshSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                .doOnError(error -> refreshFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    }
+
+    private double secondsSince(Function<IssuedToken, Instant> instant) {
+        IssuedToken token = current.get();
+        if (token == null || instant.apply(token) == null) {
+            return Double.NaN;
+        }
+        return Duration.between(instant.apply(token), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static ClientRequest withToken(ClientRequest request, String token) {
+        return ClientRequest.from(request)
+                .headers(headers -> headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .build();
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("Admin API 토큰 발급 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발급받은 토큰과 발급 시각. 만료 시각이 없는 토큰은 만료되지 않는 것으로 본다.
+     */
+    record IssuedToken(String value, Instant obtainedAt, Instant expiresAt) {
+
+        static IssuedToken of(OAuth2AccessToken accessToken, Instant obtainedAt) {
+            return new IssuedToken(accessToken.getTokenValue(), obtainedAt, accessToken.getExpiresAt());
+        }
+
+        boolean isUsable(Instant now, Duration clockSkew) {
+            return expiresAt == null || now.isBefore(expiresAt.minus(clockSkew));
+        }
+
+        boolean shouldRefresh(Instant now, Duration refreshAhead) {
+            return expiresAt != null && !now.isBefore(expiresAt.minus(refreshAhead));
+        }
+    }
+}
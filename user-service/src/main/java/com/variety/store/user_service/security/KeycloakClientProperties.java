@@ -0,0 +1,79 @@
+package com.variety.store.user_service.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Keycloak Admin API 클라이언트(keycloakWebClient) 연결 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.client")
+public class KeycloakClientProperties {
+
+    private String baseUrl = "http://localhost:8080/admin/realms/variety-store";
+
+    private Pool pool = new Pool();
+    private Token token = new Token();
+
+    // TCP 연결 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    // 요청 전송 후 응답을 받기까지의 타임아웃
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    // HTTP keep-alive 및 TCP SO_KEEPALIVE 사용 여부
+    private boolean keepAlive = true;
+
+    // HTTP/2 사용 여부. https 이면 ALPN(h2), http 이면 h2c 로 협상하며, 지원하지 않는 서버는 HTTP/1.1 로 통신한다.
+    private boolean http2 = false;
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 최대 연결 수
+        private int maxConnections = 50;
+
+        // 연결을 기다릴 수 있는 최대 요청 수. 초과하면 즉시 실패한다.
+        private int pendingAcquireMaxCount = 500;
+
+        // 연결을 기다리는 최대 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        // 유휴 연결 유지 시간
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        // 연결의 최대 수명
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        // 만료된 연결을 백그라운드에서 정리하는 주기
+        private Duration evictionInterval = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Admin API 접근 토큰(client_credentials) 관리.
+     */
+    @Getter
+    @Setter
+    public static class Token {
+
+        // spring.security.oauth2.client.registration 의 등록 id
+        private String registrationId = "keycloak-admin-api-client";
+
+        // 만료까지 남은 시간이 이 값보다 작으면 백그라운드에서 미리 갱신
+        private Duration refreshAhead = Duration.ofSeconds(30);
+
+        // 갱신 필요 여부 확인 주기
+        private Duration checkInterval = Duration.ofSeconds(5);
+
+        // 토큰 발급 요청 타임아웃
+        private Duration refreshTimeout = Duration.ofSeconds(5);
+
+        // 서버와의 시각 차이를 고려하여, 만료 시각보다 이만큼 앞서 만료된 것으로 본다.
+        private Duration clockSkew = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,137 @@
+package com.variety.store.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Keycloak 액세스 토큰(JWT)을 인증 객체로 변환.
+ *
+ * 권한은 realm_access.roles 의 역할 이름을 그대로 사용하고(예: ROLE_ADMIN), scope 는 SCOPE_ 접두사로 추가한다.
+ * 같은 토큰으로 반복되는 요청은 클레임 파싱과 권한 객체 생성을 생략하도록, 변환 결과를 토큰(jti, 없으면 토큰 값의 SHA-256) 단위로 캐시한다.
+ * 캐시 항목은 토큰 만료 시각(exp)을 넘겨 보관되지 않는다.
+ */
+@Component
+public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, Mono<AbstractAuthenticationToken>> {
+
+    public static final String CACHE_NAME = "authorization.jwt-authorities";
+
+    private static final String REALM_ACCESS_CLAIM = "realm_access";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtGrantedAuthoritiesConverter scopeConverter = new JwtGrantedAuthoritiesConverter();
+    private final boolean enabled;
+    private final Cache<String, CachedAuthorities> cache;
+
+    public KeycloakJwtAuthenticationConverter(JwtAuthoritiesCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry(properties.getMaximumTimeToLive()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<AbstractAuthenticationToken> convert(Jwt jwt) {
+        return Mono.just(new JwtAuthenticationToken(jwt, authoritiesOf(jwt), jwt.getSubject()));
+    }
+
+    Collection<GrantedAuthority> authoritiesOf(Jwt jwt) {
+        if (!enabled || jwt.getExpiresAt() == null) {
+            return extractAuthorities(jwt);
+        }
+        return cache.get(cacheKey(jwt), key -> new CachedAuthorities(extractAuthorities(jwt), jwt.getExpiresAt())).authorities;
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    // jti 가 없으면 토큰 값의 해시를 사용. (토큰 원문을 메모리에 오래 남기지 않도록)
+    static String cacheKey(Jwt jwt) {
+        String jti = jwt.getId();
+        return jti != null ? jti : sha256(jwt.getTokenValue());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private List<GrantedAuthority> extractAuthorities(Jwt jwt) {
+        List<GrantedAuthority> authorities = new ArrayList<>(scopeConverter.convert(jwt));
+
+        Map<String, Object> realmAccess = jwt.getClaimAsMap(REALM_ACCESS_CLAIM);
+        if (realmAccess != null && realmAccess.get(ROLES_CLAIM) instanceof Collection<?> roles) {
+            for (Object role : roles) {
+                if (role != null) {
+                    authorities.add(new SimpleGrantedAuthority(role.toString()));
+                }
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static final class CachedAuthorities {
+
+        private final List<GrantedAuthority> authorities;
+        private final Instant expiresAt;
+
+        private CachedAuthorities(List<GrantedAuthority> authorities, Instant expiresAt) {
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // 토큰 만료 시각까지만 보관. (최대 maximumTimeToLive)
+    private static final class TokenExpiry implements Expiry<String, CachedAuthorities> {
+
+        private final long maximumNanos;
+
+        private TokenExpiry(Duration maximumTimeToLive) {
+            this.maximumNanos = maximumTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthorities value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.expiresAt).toNanos();
+            return Math.max(0, Math.min(remaining, maximumNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthorities value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthorities value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,47 +1,98 @@
 package com.variety.store.user_service.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientProvider;
-import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientProviderBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.endpoint.WebClientReactiveClientCredentialsTokenResponseClient;
 import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
-import org.springframework.security.oauth2.client.web.DefaultReactiveOAuth2AuthorizedClientManager;
-import org.springframework.security.oauth2.client.web.reactive.function.client.ServerOAuth2AuthorizedClientExchangeFilterFunction;
-import org.springframework.security.oauth2.client.web.server.ServerOAuth2AuthorizedClientRepository;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Clock;
+import java.util.regex.Pattern;
 
 @Configuration
 public class KeycloakWebClientConfig {
 
-    @Bean
-    public ReactiveOAuth2AuthorizedClientManager authorizedClientManager(
-            ReactiveClientRegistrationRepository clientRegistrationRepository,
-            ServerOAuth2AuthorizedClientRepository authorizedClientRepository) {
+    private static final String CONNECTION_POOL_NAME = "keycloak";
+
+    private static final Pattern USER_ID_SEGMENT = Pattern.compile("/users/[^/]+");
+    private static final Pattern ROLE_NAME_SEGMENT = Pattern.compile("/roles/[^/]+");
 
-        ReactiveOAuth2AuthorizedClientProvider authorizedClientProvider =
-                ReactiveOAuth2AuthorizedClientProviderBuilder.builder()
-                        .clientCredentials()
-                        .build();
+    /**
+     * Admin API 접근 토큰 관리. 만료 전에 백그라운드에서 미리 갱신한다.
+     * 토큰 발급 요청도 Keycloak 전용 연결 풀을 사용한다.
+     */
+    @Bean
+    public KeycloakAdminTokenManager keycloakAdminTokenManager(ReactiveClientRegistrationRepository clientRegistrationRepository,
+                                                               ConnectionProvider keycloakConnectionProvider,
+                                                               KeycloakClientProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        WebClientReactiveClientCredentialsTokenResponseClient tokenResponseClient = new WebClientReactiveClientCredentialsTokenResponseClient();
+        tokenResponseClient.setWebClient(WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(keycloakHttpClient(keycloakConnectionProvider, properties)))
+                .build());
 
-        DefaultReactiveOAuth2AuthorizedClientManager authorizedClientManager =
-                new DefaultReactiveOAuth2AuthorizedClientManager(
-                        clientRegistrationRepository, authorizedClientRepository);
+        return new KeycloakAdminTokenManager(clientRegistrationRepository, tokenResponseClient,
+                properties.getToken(), meterRegistry, Clock.systemUTC());
+    }
 
-        authorizedClientManager.setAuthorizedClientProvider(authorizedClientProvider);
+    /**
+     * Keycloak 전용 연결 풀.
+     * 일괄 작업 중 Keycloak 으로의 연결 경합을 제한하고, 풀 사용량/대기 시간을 Micrometer 지표로 확인할 수 있도록 한다.
+     * (reactor.netty.connection.provider.* : total/active/idle/pending connections, pending.connections.time)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider keycloakConnectionProvider(KeycloakClientProperties properties) {
+        KeycloakClientProperties.Pool pool = properties.getPool();
 
-        return authorizedClientManager;
+        return ConnectionProvider.builder(CONNECTION_POOL_NAME)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true)
+                .build();
     }
 
     @Bean
-    public WebClient keycloakWebClient(ReactiveOAuth2AuthorizedClientManager authorizedClientManager) {
-        ServerOAuth2AuthorizedClientExchangeFilterFunction oauth2 =
-                new ServerOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
-        oauth2.setDefaultClientRegistrationId("keycloak-admin-api-client");
-
+    public WebClient keycloakWebClient(KeycloakAdminTokenManager keycloakAdminTokenManager,
+                                       ConnectionProvider keycloakConnectionProvider,
+                                       KeycloakClientProperties properties) {
         return WebClient.builder()
-                .filter(oauth2)
-                .baseUrl("http://localhost:8080/admin/realms/variety-store")
+                .clientConnector(new ReactorClientHttpConnector(keycloakHttpClient(keycloakConnectionProvider, properties)))
+                .filter(keycloakAdminTokenManager)
+                .baseUrl(properties.getBaseUrl())
                 .build();
     }
+
+    static HttpClient keycloakHttpClient(ConnectionProvider connectionProvider, KeycloakClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .responseTimeout(properties.getResponseTimeout())
+                // 경로의 사용자 UUID/역할 이름은 태그 수가 늘어나지 않도록 치환.
+                .metrics(true, KeycloakWebClientConfig::uriTag);
+
+        if (properties.isHttp2()) {
+            httpClient = properties.getBaseUrl().startsWith("https")
+                    ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+
+    private static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        return USER_ID_SEGMENT.matcher(ROLE_NAME_SEGMENT.matcher(path).replaceAll("/roles/{roleName}"))
+                .replaceAll("/users/{userId}");
+    }
 }
@@ -0,0 +1,403 @@
+package com.variety.store.user_service.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 경로 패턴(PathPattern 문법)을 세그먼트 단위 트라이로 컴파일한 불변 매처.
+ *
+ * 노드 종류
+ * - 리터럴 세그먼트: "users"
+ * - 단일 세그먼트 와일드카드: "*", "{id}"
+ * - 세그먼트 내부 패턴: "*.png", "{id:\\d+}", "v?" (정규식으로 컴파일)
+ * - 나머지 경로 전체: "**", "{*path}" (패턴의 마지막 세그먼트에만 허용)
+ *
+ * 패턴은 등록 순서가 곧 우선순위(rank)이며, 한 번의 조회로 매칭되는 패턴 중 rank 가 가장 낮은 값을 반환한다.
+ * 서브트리의 최소 rank 를 노드에 기록해 두어, 이미 찾은 후보보다 우선순위가 낮은 서브트리는 탐색하지 않는다.
+ */
+public final class PathPatternTrie<T> {
+
+    private static final PathPatternTrie<?> EMPTY = new Builder<>().build();
+
+    private final Node<T> root;
+    private final int size;
+
+    private PathPatternTrie(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PathPatternTrie<T> empty() {
+        return (PathPatternTrie<T>) EMPTY;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 요청 경로(pathWithinApplication)에 대해 우선순위가 가장 높은 매핑 조회. 매칭되는 패턴이 없으면 null.
+    public Match<T> match(PathContainer path) {
+        return match(segmentsOf(path));
+    }
+
+    public Match<T> match(List<String> segments) {
+        Search<T> search = new Search<>(segments);
+        search.walk(root, 0);
+
+        if (search.best == null) {
+            return null;
+        }
+        return new Match<>(search.best.value, search.best.extractVariables(segments), search.evaluated);
+    }
+
+    // 경로를 디코딩된 세그먼트 목록으로 변환. 연속/후행 구분자는 빈 세그먼트로 표현한다.
+    static List<String> segmentsOf(PathContainer path) {
+        List<PathContainer.Element> elements = path.elements();
+        List<String> segments = new ArrayList<>(elements.size() / 2 + 1);
+
+        boolean pendingSegment = false;
+        for (PathContainer.Element element : elements) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                segments.add(segment.valueToMatch());
+                pendingSegment = false;
+            }
+            else {
+                if (pendingSegment) {
+                    segments.add("");
+                }
+                pendingSegment = true;
+            }
+        }
+        if (pendingSegment && !segments.isEmpty()) {
+            segments.add("");
+        }
+        return segments;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match<T> {
+
+        private final T value;
+        private final Map<String, String> variables;
+        private final int evaluated;  // 탐색 중 경로와 매칭되어 비교한 후보 패턴 수 (최종 매칭 포함)
+    }
+
+    public static final class Builder<T> {
+
+        private final Node<T> root = new Node<>();
+        private final Map<String, Pattern> compiledSegments = new HashMap<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        // 먼저 추가한 패턴일수록 우선순위가 높다. 동일한 패턴이 중복되면 먼저 추가한 값이 사용된다.
+        public Builder<T> add(String pattern, T value) {
+            List<String> segments = splitPattern(pattern);
+            List<Capture> captures = new ArrayList<>();
+            Entry<T> entry = new Entry<>(size++, value, captures);
+
+            Node<T> node = root;
+            for (int index = 0; index < segments.size(); index++) {
+                String segment = segments.get(index);
+
+                if (segment.equals("**") || isRestCapture(segment)) {
+                    if (index != segments.size() - 1) {
+                        throw new IllegalArgumentException("'**' 는 패턴의 마지막 세그먼트에만 사용할 수 있습니다: " + pattern);
+                    }
+                    if (isRestCapture(segment)) {
+                        captures.add(Capture.rest(index, segment.substring(2, segment.length() - 1)));
+                    }
+                    if (node.multi == null) {
+                        node.multi = entry;
+                    }
+                    return this;
+                }
+
+                if (segment.equals("*") || isSimpleCapture(segment)) {
+                    if (isSimpleCapture(segment)) {
+                        captures.add(Capture.segment(index, segment.substring(1, segment.length() - 1)));
+                    }
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node<>();
+                    }
+                    node = node.wildcard;
+                }
+                else if (isLiteral(segment)) {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+                }
+                else {
+                    List<String> names = new ArrayList<>();
+                    String regex = toRegex(segment, names, pattern);
+                    Pattern compiled = compiledSegments.computeIfAbsent(regex, Pattern::compile);
+                    if (!names.isEmpty()) {
+                        captures.add(Capture.regex(index, compiled, names));
+                    }
+                    node = node.patterns.computeIfAbsent(regex, key -> new PatternNode<>(compiled)).node;
+                }
+            }
+
+            if (node.terminal == null) {
+                node.terminal = entry;
+            }
+            return this;
+        }
+
+        public PathPatternTrie<T> build() {
+            root.computeMinRank();
+            return new PathPatternTrie<>(root, size);
+        }
+
+        private static List<String> splitPattern(String pattern) {
+            String path = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+            if (path.isEmpty()) {
+                return List.of();
+            }
+            return Arrays.asList(path.split("/", -1));
+        }
+
+        private static boolean isLiteral(String segment) {
+            return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+        }
+
+        private static boolean isSimpleCapture(String segment) {
+            return segment.length() > 2
+                    && segment.charAt(0) == '{'
+                    && segment.indexOf('}') == segment.length() - 1
+                    && segment.indexOf(':') < 0
+                    && segment.charAt(1) != '*';
+        }
+
+        private static boolean isRestCapture(String segment) {
+            return segment.startsWith("{*") && segment.endsWith("}");
+        }
+
+        // 세그먼트 패턴을 정규식으로 변환. '*' -> ".*", '?' -> ".", {name} -> "(.*)", {name:regex} -> "(regex)"
+        private static String toRegex(String segment, List<String> names, String pattern) {
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+
+                if (c == '{') {
+                    int end = findClosingBrace(segment, i, pattern);
+                    String variable = segment.substring(i + 1, end);
+                    int colon = variable.indexOf(':');
+
+                    flushLiteral(regex, literal);
+                    names.add(colon < 0 ? variable : variable.substring(0, colon));
+                    regex.append('(').append(colon < 0 ? ".*" : variable.substring(colon + 1)).append(')');
+                    i = end;
+                }
+                else if (c == '*') {
+                    flushLiteral(regex, literal);
+                    regex.append(".*");
+                }
+                else if (c == '?') {
+                    flushLiteral(regex, literal);
+                    regex.append('.');
+                }
+                else {
+                    literal.append(c);
+                }
+            }
+            flushLiteral(regex, literal);
+            return regex.toString();
+        }
+
+        private static int findClosingBrace(String segment, int start, String pattern) {
+            int depth = 0;
+            for (int i = start; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    depth++;
+                }
+                else if (c == '}' && --depth == 0) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("닫히지 않은 경로 변수가 있습니다: " + pattern);
+        }
+
+        private static void flushLiteral(StringBuilder regex, StringBuilder literal) {
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+        }
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final Map<String, PatternNode<T>> patterns = new LinkedHashMap<>();
+        private Node<T> wildcard;
+
+        private Entry<T> terminal;  // 경로가 이 노드에서 끝나는 경우
+        private Entry<T> multi;     // 이 노드 이후의 나머지 경로 전체("**")
+
+        private int minRank = Integer.MAX_VALUE;
+
+        private int computeMinRank() {
+            int min = Integer.MAX_VALUE;
+            if (terminal != null) {
+                min = terminal.rank;
+            }
+            if (multi != null) {
+                min = Math.min(min, multi.rank);
+            }
+            for (Node<T> child : literals.values()) {
+                min = Math.min(min, child.computeMinRank());
+            }
+            for (PatternNode<T> child : patterns.values()) {
+                min = Math.min(min, child.node.computeMinRank());
+            }
+            if (wildcard != null) {
+                min = Math.min(min, wildcard.computeMinRank());
+            }
+            minRank = min;
+            return min;
+        }
+    }
+
+    private static final class PatternNode<T> {
+
+        private final Pattern pattern;
+        private final Node<T> node = new Node<>();
+
+        private PatternNode(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    private static final class Search<T> {
+
+        private final List<String> segments;
+        private Entry<T> best;
+        private int evaluated;
+
+        private Search(List<String> segments) {
+            this.segments = segments;
+        }
+
+        private void walk(Node<T> node, int index) {
+            // 이미 찾은 후보보다 우선순위가 높은 패턴이 없는 서브트리는 생략.
+            if (best != null && node.minRank >= best.rank) {
+                return;
+            }
+            if (node.multi != null) {
+                offer(node.multi);
+            }
+            if (index == segments.size()) {
+                if (node.terminal != null) {
+                    offer(node.terminal);
+                }
+                return;
+            }
+
+            String segment = segments.get(index);
+            Node<T> literal = node.literals.get(segment);
+            if (literal != null) {
+                walk(literal, index + 1);
+            }
+            // 와일드카드와 경로 변수는 빈 세그먼트와 매칭되지 않는다.
+            if (!segment.isEmpty()) {
+                if (node.wildcard != null) {
+                    walk(node.wildcard, index + 1);
+                }
+                for (PatternNode<T> child : node.patterns.values()) {
+                    if (child.pattern.matcher(segment).matches()) {
+                        walk(child.node, index + 1);
+                    }
+                }
+            }
+        }
+
+        private void offer(Entry<T> entry) {
+            evaluated++;
+            if (best == null || entry.rank < best.rank) {
+                best = entry;
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final int rank;
+        private final T value;
+        private final List<Capture> captures;
+
+        private Entry(int rank, T value, List<Capture> captures) {
+            this.rank = rank;
+            this.value = value;
+            this.captures = captures;
+        }
+
+        // 경로 변수는 최종 매칭된 패턴에 대해서만 추출한다.
+        private Map<String, String> extractVariables(List<String> segments) {
+            if (captures.isEmpty()) {
+                return Map.of();
+            }
+
+            Map<String, String> variables = new LinkedHashMap<>();
+            for (Capture capture : captures) {
+                switch (capture.type) {
+                    case SEGMENT -> variables.put(capture.names.get(0), segments.get(capture.index));
+                    case REST -> variables.put(capture.names.get(0), capture.index < segments.size()
+                            ? "/" + String.join("/", segments.subList(capture.index, segments.size()))
+                            : "");
+                    case REGEX -> {
+                        Matcher matcher = capture.pattern.matcher(segments.get(capture.index));
+                        if (matcher.matches()) {
+                            for (int group = 0; group < capture.names.size(); group++) {
+                                variables.put(capture.names.get(group), matcher.group(group + 1));
+                            }
+                        }
+                    }
+                }
+            }
+            return variables;
+        }
+    }
+
+    private static final class Capture {
+
+        private enum Type { SEGMENT, REGEX, REST }
+
+        private final Type type;
+        private final int index;
+        private final List<String> names;
+        private final Pattern pattern;
+
+        private Capture(Type type, int index, List<String> names, Pattern pattern) {
+            this.type = type;
+            this.index = index;
+            this.names = names;
+            this.pattern = pattern;
+        }
+
+        private static Capture segment(int index, String name) {
+            return new Capture(Type.SEGMENT, index, List.of(name), null);
+        }
+
+        private static Capture rest(int index, String name) {
+            return new Capture(Type.REST, index, List.of(name), null);
+        }
+
+        private static Capture regex(int index, Pattern pattern, List<String> names) {
+            return new Capture(Type.REGEX, index, List.copyOf(names), pattern);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.variety.store.user_service.security;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 역할 ID 집합을 비트마스크로 표현한 불변 객체.
+ *
+ * 역할 ID 는 RoleRegistry 가 발급하는 0부터 시작하는 연속된 정수이므로,
+ * 대부분의 경우 long 하나로 표현되며 접근 검사는 할당 없는 비트 AND 연산이 된다.
+ */
+public final class RoleMask {
+
+    public static final RoleMask EMPTY = new RoleMask(new long[0]);
+
+    private final long[] words;
+
+    private RoleMask(long[] words) {
+        this.words = words;
+    }
+
+    // 하위 64개 역할은 low 에, 그 이상은 high 에 담긴 비트로 마스크 생성.
+    static RoleMask of(long low, BitSet high) {
+        if (high == null || high.isEmpty()) {
+            return low == 0 ? EMPTY : new RoleMask(new long[]{low});
+        }
+
+        long[] words = high.toLongArray();
+        words[0] |= low;
+        return new RoleMask(words);
+    }
+
+    public boolean intersects(RoleMask other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        return Arrays.equals(words, ((RoleMask) object).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return BitSet.valueOf(words).toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.variety.store.user_service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 역할 이름을 0부터 시작하는 연속된 정수 ID 로 변환(intern)하는 저장소.
+ *
+ * ID 는 한 번 발급되면 바뀌지 않으므로, 매핑의 역할 마스크와 사용자의 권한 마스크를 언제든 서로 비교할 수 있다.
+ * 애플리케이션 시작 시 Role 테이블의 역할이 먼저 등록되며(RoleRegistryInitializer),
+ * 그 외의 역할은 매핑에서 처음 참조될 때 등록된다.
+ */
+@Component
+public class RoleRegistry {
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public int intern(String roleName) {
+        return ids.computeIfAbsent(roleName, name -> sequence.getAndIncrement());
+    }
+
+    public void registerAll(Collection<String> roleNames) {
+        roleNames.forEach(this::intern);
+    }
+
+    // 매핑에 허용된 역할 목록으로 마스크 생성. 처음 보는 역할은 새 ID 를 발급한다.
+    public RoleMask internAll(Collection<String> roleNames) {
+        long low = 0L;
+        BitSet high = null;
+
+        for (String roleName : roleNames) {
+            int id = intern(roleName);
+            if (id < Long.SIZE) {
+                low |= 1L << id;
+            }
+            else {
+                if (high == null) {
+                    high = new BitSet();
+                }
+                high.set(id);
+            }
+        }
+        return RoleMask.of(low, high);
+    }
+
+    // 사용자의 권한 목록으로 마스크 생성. 등록되지 않은 권한은 어떤 매핑과도 매칭될 수 없으므로 무시한다.
+    public RoleMask maskOf(Collection<? extends GrantedAuthority> authorities) {
+        long low = 0L;
+        BitSet high = null;
+
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            Integer id = name != null ? ids.get(name) : null;
+            if (id == null) {
+                continue;
+            }
+            if (id < Long.SIZE) {
+                low |= 1L << id;
+            }
+            else {
+                if (high == null) {
+                    high = new BitSet();
+                }
+                high.set(id);
+            }
+        }
+        return RoleMask.of(low, high);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
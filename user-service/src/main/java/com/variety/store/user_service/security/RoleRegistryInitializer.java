@@ -0,0 +1,36 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 애플리케이션 시작 시 Role 테이블의 역할을 ID 순서대로 RoleRegistry 에 등록.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleRegistryInitializer {
+
+    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerRoles() {
+        roleRegistry.registerAll(roleRepository.findAll(Sort.by("id")).stream()
+                .map(Role::getName)
+                .filter(Objects::nonNull)
+                .toList());
+
+        log.info("Registered {} roles for authorization", roleRegistry.size());
+    }
+}
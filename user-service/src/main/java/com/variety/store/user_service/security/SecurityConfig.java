@@ -1,16 +1,22 @@
 package com.variety.store.user_service.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
 import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authorization.ReactiveAuthorizationManager;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
 
 import java.util.EnumSet;
 import java.util.stream.Stream;
@@ -20,22 +26,41 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 관리 엔드포인트(/actuator/**)와 사용자/리소스 목록 조회 접근 권한
+    static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
     private final ReactiveAuthorizationManager<AuthorizationContext> customAuthorizationManager;
+    private final AuthorizationClusterSync clusterSync;
+    private final KeycloakJwtAuthenticationConverter keycloakJwtAuthenticationConverter;
 
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) throws Exception {
         return http
                 .authorizeExchange(exchanges -> exchanges
                         .pathMatchers(makeStaticPaths()).permitAll()
+                        // 상태 확인만 공개하고, 나머지 관리 엔드포인트(지표, 인가 현황 조회/초기화)는 관리자만 사용한다.
+                        .matchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).hasAuthority(ADMIN_AUTHORITY)
+                        // 인스턴스 간 인가 매핑 변경 알림. 공유 비밀 값을 가진 인스턴스만 보낼 수 있다.
+                        .pathMatchers(HttpMethod.POST, AuthorizationClusterSync.NOTIFY_PATH).access(this::fromTrustedPeer)
+                        // 전체 사용자 목록(개인 정보)과 리소스-역할 매핑(인가 규칙)은 관리자만 조회한다.
+                        // Resource 테이블에 매핑이 없는 경로는 CustomAuthorizationManager 가 허용하므로 여기서 막는다.
+                        .pathMatchers(HttpMethod.GET, "/users", "/users/slice", "/users/scroll", "/resources", "/resources/**")
+                        .hasAuthority(ADMIN_AUTHORITY)
                         .anyExchange().access(customAuthorizationManager)
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(Customizer.withDefaults())
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(keycloakJwtAuthenticationConverter))
                 )
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .build();
     }
 
+    private Mono<AuthorizationDecision> fromTrustedPeer(Mono<Authentication> authentication, AuthorizationContext context) {
+        String secret = context.getExchange().getRequest().getHeaders().getFirst(AuthorizationClusterSync.SECRET_HEADER);
+        return Mono.just(new AuthorizationDecision(clusterSync.isTrustedPeer(secret)));
+    }
+
     private String[] makeStaticPaths() {
         EnumSet<StaticResourceLocation> resourceLocations = EnumSet.allOf(StaticResourceLocation.class);
 
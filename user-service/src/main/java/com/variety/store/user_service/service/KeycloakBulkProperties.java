@@ -0,0 +1,20 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Keycloak 일괄 작업 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.bulk")
+public class KeycloakBulkProperties {
+
+    // 동시에 처리하는 사용자 수 (요청에서 지정하지 않은 경우)
+    private int defaultConcurrency = 8;
+
+    // 요청에서 지정할 수 있는 최대 동시 처리 수
+    private int maxConcurrency = 32;
+}
@@ -0,0 +1,44 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Keycloak Admin API 조회 결과 캐시 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.cache")
+public class KeycloakCacheProperties {
+
+    private UserId userId = new UserId();
+    private RoleCatalog roleCatalog = new RoleCatalog();
+
+    @Getter
+    @Setter
+    public static class UserId {
+
+        // 캐시에 보관할 최대 사용자 수
+        private long maximumSize = 10_000;
+
+        // 사용자 아이디 -> UUID 보관 시간
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        // 존재하지 않는 사용자 결과 보관 시간 (짧게 유지)
+        private Duration negativeTimeToLive = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class RoleCatalog {
+
+        // 백그라운드 전체 갱신 주기
+        private Duration refreshInterval = Duration.ofMinutes(5);
+
+        // 카탈로그에 없는 역할 이름 조회 시 즉시 갱신을 허용하는 최소 간격
+        private Duration minimumRefreshInterval = Duration.ofSeconds(5);
+    }
+}
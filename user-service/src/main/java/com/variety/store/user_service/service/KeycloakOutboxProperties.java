@@ -0,0 +1,40 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Keycloak 동기화 아웃박스 릴레이 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.outbox")
+public class KeycloakOutboxProperties {
+
+    // 릴레이 실행 여부. 꺼져 있어도 아웃박스 기록은 계속된다.
+    private boolean relayEnabled = true;
+
+    // 미처리 작업 조회 주기 (커밋 직후에는 주기와 관계없이 바로 실행)
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    // 한 번에 점유하는 작업 수
+    private int batchSize = 100;
+
+    // 동시에 처리하는 대상(사용자/역할) 수. 같은 대상의 작업은 항상 순서대로 처리된다.
+    private int concurrency = 8;
+
+    // 점유 유지 시간. 릴레이가 중단되면 만료 후 다른 인스턴스가 다시 처리한다.
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    // 최대 시도 횟수. 초과하면 DEAD 로 전환
+    private int maxAttempts = 10;
+
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // 완료된 작업 보관 기간
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,243 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.entity.KeycloakOutbox;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox.Status;
+import com.variety.store.user_service.domain.event.KeycloakOutboxEnqueuedEvent;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스에 기록된 Keycloak 동기화 작업을 비동기로 반영.
+ *
+ * - 커밋 직후 이벤트로 깨어나고, 유실에 대비해 주기적으로도 조회한다. 요청이 몰려도 릴레이는 하나만 실행된다.
+ * - 작업은 batchSize 단위로 점유하며, 대상(사용자/역할)별로 순서대로 처리하고 대상 간에는 병렬로 처리한다.
+ * - 일시적인 실패는 지수 백오프로 재시도하고, 재시도할 수 없거나 최대 시도 횟수를 넘으면 DEAD 로 전환한다.
+ *   실패한 작업이 있는 대상의 이후 작업은 그 작업이 끝날 때까지 처리하지 않는다.
+ */
+@Slf4j
+@Component
+public class KeycloakOutboxRelay {
+
+    private final KeycloakOutboxService outboxService;
+    private final KeycloakService keycloakService;
+    private final KeycloakOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    // 지표 조회(이벤트 루프 스레드)에서 DB 를 조회하지 않도록, 조회 주기마다 갱신한 값을 보관.
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private final AtomicLong deadEntries = new AtomicLong();
+
+    public KeycloakOutboxRelay(KeycloakOutboxService outboxService,
+                               KeycloakService keycloakService,
+                               KeycloakOutboxProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.keycloakService = keycloakService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("keycloak.outbox.entries", pendingEntries, AtomicLong::get)
+                .tag("status", "pending")
+                .description("Keycloak 에 아직 반영되지 않은 아웃박스 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("keycloak.outbox.entries", deadEntries, AtomicLong::get)
+                .tag("status", "dead")
+                .description("재시도를 포기한 아웃박스 작업 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(KeycloakOutboxEnqueuedEvent event) {
+        requestRelay();
+    }
+
+    @Scheduled(fixedDelayString = "${keycloak.outbox.poll-interval:5s}",
+            initialDelayString = "${keycloak.outbox.poll-interval:5s}")
+    public void poll() {
+        refreshEntryCounts();
+        requestRelay();
+    }
+
+    @Scheduled(cron = "${keycloak.outbox.prune-cron:0 30 * * * *}")
+    public void pruneDone() {
+        int deleted = outboxService.pruneDone(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Pruned {} relayed Keycloak outbox entries", deleted);
+        }
+    }
+
+    void refreshEntryCounts() {
+        pendingEntries.set(outboxService.count(Status.PENDING));
+        deadEntries.set(outboxService.count(Status.DEAD));
+    }
+
+    // 릴레이 요청. 실행 중이면 끝난 뒤 한 번 더 실행되도록 표시만 한다.
+    public void requestRelay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            Schedulers.boundedElastic().schedule(this::drain);
+        }
+    }
+
+    /**
+     * 작업 한 묶음을 점유하여 처리. 처리(점유)한 작업 수를 반환한다.
+     */
+    public int relayBatch() {
+        String owner = UUID.randomUUID().toString();
+        List<KeycloakOutbox> claimed = outboxService.claim(owner, properties.getBatchSize());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<KeycloakOutbox>> byAggregate = new LinkedHashMap<>();
+        for (KeycloakOutbox entry : claimed) {
+            byAggregate.computeIfAbsent(entry.getAggregateType() + ":" + entry.getAggregateKey(), key -> new ArrayList<>())
+                    .add(entry);
+        }
+
+        List<RelayResult> results = Flux.fromIterable(byAggregate.values())
+                .flatMap(this::relayInOrder, Math.max(1, properties.getConcurrency()))
+                .collectList()
+                .block();
+
+        Set<Long> unprocessed = new HashSet<>();
+        claimed.forEach(entry -> unprocessed.add(entry.getId()));
+        for (RelayResult result : Objects.requireNonNull(results)) {
+            unprocessed.remove(result.getEntry().getId());
+            apply(result);
+        }
+
+        // 앞선 작업이 실패하여 처리하지 않은 작업은 점유만 해제.
+        if (!unprocessed.isEmpty()) {
+            outboxService.release(unprocessed);
+        }
+        return claimed.size();
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                // 한 묶음이 가득 찼으면 남은 작업이 있을 수 있으므로 이어서 처리.
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed >= properties.getBatchSize());
+            }
+        }
+        catch (Exception e) {
+            log.warn("Failed to relay Keycloak outbox entries", e);
+        }
+        finally {
+            running.set(false);
+        }
+        if (requested.get()) {
+            requestRelay();
+        }
+    }
+
+    // 같은 대상의 작업은 순서대로 처리하고, 실패하면 이후 작업은 보내지 않는다.
+    private Flux<RelayResult> relayInOrder(List<KeycloakOutbox> entries) {
+        return Flux.fromIterable(entries)
+                .concatMap(entry -> send(entry)
+                        .then(Mono.fromSupplier(() -> new RelayResult(entry, null)))
+                        .onErrorResume(error -> Mono.just(new RelayResult(entry, error))))
+                .takeUntil(result -> result.getError() != null);
+    }
+
+    private Mono<Void> send(KeycloakOutbox entry) {
+        return Mono.fromCallable(() -> outboxService.readPayload(entry))
+                .flatMap(payload -> switch (entry.getOperation()) {
+                    case CREATE_USER -> keycloakService.createUser(payload.get("username"), payload.get("email"), payload.get("password"));
+                    case CREATE_ROLE -> keycloakService.createRole(payload.get("name"), payload.get("description"));
+                })
+                // 이전 시도가 반영된 뒤 응답만 유실된 경우. 이미 생성되어 있으므로 완료로 본다.
+                .onErrorResume(WebClientResponseException.Conflict.class, e -> {
+                    log.info("Keycloak outbox entry already applied: id={}, key={}", entry.getId(), entry.getAggregateKey());
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(RelayResult result) {
+        KeycloakOutbox entry = result.getEntry();
+        Throwable error = result.getError();
+
+        if (error == null) {
+            outboxService.complete(entry.getId());
+            count(entry, "done");
+            return;
+        }
+
+        int attempts = entry.getAttempts() + 1;
+        if (isRetryable(error) && attempts < properties.getMaxAttempts()) {
+            outboxService.retryAt(entry.getId(), LocalDateTime.now().plus(backoff(attempts)), error.toString());
+            count(entry, "retry");
+            log.warn("Keycloak outbox entry failed, will retry: id={}, key={}, attempts={}, error={}",
+                    entry.getId(), entry.getAggregateKey(), attempts, error.toString());
+            return;
+        }
+
+        outboxService.deadLetter(entry.getId(), error.toString());
+        count(entry, "dead");
+        log.error("Keycloak outbox entry dead-lettered: id={}, operation={}, key={}, attempts={}",
+                entry.getId(), entry.getOperation(), entry.getAggregateKey(), attempts, error);
+    }
+
+    // 지수 백오프에 무작위 편차(50% ~ 100%)를 적용하여, 장애 복구 직후 재시도가 한꺼번에 몰리지 않도록 함.
+    Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long exponential = initial << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, max);
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    // Keycloak 장애(타임아웃, 5xx, 429), 서킷 차단, 벌크헤드 초과는 재시도 대상.
+    private static boolean isRetryable(Throwable error) {
+        return KeycloakResilience.isTransient(error)
+                || error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException;
+    }
+
+    private void count(KeycloakOutbox entry, String outcome) {
+        Counter.builder("keycloak.outbox.relayed")
+                .tag("operation", entry.getOperation().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RelayResult {
+
+        private final KeycloakOutbox entry;
+        private final Throwable error;  // 성공이면 null
+    }
+}
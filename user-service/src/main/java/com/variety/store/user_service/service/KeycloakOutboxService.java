@@ -0,0 +1,163 @@
+package com.variety.store.user_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox.AggregateType;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox.Operation;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox.Status;
+import com.variety.store.user_service.domain.event.KeycloakOutboxEnqueuedEvent;
+import com.variety.store.user_service.repository.KeycloakOutboxRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keycloak 동기화 아웃박스 기록/점유/결과 반영.
+ *
+ * 기록(enqueue)은 호출한 서비스의 트랜잭션에 참여해야 하므로, 트랜잭션 밖에서 호출되면 예외가 발생한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class KeycloakOutboxService {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {};
+    private static final String PASSWORD = "password";
+
+    private final KeycloakOutboxRepository outboxRepository;
+    private final KeycloakOutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 사용자 생성 작업 기록.
+     * 비밀번호는 기존과 같이 DB 에 저장된 값(인코딩된 값)을 그대로 전달하며, 처리가 끝나면(DONE, DEAD) 작업 내용에서 제거한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueUserCreation(String username, String email, String password) {
+        Map<String, String> payload = new LinkedHashMap<>();
+        payload.put("username", username);
+        payload.put("email", email);
+        payload.put(PASSWORD, password);
+
+        enqueue(AggregateType.USER, username, Operation.CREATE_USER, payload);
+    }
+
+    // 역할 생성 작업 기록.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRoleCreation(String roleName, String description) {
+        Map<String, String> payload = new LinkedHashMap<>();
+        payload.put("name", roleName);
+        payload.put("description", description);
+
+        enqueue(AggregateType.ROLE, roleName, Operation.CREATE_ROLE, payload);
+    }
+
+    /**
+     * 처리할 작업을 최대 batchSize 건 점유.
+     * 같은 대상의 앞선 작업이 아직 남아 있으면(재시도 대기, 다른 인스턴스가 처리 중) 그 대상의 작업은 점유를 해제한다.
+     */
+    public List<KeycloakOutbox> claim(String owner, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxRepository.findRelayableIds(now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        outboxRepository.claim(ids, owner, now.plus(properties.getClaimTimeout()), now);
+
+        Map<String, Boolean> blocked = new HashMap<>();
+        List<KeycloakOutbox> claimed = new ArrayList<>();
+        for (KeycloakOutbox entry : outboxRepository.findByClaimedByOrderByIdAsc(owner)) {
+            // 대상별로 가장 앞선(첫 번째) 작업 기준으로 한 번만 확인.
+            boolean waiting = blocked.computeIfAbsent(entry.getAggregateType() + ":" + entry.getAggregateKey(),
+                    key -> outboxRepository.existsByAggregateTypeAndAggregateKeyAndStatusAndIdLessThan(
+                            entry.getAggregateType(), entry.getAggregateKey(), Status.PENDING, entry.getId()));
+            if (waiting) {
+                entry.release();
+            }
+            else {
+                claimed.add(entry);
+            }
+        }
+        return claimed;
+    }
+
+    public void complete(Long outboxId) {
+        KeycloakOutbox entry = findById(outboxId);
+        entry.complete();
+        removePassword(entry);
+    }
+
+    public void retryAt(Long outboxId, LocalDateTime nextAttemptAt, String error) {
+        findById(outboxId).retryAt(nextAttemptAt, error);
+    }
+
+    public void deadLetter(Long outboxId, String error) {
+        KeycloakOutbox entry = findById(outboxId);
+        entry.deadLetter(error);
+        removePassword(entry);
+    }
+
+    public void release(Collection<Long> outboxIds) {
+        outboxRepository.findAllById(outboxIds).forEach(KeycloakOutbox::release);
+    }
+
+    @Transactional(readOnly = true)
+    public long count(Status status) {
+        return outboxRepository.countByStatus(status);
+    }
+
+    public int pruneDone(LocalDateTime before) {
+        return outboxRepository.deleteDoneBefore(before);
+    }
+
+    public Map<String, String> readPayload(KeycloakOutbox entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), PAYLOAD_TYPE);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("잘못된 아웃박스 작업 내용입니다. id=" + entry.getId(), e);
+        }
+    }
+
+    private void enqueue(AggregateType aggregateType, String aggregateKey, Operation operation, Map<String, String> payload) {
+        KeycloakOutbox entry = outboxRepository.save(new KeycloakOutbox(aggregateType, aggregateKey, operation, writePayload(operation, payload)));
+
+        log.debug("Enqueued Keycloak outbox entry: id={}, operation={}, key={}", entry.getId(), operation, aggregateKey);
+        eventPublisher.publishEvent(new KeycloakOutboxEnqueuedEvent(entry.getId(), operation, aggregateKey));
+    }
+
+    // 처리가 끝난 작업은 보관 기간(DONE) 또는 무기한(DEAD) 남으므로, 비밀번호 해시를 남기지 않는다.
+    private void removePassword(KeycloakOutbox entry) {
+        Map<String, String> payload = readPayload(entry);
+        if (payload.remove(PASSWORD) != null) {
+            entry.replacePayload(writePayload(entry.getOperation(), payload));
+        }
+    }
+
+    private String writePayload(Operation operation, Map<String, String> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 작업 내용을 변환할 수 없습니다: " + operation, e);
+        }
+    }
+
+    private KeycloakOutbox findById(Long outboxId) {
+        return outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new EntityNotFoundException("Outbox entry not found with id: " + outboxId));
+    }
+}
@@ -0,0 +1,26 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Keycloak 사용자/역할 매핑 스트림 조회(KeycloakRealmReader) 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.paging")
+public class KeycloakPagingProperties {
+
+    // 한 번에 조회하는 사용자 수 (first/max)
+    private int pageSize = 100;
+
+    // 요청 가능한 최대 페이지 크기
+    private int maxPageSize = 1000;
+
+    // 현재 페이지를 처리하는 동안 미리 요청해 두는 페이지 수. 1 이면 한 페이지씩 순서대로 요청한다.
+    private int prefetchPages = 1;
+
+    // 사용자별 역할 매핑을 동시에 조회하는 수
+    private int roleMappingConcurrency = 8;
+}
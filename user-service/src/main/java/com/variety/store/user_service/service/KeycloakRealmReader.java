@@ -0,0 +1,149 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.service.KeycloakService.RoleRepresentation;
+import com.variety.store.user_service.service.KeycloakService.UserRepresentation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Realm 전체 사용자/역할 매핑을 페이지 단위(first/max)로 나눠 읽는 스트림 조회.
+ *
+ * - 구독자가 요청한 만큼만 다음 페이지를 요청하며(backpressure), 동시에 메모리에 있는 요소는
+ *   (prefetchPages + 1) 페이지 분량으로 제한된다.
+ * - 각 페이지는 JSON 배열 전체를 모은 뒤 변환하지 않고, 요소 단위로 변환되는 대로 내보낸다.
+ * - 요청한 크기보다 적은 페이지를 받으면 마지막 페이지로 본다.
+ */
+@Component
+public class KeycloakRealmReader {
+
+    private final WebClient webClient;
+    private final KeycloakResilience resilience;
+    private final KeycloakPagingProperties properties;
+
+    public KeycloakRealmReader(@Qualifier("keycloakWebClient") WebClient webClient,
+                               KeycloakResilience resilience,
+                               KeycloakPagingProperties properties) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.properties = properties;
+    }
+
+    public Flux<UserRepresentation> streamUsers() {
+        return streamUsers(properties.getPageSize());
+    }
+
+    // Realm 의 모든 사용자 조회. (briefRepresentation: 자격 증명 등 상세 정보 제외)
+    public Flux<UserRepresentation> streamUsers(int pageSize) {
+        return paginate("users.page", pageSize, (first, max) -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/users")
+                        .queryParam("first", first)
+                        .queryParam("max", max)
+                        .queryParam("briefRepresentation", true)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToFlux(UserRepresentation.class));
+    }
+
+    // 특정 역할이 (직접) 할당된 사용자 조회.
+    public Flux<UserRepresentation> streamRoleMembers(String roleName) {
+        return paginate("roles.members.page", properties.getPageSize(), (first, max) -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/roles/{roleName}/users")
+                        .queryParam("first", first)
+                        .queryParam("max", max)
+                        .queryParam("briefRepresentation", true)
+                        .build(roleName))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToFlux(UserRepresentation.class));
+    }
+
+    /**
+     * 모든 사용자와 사용자별 Realm 역할 매핑 조회. 사용자 순서는 유지되며, 역할 매핑은 roleMappingConcurrency 만큼 동시에 조회한다.
+     */
+    public Flux<UserRoleMapping> streamUserRoleMappings() {
+        int concurrency = Math.max(1, properties.getRoleMappingConcurrency());
+
+        return streamUsers()
+                .flatMapSequential(user -> streamUserRoles(user.getId())
+                        .collectList()
+                        .map(roles -> new UserRoleMapping(user, roles)), concurrency);
+    }
+
+    // 사용자에게 직접 할당된 Realm 역할 조회. (역할 매핑 API 는 페이지를 지원하지 않는다)
+    public Flux<RoleRepresentation> streamUserRoles(String userId) {
+        return resilience.idempotentStream("role-mappings.list", () -> webClient.get()
+                .uri("/users/{userId}/role-mappings/realm", userId)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .bodyToFlux(RoleRepresentation.class));
+    }
+
+    /**
+     * first/max 페이지 조회를 이어 붙인 스트림.
+     * prefetchPages 만큼의 다음 페이지는 현재 페이지를 내보내는 동안 미리 요청하며, 결과 순서는 페이지 순서를 따른다.
+     */
+    private <T> Flux<T> paginate(String operation, int pageSize, PageFetcher<T> fetcher) {
+        if (pageSize < 1 || pageSize > properties.getMaxPageSize()) {
+            return Flux.error(new IllegalArgumentException(
+                    "페이지 크기는 1 이상 " + properties.getMaxPageSize() + " 이하여야 합니다: " + pageSize));
+        }
+        int prefetchPages = Math.max(1, properties.getPrefetchPages());
+
+        return Flux.defer(() -> {
+            AtomicBoolean lastPageReached = new AtomicBoolean();
+
+            Flux<Integer> offsets = Flux.generate(() -> 0, (first, sink) -> {
+                if (lastPageReached.get()) {
+                    sink.complete();
+                }
+                else {
+                    sink.next(first);
+                }
+                return first + pageSize;
+            });
+
+            return offsets.flatMapSequential(first -> {
+                // 마지막 페이지가 확인된 뒤 미리 요청된 페이지는 보내지 않는다.
+                if (lastPageReached.get()) {
+                    return Flux.<T>empty();
+                }
+                AtomicInteger received = new AtomicInteger();
+                return resilience.idempotentStream(operation, () -> fetcher.fetch(first, pageSize))
+                        .doOnNext(element -> received.incrementAndGet())
+                        .doOnComplete(() -> {
+                            if (received.get() < pageSize) {
+                                lastPageReached.set(true);
+                            }
+                        });
+            }, prefetchPages, pageSize);
+        });
+    }
+
+    @FunctionalInterface
+    private interface PageFetcher<T> {
+        Flux<T> fetch(int first, int max);
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class UserRoleMapping {
+
+        private final UserRepresentation user;
+        private final List<RoleRepresentation> roles;
+    }
+}
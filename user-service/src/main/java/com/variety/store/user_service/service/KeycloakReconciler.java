@@ -0,0 +1,495 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.repository.UserRepository;
+import com.variety.store.user_service.service.KeycloakService.RoleRepresentation;
+import com.variety.store.user_service.service.KeycloakService.UserRepresentation;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 사용자/역할과 Keycloak 간 정합성 점검 및 복구.
+ *
+ * - 양쪽을 같은 키(사용자 이름, 역할 이름) 순서로 읽으면서 한 번에 비교(merge)하므로,
+ *   어느 쪽도 전체를 메모리에 올리지 않는다. 로컬은 keyset 페이지, Keycloak 은 first/max 페이지로 읽는다.
+ * - 발견한 차이는 fixBatchSize 단위로 모아 반영하며, 초당 요청 수(fixesPerSecond)와 동시 실행 수를 제한한다.
+ *   단, Keycloak 사용자를 생성/삭제하면 이후 first/max 페이지가 밀리므로 사용자 수정 작업은 Keycloak 조회가 끝난 뒤 반영한다.
+ *   조회 중에는 차이 유형과 사용자 이름만 기억하고, 반영할 때 로컬 사용자를 fixBatchSize 건씩 다시 읽는다.
+ * - 실행 결과(차이 유형별 건수, 반영/실패 건수, 소요 시간)는 Report 로 반환하고 메트릭으로도 기록한다.
+ *
+ * Keycloak 은 사용자 이름을 소문자로 저장하고 이름순으로 반환하므로, 로컬 사용자 이름도 소문자로 비교한다.
+ * 어느 한쪽이라도 정렬 순서가 맞지 않으면 잘못된 차이를 반영하지 않도록 점검을 중단한다.
+ */
+@Slf4j
+@Component
+public class KeycloakReconciler {
+
+    private static final String METRIC_PREFIX = "keycloak.reconciliation";
+    private static final String DEFAULT_ROLE_PREFIX = "default-roles-";
+
+    public enum Drift {
+        USER_MISSING_IN_KEYCLOAK,   // 로컬 사용자가 Keycloak 에 없음 -> 생성
+        USER_DELETED_LOCALLY,       // 로컬에서 탈퇴(soft delete)한 사용자가 Keycloak 에 남아 있음 -> 삭제
+        USER_ORPHANED_IN_KEYCLOAK,  // Keycloak 에만 있는 사용자 -> deleteOrphans 일 때만 삭제
+        USER_EMAIL_MISMATCH,        // 이메일이 다름 -> 집계만
+        ROLE_MISSING_IN_KEYCLOAK,   // 로컬 역할이 Keycloak 에 없음 -> 생성
+        ROLE_DESCRIPTION_MISMATCH,  // 역할 설명이 다름 -> 수정
+        ROLE_ORPHANED_IN_KEYCLOAK   // Keycloak 에만 있는 역할 -> deleteOrphans 일 때만 삭제
+    }
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final KeycloakService keycloakService;
+    private final KeycloakRealmReader realmReader;
+    private final KeycloakReconciliationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public KeycloakReconciler(UserRepository userRepository,
+                              RoleRepository roleRepository,
+                              KeycloakService keycloakService,
+                              KeycloakRealmReader realmReader,
+                              KeycloakReconciliationProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.keycloakService = keycloakService;
+        this.realmReader = realmReader;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = RateLimiter.of(METRIC_PREFIX, RateLimiterConfig.custom()
+                .limitForPeriod(Math.max(1, properties.getFixesPerSecond()))
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(30))
+                .build());
+    }
+
+    @Scheduled(cron = "${keycloak.reconciliation.cron:-}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        }
+        catch (Exception e) {
+            log.error("Keycloak reconciliation failed", e);
+        }
+    }
+
+    /**
+     * 점검 실행. 다른 점검이 실행 중이면 IllegalStateException 이 발생한다.
+     * 요청 스레드를 오래 점유하므로 이벤트 루프가 아닌 스레드에서 호출해야 한다.
+     */
+    public Report reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Keycloak 정합성 점검이 이미 실행 중입니다.");
+        }
+
+        Report report = new Report(properties.isApplyFixes());
+        long startedAt = System.nanoTime();
+        String outcome = "failure";
+        try {
+            FixBatch fixes = new FixBatch(report);
+            reconcileRoles(report, fixes);
+            reconcileUsers(report, fixes);
+            outcome = "success";
+        }
+        finally {
+            report.duration = Duration.ofNanos(System.nanoTime() - startedAt);
+            running.set(false);
+
+            Timer.builder(METRIC_PREFIX + ".duration")
+                    .description("Keycloak 정합성 점검 소요 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(report.duration.toNanos(), TimeUnit.NANOSECONDS);
+            log.info("Keycloak reconciliation {}: {}", outcome, report);
+        }
+        return report;
+    }
+
+    private void reconcileUsers(Report report, FixBatch fixes) {
+        // 조회 중에 사용자를 생성/삭제하면 offset 페이지가 어긋나 사용자를 건너뛰거나 두 번 읽으므로, 조회가 끝날 때까지 미룬다.
+        // 로컬 행(비밀번호 해시 포함)을 잡아 두지 않도록 차이 유형과 사용자 이름만 기억한다.
+        List<UserFix> userFixes = new ArrayList<>();
+        // 점검이 중단되면 스트림을 닫아 Keycloak 조회도 취소한다.
+        try (Stream<UserRepresentation> remote = realmReader.streamUsers(properties.getKeycloakPageSize())
+                .toStream(properties.getKeycloakPageSize())) {
+            reconcileUsers(new LocalUserCursor(), remote.iterator(), report, userFixes);
+        }
+
+        // 같은 점검에서 사용자를 생성하면 Keycloak 에만 있는 사용자 판정을 믿을 수 없으므로 삭제하지 않는다.
+        if (report.countOf(Drift.USER_MISSING_IN_KEYCLOAK) > 0) {
+            int before = userFixes.size();
+            userFixes.removeIf(fix -> fix.drift() == Drift.USER_ORPHANED_IN_KEYCLOAK);
+            if (userFixes.size() < before) {
+                log.warn("Skipped deleting {} orphaned Keycloak users because users were created in the same run",
+                        before - userFixes.size());
+            }
+        }
+        applyUserFixes(userFixes, fixes);
+    }
+
+    private void reconcileUsers(Iterator<UserRepository.SyncView> local, Iterator<UserRepresentation> remote,
+                                Report report, List<UserFix> userFixes) {
+        mergeSorted(local, KeycloakReconciler::usernameKey,
+                remote, UserRepresentation::getUsername, new MergeHandler<>() {
+
+                    @Override
+                    public void localOnly(UserRepository.SyncView user) {
+                        report.localUsers++;
+                        if (!user.isDeleted()) {
+                            defer(userFixes, found(report, Drift.USER_MISSING_IN_KEYCLOAK), user.getUsername());
+                        }
+                    }
+
+                    @Override
+                    public void remoteOnly(UserRepresentation user) {
+                        report.keycloakUsers++;
+                        if (properties.getIgnoredUsernamePrefixes().stream().noneMatch(user.getUsername()::startsWith)) {
+                            Drift drift = found(report, Drift.USER_ORPHANED_IN_KEYCLOAK);
+                            if (properties.isDeleteOrphans()) {
+                                defer(userFixes, drift, user.getUsername());
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void both(UserRepository.SyncView localUser, UserRepresentation keycloakUser) {
+                        report.localUsers++;
+                        report.keycloakUsers++;
+                        if (localUser.isDeleted()) {
+                            defer(userFixes, found(report, Drift.USER_DELETED_LOCALLY), keycloakUser.getUsername());
+                        }
+                        else if (keycloakUser.getEmail() != null && !keycloakUser.getEmail().equalsIgnoreCase(localUser.getEmail())) {
+                            found(report, Drift.USER_EMAIL_MISMATCH);
+                        }
+                    }
+                });
+    }
+
+    private void defer(List<UserFix> userFixes, Drift drift, String username) {
+        if (properties.isApplyFixes()) {
+            userFixes.add(new UserFix(drift, username));
+        }
+    }
+
+    /**
+     * 미뤄 둔 사용자 수정 작업을 fixBatchSize 건씩 반영. 생성할 사용자는 묶음마다 로컬에서 다시 읽으므로,
+     * 조회 이후 탈퇴했거나 이름이 바뀐 사용자는 생성하지 않는다.
+     */
+    private void applyUserFixes(List<UserFix> userFixes, FixBatch fixes) {
+        int batchSize = Math.max(1, properties.getFixBatchSize());
+        for (int from = 0; from < userFixes.size(); from += batchSize) {
+            List<UserFix> batch = userFixes.subList(from, Math.min(from + batchSize, userFixes.size()));
+
+            List<String> missing = batch.stream()
+                    .filter(fix -> fix.drift() == Drift.USER_MISSING_IN_KEYCLOAK)
+                    .map(UserFix::username)
+                    .toList();
+            Map<String, UserRepository.SyncView> localUsers = new HashMap<>();
+            if (!missing.isEmpty()) {
+                userRepository.findSyncViewsByUsernameIn(missing).forEach(view -> localUsers.put(view.getUsername(), view));
+            }
+
+            for (UserFix fix : batch) {
+                if (fix.drift() != Drift.USER_MISSING_IN_KEYCLOAK) {
+                    fixes.add(fix.drift(), fix.username(), () -> keycloakService.deleteUser(fix.username()));
+                    continue;
+                }
+                UserRepository.SyncView user = localUsers.get(fix.username());
+                if (user == null || user.isDeleted()) {
+                    log.debug("Skipped creating Keycloak user changed during reconciliation: {}", fix.username());
+                    continue;
+                }
+                fixes.add(fix.drift(), fix.username(),
+                        () -> keycloakService.createUser(user.getUsername(), user.getEmail(), user.getPassword())
+                                // 점검 중에 아웃박스 릴레이가 먼저 생성한 경우.
+                                .onErrorResume(WebClientResponseException.Conflict.class, e -> Mono.empty()));
+            }
+            fixes.flush();
+        }
+    }
+
+    // 로컬 사용자 비교 키. findSyncViewsAfter() 의 lower(username) 정렬과 같아야 한다.
+    private static String usernameKey(UserRepository.SyncView view) {
+        return view.getUsername().toLowerCase(Locale.ROOT);
+    }
+
+    // 역할은 수가 적으므로 Keycloak 역할 목록(카탈로그)을 한 번에 조회하여 이름순으로 비교한다.
+    private void reconcileRoles(Report report, FixBatch fixes) {
+        Iterator<Role> local = roleRepository.findAll(Sort.by("name")).iterator();
+        Iterator<RoleRepresentation> remote = Objects.requireNonNull(keycloakService.getAllRolesByNames().block()).stream()
+                .filter(role -> !role.getName().startsWith(DEFAULT_ROLE_PREFIX))
+                .filter(role -> !properties.getIgnoredRoles().contains(role.getName()))
+                .sorted(Comparator.comparing(RoleRepresentation::getName))
+                .iterator();
+
+        mergeSorted(local, Role::getName, remote, RoleRepresentation::getName, new MergeHandler<>() {
+
+            @Override
+            public void localOnly(Role role) {
+                fixes.add(found(report, Drift.ROLE_MISSING_IN_KEYCLOAK), role.getName(),
+                        () -> keycloakService.createRole(role.getName(), role.getDescription()));
+            }
+
+            @Override
+            public void remoteOnly(RoleRepresentation role) {
+                Drift drift = found(report, Drift.ROLE_ORPHANED_IN_KEYCLOAK);
+                if (properties.isDeleteOrphans()) {
+                    fixes.add(drift, role.getName(), () -> keycloakService.deleteRole(role.getName()));
+                }
+            }
+
+            @Override
+            public void both(Role localRole, RoleRepresentation keycloakRole) {
+                if (!Objects.equals(Objects.toString(localRole.getDescription(), ""), Objects.toString(keycloakRole.getDescription(), ""))) {
+                    fixes.add(found(report, Drift.ROLE_DESCRIPTION_MISMATCH), localRole.getName(),
+                            () -> keycloakService.updateRole(localRole.getName(),
+                                    new RoleRepresentation(null, localRole.getName(), localRole.getDescription())));
+                }
+            }
+        });
+        fixes.flush();
+    }
+
+    /**
+     * 같은 키 순서로 정렬된 두 스트림을 한 번에 비교. 정렬 순서가 맞지 않으면 IllegalStateException 이 발생한다.
+     */
+    static <L, R> void mergeSorted(Iterator<L> local, Function<L, String> localKey,
+                                   Iterator<R> remote, Function<R, String> remoteKey,
+                                   MergeHandler<L, R> handler) {
+        SortedCursor<L> left = new SortedCursor<>("local", local, localKey, false);
+        SortedCursor<R> right = new SortedCursor<>("keycloak", remote, remoteKey, true);
+
+        while (left.current != null || right.current != null) {
+            int compared = left.current == null ? 1
+                    : right.current == null ? -1
+                    : left.key.compareTo(right.key);
+
+            if (compared < 0) {
+                handler.localOnly(left.current);
+                left.advance();
+            }
+            else if (compared > 0) {
+                handler.remoteOnly(right.current);
+                right.advance();
+            }
+            else {
+                handler.both(left.current, right.current);
+                left.advance();
+                right.advance();
+            }
+        }
+    }
+
+    interface MergeHandler<L, R> {
+        void localOnly(L local);
+        void remoteOnly(R remote);
+        void both(L local, R remote);
+    }
+
+    // 현재 요소와 키. 이전 키보다 작은 키를 만나면 중단한다.
+    // skipDuplicates 이면 이전 키와 같은 요소는 건너뛴다. (offset 페이지 조회 중 앞쪽에 요소가 추가되면 같은 요소가 다시 온다)
+    private static class SortedCursor<T> {
+
+        private final String side;
+        private final Iterator<T> iterator;
+        private final Function<T, String> keyOf;
+        private final boolean skipDuplicates;
+
+        private T current;
+        private String key;
+
+        SortedCursor(String side, Iterator<T> iterator, Function<T, String> keyOf, boolean skipDuplicates) {
+            this.side = side;
+            this.iterator = iterator;
+            this.keyOf = keyOf;
+            this.skipDuplicates = skipDuplicates;
+            advance();
+        }
+
+        void advance() {
+            String previous = key;
+            read();
+            while (skipDuplicates && key != null && key.equals(previous)) {
+                log.debug("Skipped duplicate element while reconciling: side={}, key={}", side, key);
+                read();
+            }
+
+            if (key != null && previous != null && key.compareTo(previous) < 0) {
+                throw new IllegalStateException("정렬 순서가 맞지 않아 점검을 중단합니다. (" + side + ": " + previous + " > " + key + ")");
+            }
+        }
+
+        private void read() {
+            current = iterator.hasNext() ? iterator.next() : null;
+            key = current != null ? keyOf.apply(current) : null;
+        }
+    }
+
+    // 로컬 사용자를 소문자 username 순서로 localPageSize 건씩 읽는 커서. 페이지마다 짧은 조회 트랜잭션으로 실행된다.
+    private class LocalUserCursor implements Iterator<UserRepository.SyncView> {
+
+        private Iterator<UserRepository.SyncView> page = Collections.emptyIterator();
+        private String lastKey = "";
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                List<UserRepository.SyncView> views = userRepository.findSyncViewsAfter(lastKey,
+                        PageRequest.of(0, properties.getLocalPageSize()));
+                lastPage = views.size() < properties.getLocalPageSize();
+                if (!views.isEmpty()) {
+                    lastKey = usernameKey(views.get(views.size() - 1));
+                }
+                page = views.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public UserRepository.SyncView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+
+    /**
+     * 수정 작업 모음. fixBatchSize 만큼 모이면 요청 수를 제한하며 한 번에 반영한다.
+     * applyFixes 가 false 이면 작업을 모으지 않는다. 점검이 중단되면 아직 반영하지 않은 작업은 버린다.
+     */
+    private class FixBatch {
+
+        private final Report report;
+        private final List<Fix> pending = new ArrayList<>();
+
+        FixBatch(Report report) {
+            this.report = report;
+        }
+
+        void add(Drift drift, String key, Supplier<Mono<Void>> action) {
+            if (!properties.isApplyFixes()) {
+                return;
+            }
+            pending.add(new Fix(drift, key, action));
+            if (pending.size() >= Math.max(1, properties.getFixBatchSize())) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Fix> batch = List.copyOf(pending);
+            pending.clear();
+
+            List<Boolean> results = Flux.fromIterable(batch)
+                    .flatMap(fix -> Mono.defer(fix.action)
+                            .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                            .thenReturn(true)
+                            .onErrorResume(e -> {
+                                log.warn("Failed to apply Keycloak reconciliation fix: drift={}, key={}, error={}",
+                                        fix.drift, fix.key, e.toString());
+                                return Mono.just(false);
+                            })
+                            .doOnNext(applied -> countFix(fix.drift, applied)), Math.max(1, properties.getFixConcurrency()))
+                    .collectList()
+                    .block();
+
+            for (Boolean applied : Objects.requireNonNull(results)) {
+                if (applied) {
+                    report.fixesApplied++;
+                }
+                else {
+                    report.fixesFailed++;
+                }
+            }
+        }
+    }
+
+    private record Fix(Drift drift, String key, Supplier<Mono<Void>> action) {
+    }
+
+    // Keycloak 조회가 끝난 뒤 반영할 사용자 수정 작업. (사용자 이름만 기억)
+    private record UserFix(Drift drift, String username) {
+    }
+
+    private Drift found(Report report, Drift type) {
+        report.drift.merge(type, 1L, Long::sum);
+        Counter.builder(METRIC_PREFIX + ".drift")
+                .description("Keycloak 정합성 점검에서 발견한 차이 수")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+        return type;
+    }
+
+    private void countFix(Drift drift, boolean applied) {
+        Counter.builder(METRIC_PREFIX + ".fixes")
+                .description("Keycloak 정합성 점검에서 반영한 수정 작업 수")
+                .tag("drift", drift.name())
+                .tag("outcome", applied ? "success" : "failure")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 점검 결과.
+     */
+    @Getter
+    public static class Report {
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final boolean applyFixes;
+        private Duration duration;
+
+        private long localUsers;
+        private long keycloakUsers;
+        private final Map<Drift, Long> drift = new EnumMap<>(Drift.class);
+        private long fixesApplied;
+        private long fixesFailed;
+
+        Report(boolean applyFixes) {
+            this.applyFixes = applyFixes;
+        }
+
+        public long countOf(Drift type) {
+            return drift.getOrDefault(type, 0L);
+        }
+
+        @Override
+        public String toString() {
+            return "Report{startedAt=" + startedAt + ", duration=" + duration + ", applyFixes=" + applyFixes
+                    + ", localUsers=" + localUsers + ", keycloakUsers=" + keycloakUsers + ", drift=" + drift
+                    + ", fixesApplied=" + fixesApplied + ", fixesFailed=" + fixesFailed + "}";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 사용자/역할과 Keycloak 간 정합성 점검(KeycloakReconciler) 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.reconciliation")
+public class KeycloakReconciliationProperties {
+
+    // 주기적 실행 cron. "-" 이면 주기적으로 실행하지 않는다. (API 로만 실행)
+    private String cron = "-";
+
+    // false 이면 차이만 집계하고 Keycloak 에 반영하지 않는다.
+    private boolean applyFixes = true;
+
+    // Keycloak 에만 있는 사용자/역할 삭제 여부. (관리자, 서비스 계정 등이 있을 수 있으므로 기본값은 집계만)
+    private boolean deleteOrphans = false;
+
+    // 로컬 사용자를 한 번에 읽는 수 (username 기준 keyset 페이지)
+    private int localPageSize = 1000;
+
+    // Keycloak 사용자를 한 번에 읽는 수 (first/max)
+    private int keycloakPageSize = 500;
+
+    // 한 번에 모아서 반영하는 수정 작업 수
+    private int fixBatchSize = 100;
+
+    // 수정 작업 동시 실행 수
+    private int fixConcurrency = 4;
+
+    // 초당 최대 수정 요청 수. 점검 중에도 다른 Keycloak 호출이 밀리지 않도록 제한한다.
+    private int fixesPerSecond = 50;
+
+    // 점검에서 제외할 Keycloak 사용자 이름 접두사 (Keycloak 에만 있는 것이 정상인 계정)
+    private List<String> ignoredUsernamePrefixes = new ArrayList<>(List.of("service-account-"));
+
+    // 점검에서 제외할 Keycloak 역할 (Realm 기본 역할)
+    private List<String> ignoredRoles = new ArrayList<>(List.of("offline_access", "uma_authorization"));
+}
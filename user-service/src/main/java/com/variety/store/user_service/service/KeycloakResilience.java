@@ -0,0 +1,144 @@
+package com.variety.store.user_service.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keycloak Admin API 호출 보호.
+ *
+ * 호출마다 다음 순서로 적용된다. (바깥쪽부터)
+ * 재시도(멱등 작업만) -> 서킷 브레이커 -> 작업별 타임아웃 -> 벌크헤드 -> 호출
+ *
+ * - 서킷 브레이커와 벌크헤드는 모든 작업이 공유한다. Keycloak 장애 시 대기 없이 즉시 실패한다.
+ * - 재시도와 서킷 브레이커는 일시적인 오류(타임아웃, 연결 오류, 5xx, 429)만 대상으로 한다.
+ *   404, 409 같은 4xx 응답은 Keycloak 장애가 아니므로 집계하지 않는다.
+ */
+@Component
+public class KeycloakResilience {
+
+    static final String INSTANCE_NAME = "keycloak";
+
+    private final KeycloakResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryRegistry retryRegistry;
+
+    public KeycloakResilience(KeycloakResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        KeycloakResilienceProperties.CircuitBreaker breaker = properties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(breaker.getFailureRateThreshold())
+                .slowCallDurationThreshold(breaker.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(breaker.getSlowCallRateThreshold())
+                .slidingWindowSize(breaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(breaker.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedNumberOfCallsInHalfOpenState())
+                .recordException(KeycloakResilience::isTransient)
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getBulkhead().getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)  // 이벤트 루프 스레드를 막지 않도록 대기하지 않는다.
+                .build());
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+
+        KeycloakResilienceProperties.Retry retry = properties.getRetry();
+        this.retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(retry.getMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(retry.getInitialBackoff(),
+                        retry.getMultiplier(), retry.getJitter(), retry.getMaxBackoff()))
+                .retryOnException(KeycloakResilience::isTransient)
+                .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    // 조회, PUT, DELETE 처럼 다시 보내도 결과가 같은 작업. 일시적인 오류는 재시도한다.
+    public <T> Function<Mono<T>, Mono<T>> idempotent(String operation) {
+        Retry retry = retryRegistry.retry(operation);
+        return mono -> protect(operation, mono).transformDeferred(RetryOperator.of(retry));
+    }
+
+    // 생성(POST)처럼 다시 보내면 중복될 수 있는 작업. 재시도하지 않는다.
+    public <T> Function<Mono<T>, Mono<T>> nonIdempotent(String operation) {
+        return mono -> protect(operation, mono);
+    }
+
+    /**
+     * 여러 요소를 나눠 받는 조회(페이지 단위 스트림). 일시적인 오류는 같은 요청을 다시 보내 재시도하며,
+     * 재시도 전에 이미 내보낸 요소는 건너뛰어 중복 없이 이어서 내보낸다. (같은 요청이 같은 순서로 응답한다는 전제)
+     * 타임아웃은 요소 사이의 최대 대기 시간으로 적용된다.
+     */
+    public <T> Flux<T> idempotentStream(String operation, Supplier<Flux<T>> call) {
+        Retry retry = retryRegistry.retry(operation);
+        return Flux.defer(() -> {
+            AtomicLong emitted = new AtomicLong();
+            return Flux.defer(() -> protect(operation, call.get()).skip(emitted.get()))
+                    .doOnNext(element -> emitted.incrementAndGet())
+                    .transformDeferred(RetryOperator.of(retry));
+        });
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    private <T> Mono<T> protect(String operation, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .timeout(properties.timeoutOf(operation))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private <T> Flux<T> protect(String operation, Flux<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .timeout(properties.timeoutOf(operation))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    static boolean isTransient(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.variety.store.user_service.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keycloak Admin API 호출의 타임아웃/재시도/서킷 브레이커/벌크헤드 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "keycloak.resilience")
+public class KeycloakResilienceProperties {
+
+    // 작업별 타임아웃이 지정되지 않은 경우의 타임아웃 (재시도 1회 기준)
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    // 작업 이름(예: users.lookup, roles.list) -> 타임아웃
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    private Retry retry = new Retry();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+
+    public Duration timeoutOf(String operation) {
+        return timeouts.getOrDefault(operation, defaultTimeout);
+    }
+
+    /**
+     * 멱등 작업에만 적용되는 재시도. 대기 시간은 지수적으로 늘어나며 무작위 편차(jitter)가 더해진다.
+     */
+    @Getter
+    @Setter
+    public static class Retry {
+
+        // 최초 호출을 포함한 최대 시도 횟수
+        private int maxAttempts = 3;
+
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private double multiplier = 2.0;
+
+        // 대기 시간에 더해지는 무작위 편차 비율 (0.5 이면 ±50%)
+        private double jitter = 0.5;
+
+        private Duration maxBackoff = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        // 실패율(%)이 이 값 이상이면 차단
+        private float failureRateThreshold = 50;
+
+        // 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(3);
+        private float slowCallRateThreshold = 80;
+
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+
+        // 차단 후 일부 호출을 다시 허용하기까지의 시간
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        // 동시에 진행할 수 있는 최대 Keycloak 호출 수. 초과한 호출은 기다리지 않고 즉시 실패한다.
+        private int maxConcurrentCalls = 64;
+    }
+}
@@ -0,0 +1,231 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.service.KeycloakService.RoleRepresentation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keycloak Realm 역할 목록의 메모리 카탈로그. 역할 이름과 id 로 색인된다.
+ *
+ * - 백그라운드에서 refreshInterval 마다 전체 목록을 다시 읽는다.
+ * - 이 서비스를 통한 역할 생성/수정/삭제는 즉시 반영된다.
+ *   전체 갱신 요청 중에 반영된 변경은 응답으로 만든 카탈로그에 다시 적용하므로, 늦게 도착한 목록이 변경을 되돌리지 않는다.
+ * - 조회는 네트워크 요청 없이 현재 카탈로그에서 처리하며, 아직 적재되지 않았거나 찾는 역할이 없을 때만 갱신한다.
+ *   (다른 인스턴스에서 생성된 역할 대비. 최소 갱신 간격으로 제한)
+ */
+@Slf4j
+@Component
+public class KeycloakRoleCatalog {
+
+    private final WebClient webClient;
+    private final KeycloakResilience resilience;
+    private final Duration minimumRefreshInterval;
+
+    private final AtomicReference<Catalog> catalog = new AtomicReference<>(Catalog.EMPTY);
+
+    // 진행 중인 전체 갱신. 동시에 여러 갱신이 요청되어도 Keycloak 호출은 한 번만 수행된다.
+    private static final String REFRESH_KEY = "roles";
+    private final SingleFlight<String, Catalog> refreshes = new SingleFlight<>();
+
+    // 이 서비스를 통한 변경(put/remove) 버전과, 진행 중인 전체 갱신 이후에 다시 적용할 변경 목록. (this 로 동기화)
+    private final AtomicLong changeVersion = new AtomicLong();
+    private final List<LocalChange> localChanges = new ArrayList<>();
+
+    public KeycloakRoleCatalog(@Qualifier("keycloakWebClient") WebClient webClient,
+                               KeycloakResilience resilience,
+                               KeycloakCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.minimumRefreshInterval = properties.getRoleCatalog().getMinimumRefreshInterval();
+
+        Gauge.builder("keycloak.role-catalog.size", catalog, ref -> ref.get().byName.size())
+                .description("카탈로그에 적재된 Realm 역할 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름으로 역할 조회. 카탈로그에 없는 이름은 결과에서 제외된다.
+     * 찾지 못한 이름이 있고 마지막 갱신 이후 최소 간격이 지났으면 한 번 갱신한 뒤 다시 조회한다.
+     */
+    public Mono<List<RoleRepresentation>> getRolesByNames(Collection<String> roleNames) {
+        Catalog current = catalog.get();
+        if (current.isLoaded() && (current.containsAll(roleNames) || !current.isOlderThan(minimumRefreshInterval))) {
+            return Mono.just(current.findAll(roleNames));
+        }
+        return refresh().map(refreshed -> refreshed.findAll(roleNames));
+    }
+
+    // 적재된 카탈로그. 아직 적재되지 않았으면 적재 후 반환. (일괄 작업에서 한 번만 조회해 사용)
+    public Mono<Catalog> current() {
+        Catalog current = catalog.get();
+        return current.isLoaded() ? Mono.just(current) : refresh();
+    }
+
+    public Optional<RoleRepresentation> getRoleById(String roleId) {
+        return Optional.ofNullable(catalog.get().byId.get(roleId));
+    }
+
+    public Collection<RoleRepresentation> getAllRoles() {
+        return catalog.get().byName.values();
+    }
+
+    @Scheduled(fixedDelayString = "${keycloak.cache.role-catalog.refresh-interval:5m}",
+            initialDelayString = "${keycloak.cache.role-catalog.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                refreshed -> log.debug("Refreshed Keycloak role catalog: {} roles", refreshed.byName.size()),
+                error -> log.warn("Failed to refresh Keycloak role catalog: {}", error.getMessage()));
+    }
+
+    // 전체 역할 목록을 다시 읽어 카탈로그 교체.
+    // 진행 중인 갱신이 있으면 새로 요청하지 않고 그 결과를 함께 받는다.
+    public Mono<Catalog> refresh() {
+        return refreshes.execute(REFRESH_KEY, () -> Mono.defer(() -> {
+            // 요청 이후의 변경은 응답에 빠져 있을 수 있으므로, 요청 전 버전을 기록해 두고 교체할 때 다시 적용한다.
+            long since = changeVersion.get();
+            return webClient.get()
+                    .uri("/roles")
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<List<RoleRepresentation>>() {})
+                    .transform(resilience.idempotent("roles.list"))
+                    .map(roles -> replace(Catalog.of(roles), since));
+        }));
+    }
+
+    // 새로 적재한 카탈로그에 since 이후의 변경을 순서대로 적용해 교체. 적용한 변경 이전의 기록은 더 이상 필요 없다.
+    private synchronized Catalog replace(Catalog loaded, long since) {
+        Catalog next = loaded;
+        for (LocalChange change : localChanges) {
+            if (change.version() > since) {
+                next = change.operation().apply(next);
+            }
+        }
+        localChanges.removeIf(change -> change.version() <= since);
+        catalog.set(next);
+        return next;
+    }
+
+    // 역할 생성/수정 후 반영. Keycloak 은 생성 응답에 역할 본문을 주지 않으므로 이름으로 다시 조회한다.
+    public Mono<Void> reload(String roleName) {
+        return webClient.get()
+                .uri("/roles/{roleName}", roleName)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .bodyToMono(RoleRepresentation.class)
+                .transform(resilience.idempotent("roles.get"))
+                .doOnNext(this::put)
+                .then();
+    }
+
+    public void put(RoleRepresentation role) {
+        apply(current -> current.with(role));
+    }
+
+    public void remove(String roleName) {
+        apply(current -> current.without(roleName));
+    }
+
+    private synchronized void apply(UnaryOperator<Catalog> operation) {
+        localChanges.add(new LocalChange(changeVersion.incrementAndGet(), operation));
+        catalog.updateAndGet(operation);
+    }
+
+    private record LocalChange(long version, UnaryOperator<Catalog> operation) {
+    }
+
+    /**
+     * 특정 시점의 역할 카탈로그. 변경 시 새로운 카탈로그로 교체된다.
+     */
+    @Getter
+    public static final class Catalog {
+
+        private static final Catalog EMPTY = new Catalog(Map.of(), Map.of(), null);
+
+        private final Map<String, RoleRepresentation> byName;
+        private final Map<String, RoleRepresentation> byId;
+        private final Instant loadedAt;  // 마지막 전체 적재 시각. 적재 전이면 null.
+
+        private Catalog(Map<String, RoleRepresentation> byName, Map<String, RoleRepresentation> byId, Instant loadedAt) {
+            this.byName = byName;
+            this.byId = byId;
+            this.loadedAt = loadedAt;
+        }
+
+        static Catalog of(List<RoleRepresentation> roles) {
+            Map<String, RoleRepresentation> byName = new HashMap<>();
+            Map<String, RoleRepresentation> byId = new HashMap<>();
+            for (RoleRepresentation role : roles) {
+                byName.put(role.getName(), role);
+                byId.put(role.getId(), role);
+            }
+            return new Catalog(Map.copyOf(byName), Map.copyOf(byId), Instant.now());
+        }
+
+        boolean isLoaded() {
+            return loadedAt != null;
+        }
+
+        boolean isOlderThan(Duration age) {
+            return loadedAt == null || loadedAt.plus(age).isBefore(Instant.now());
+        }
+
+        boolean containsAll(Collection<String> roleNames) {
+            return byName.keySet().containsAll(roleNames);
+        }
+
+        List<RoleRepresentation> findAll(Collection<String> roleNames) {
+            List<RoleRepresentation> roles = new ArrayList<>(roleNames.size());
+            for (String roleName : new LinkedHashSet<>(roleNames)) {
+                RoleRepresentation role = byName.get(roleName);
+                if (role != null) {
+                    roles.add(role);
+                }
+            }
+            return roles;
+        }
+
+        private Catalog with(RoleRepresentation role) {
+            Map<String, RoleRepresentation> nextByName = new HashMap<>(byName);
+            Map<String, RoleRepresentation> nextById = new HashMap<>(byId);
+
+            // 이름이 변경된 경우 이전 이름 제거.
+            RoleRepresentation previous = nextById.put(role.getId(), role);
+            if (previous != null) {
+                nextByName.remove(previous.getName());
+            }
+            nextByName.put(role.getName(), role);
+            return new Catalog(Map.copyOf(nextByName), Map.copyOf(nextById), loadedAt);
+        }
+
+        private Catalog without(String roleName) {
+            RoleRepresentation removed = byName.get(roleName);
+            if (removed == null) {
+                return this;
+            }
+            Map<String, RoleRepresentation> nextByName = new HashMap<>(byName);
+            Map<String, RoleRepresentation> nextById = new HashMap<>(byId);
+            nextByName.remove(roleName);
+            nextById.remove(removed.getId());
+            return new Catalog(Map.copyOf(nextByName), Map.copyOf(nextById), loadedAt);
+        }
+    }
+}
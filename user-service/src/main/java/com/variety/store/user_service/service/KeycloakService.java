@@ -1,5 +1,7 @@
 package com.variety.store.user_service.service;
 
+import com.variety.store.user_service.domain.dto.request.UserRoleAssignmentRequest;
+import com.variety.store.user_service.domain.dto.response.UserRoleAssignmentResponse;
 import jakarta.annotation.Nullable;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +12,13 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,9 +28,25 @@ public class KeycloakService {
     private static final String DEFAULT_ROLE_PREFIX = "default-roles-";
 
     private final WebClient webClient;
-
-    public KeycloakService(@Qualifier("keycloakWebClient") WebClient webClient) {
+    private final KeycloakUserIdCache userIdCache;
+    private final KeycloakRoleCatalog roleCatalog;
+    private final KeycloakBulkProperties bulkProperties;
+    private final KeycloakResilience resilience;
+
+    // 진행 중인 동일 조회 합치기 (username -> 사용자, userId -> 할당된 역할)
+    private final SingleFlight<String, Optional<UserRepresentation>> userLookups = new SingleFlight<>();
+    private final SingleFlight<String, List<RoleRepresentation>> userRoleLookups = new SingleFlight<>();
+
+    public KeycloakService(@Qualifier("keycloakWebClient") WebClient webClient,
+                           KeycloakUserIdCache userIdCache,
+                           KeycloakRoleCatalog roleCatalog,
+                           KeycloakBulkProperties bulkProperties,
+                           KeycloakResilience resilience) {
         this.webClient = webClient;
+        this.userIdCache = userIdCache;
+        this.roleCatalog = roleCatalog;
+        this.bulkProperties = bulkProperties;
+        this.resilience = resilience;
     }
 
     // 사용자 생성
@@ -39,33 +61,47 @@ public class KeycloakService {
                 .bodyValue(userRepresentation)
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("Keycloak 사용자 등록 실패: {} - {}", response.statusCode(), errorBody);
-                                    return Mono.error(new RuntimeException("Keycloak 사용자 등록 실패: " + errorBody));
+                        // 상태 코드로 일시적인 오류 여부를 판단할 수 있도록 WebClientResponseException 으로 전달.
+                        response -> response.createException()
+                                .flatMap(exception -> {
+                                    log.error("Keycloak 사용자 등록 실패: {} - {}", response.statusCode(), exception.getResponseBodyAsString());
+                                    return Mono.error(exception);
                                 })
                 )
-                .bodyToMono(Void.class)
+                .toBodilessEntity()
+                .transform(resilience.nonIdempotent("users.create"))
+                // 생성된 사용자의 UUID 는 Location 헤더(.../users/{id})로 전달된다.
+                .doOnNext(response -> cacheCreatedUserId(username, response.getHeaders().getLocation()))
+                .then()
                 .doOnSuccess(v -> log.info("Keycloak 사용자 등록 성공: {}", email))
-                .doOnError(e -> log.error("Keycloak 사용자 등록 중 오류 발생: {}", e.getMessage()));
+                .doOnError(e -> {
+                    userIdCache.evict(username);
+                    log.error("Keycloak 사용자 등록 중 오류 발생: {}", e.getMessage());
+                });
     }
 
-    // 사용자 아이디로, keycloak에 등록된 사용자 정보 조회.
+    // 사용자 아이디로, keycloak에 등록된 사용자 정보 조회. 조회 결과(UUID)는 캐시에 기록.
+    // 같은 사용자에 대한 동시 조회는 하나의 요청으로 합친다.
     public Mono<Optional<UserRepresentation>> getUserInfoByUsername(String username) {
-        return webClient.get()
+        return userLookups.execute(username, () -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/users")
                         .queryParam("username", username)
+                        .queryParam("exact", true)  // 부분 일치 검색 결과가 캐시에 기록되지 않도록 정확히 일치하는 사용자만 조회
                         .build())
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .retrieve()
                 .bodyToMono(UserRepresentation[].class)
+                .transform(resilience.idempotent("users.lookup"))
                 .map(users -> {
                     if (users.length > 0 && users[0].getId() != null) {
                         return Optional.of(users[0]);
                     }
                     return Optional.empty();
-                });
+                })
+                .doOnNext(user -> user.ifPresentOrElse(
+                        found -> userIdCache.put(username, found.getId()),
+                        () -> userIdCache.putMissing(username))));
     }
 
     // 사용자 정보 수정
@@ -80,6 +116,7 @@ public class KeycloakService {
                 .bodyValue(userRepresentation)
                 .retrieve()
                 .bodyToMono(Void.class)
+                .transform(resilience.idempotent("users.update"))
                 .doOnSuccess(unused -> log.info("사용자 정보가 업데이트되었습니다: {}", username))
                 .doOnError(e -> log.error("사용자 수정 실패: {}", e.getMessage()));
     }
@@ -87,25 +124,18 @@ public class KeycloakService {
     // 사용자 삭제
     public Mono<Void> deleteUser(String username) {
 
-        return getUserInfoByUsername(username)
-                .flatMap(userRepresentation -> {
-                    if (userRepresentation.isPresent()) {
-                        String userId = userRepresentation.get().getId();
-
-                        return webClient.delete()
-                                .uri("/users/{userId}", userId)
-                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                .retrieve()
-                                .toBodilessEntity()
-                                .doOnSuccess(response -> log.info("Successfully deleted user: {}", userId))
-                                .doOnError(error -> log.error("Failed to delete user: {}", userId, error))
-                                .then();
-                    }
-                    else {
-                        log.warn("User not found: {}", username);
-                        return Mono.empty();
-                    }
-                });
+        return withUserId(username, userId -> webClient.delete()
+                .uri("/users/{userId}", userId)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .toBodilessEntity()
+                .transform(resilience.idempotent("users.delete"))
+                .doOnSuccess(response -> {
+                    userIdCache.evict(username);
+                    log.info("Successfully deleted user: {}", userId);
+                })
+                .doOnError(error -> log.error("Failed to delete user: {}", userId, error))
+                .then());
     }
 
     // 권한 생성
@@ -118,17 +148,16 @@ public class KeycloakService {
                 .bodyValue(new RoleRepresentation(null, roleName, description))
                 .retrieve()
                 .bodyToMono(Void.class)
+                .transform(resilience.nonIdempotent("roles.create"))
+                .then(reloadCatalog(roleName))
                 .doOnSuccess(unused -> log.info("역할 정보가 생성되었습니다: {}", roleName))
                 .doOnError(e -> log.error("역할 생성 실패: {}", e.getMessage()));
     }
 
-    // Realm 내 등록된 모든 역할 목록 조회.
+    // Realm 내 등록된 모든 역할 목록 조회. 조회한 목록으로 역할 카탈로그도 갱신된다. (동시 조회는 하나로 합쳐진다)
     public Mono<List<RoleRepresentation>> getAllRolesByNames() {
-        return webClient.get()
-                .uri("/roles")
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<RoleRepresentation>>() {});
+        return roleCatalog.refresh()
+                .map(catalog -> List.copyOf(catalog.getByName().values()));
     }
 
     // 권한 수정
@@ -143,6 +172,8 @@ public class KeycloakService {
                 .bodyValue(roleRepresentation)
                 .retrieve()
                 .bodyToMono(Void.class)
+                .transform(resilience.idempotent("roles.update"))
+                .then(reloadCatalog(roleRepresentation.getName()))
                 .doOnSuccess(unused -> log.info("역할 정보가 업데이트되었습니다: {}", roleName))
                 .doOnError(e -> log.error("역할 수정 실패: {}", e.getMessage()));
     }
@@ -152,57 +183,163 @@ public class KeycloakService {
         return webClient.delete()
                 .uri("/roles/{roleName}", roleName)
                 .retrieve()
-                .bodyToMono(Void.class);
+                .bodyToMono(Void.class)
+                .transform(resilience.idempotent("roles.delete"))
+                .doOnSuccess(unused -> roleCatalog.remove(roleName));
     }
 
     // 사용자 역할 수정.
     public Mono<Void> updateUserRoles(String username, List<String> roleNames) {
+        return roleCatalog.getRolesByNames(roleNames)
+                .flatMap(newRoles -> withUserId(username, userId -> reassignRoles(username, userId, newRoles)))
+                .then();
+    }
+
+    /**
+     * 여러 사용자의 역할 일괄 재할당.
+     * 역할 카탈로그는 한 번만 조회하고, 사용자별 작업은 최대 concurrency 건까지 동시에 수행한다.
+     * 카탈로그에 없는 역할 이름이 있으면 카탈로그를 한 번만 다시 읽고, 그래도 없으면 해당 사용자는 변경하지 않는다. (INVALID)
+     * 결과는 완료된 순서대로 사용자별로 반환되며, 한 사용자의 실패가 나머지 작업을 중단시키지 않는다.
+     */
+    public Flux<UserRoleAssignmentResponse> updateUserRolesInBulk(Flux<UserRoleAssignmentRequest> requests, @Nullable Integer concurrency) {
+        int limit = Math.max(1, Math.min(concurrency != null ? concurrency : bulkProperties.getDefaultConcurrency(),
+                bulkProperties.getMaxConcurrency()));
+
+        return roleCatalog.current()
+                .flatMapMany(catalog -> {
+                    // 일괄 작업 전체에서 공유하는 갱신. 처음 필요할 때 한 번만 조회한다.
+                    Mono<KeycloakRoleCatalog.Catalog> refreshed = roleCatalog.refresh().cache();
+                    return requests.flatMap(request -> reassignRoles(request, catalog, refreshed), limit);
+                });
+    }
+
+    private Mono<UserRoleAssignmentResponse> reassignRoles(UserRoleAssignmentRequest request,
+                                                           KeycloakRoleCatalog.Catalog catalog,
+                                                           Mono<KeycloakRoleCatalog.Catalog> refreshed) {
+        String username = request.getUsername();
+        List<String> roleNames = request.getRoleNames() != null ? request.getRoleNames() : List.of();
+
+        return (catalog.containsAll(roleNames) ? Mono.just(catalog) : refreshed)
+                .flatMap(current -> {
+                    List<String> unknownRoles = roleNames.stream()
+                            .filter(roleName -> !current.getByName().containsKey(roleName))
+                            .distinct()
+                            .toList();
+
+                    // 알 수 없는 역할을 빼고 재할당하면 기존 역할이 제거되므로, 아무것도 변경하지 않는다.
+                    if (!unknownRoles.isEmpty()) {
+                        return Mono.just(UserRoleAssignmentResponse.builder()
+                                .username(username)
+                                .status(UserRoleAssignmentResponse.Status.INVALID)
+                                .unknownRoles(unknownRoles)
+                                .message("Unknown roles: " + unknownRoles)
+                                .build());
+                    }
+                    return withUserId(username, userId -> reassignRoles(username, userId, current.findAll(roleNames)))
+                            .defaultIfEmpty(UserRoleAssignmentResponse.builder()
+                                    .username(username)
+                                    .status(UserRoleAssignmentResponse.Status.NOT_FOUND)
+                                    .build());
+                })
+                .onErrorResume(e -> Mono.just(UserRoleAssignmentResponse.builder()
+                        .username(username)
+                        .status(UserRoleAssignmentResponse.Status.FAILED)
+                        .message(e.getMessage())
+                        .build()));
+    }
+
+    // 현재 할당된 역할과 비교하여, 변경이 필요한 역할만 제거/추가.
+    private Mono<UserRoleAssignmentResponse> reassignRoles(String username, String userId, List<RoleRepresentation> newRoles) {
+        return getUserRoles(userId)
+                .flatMap(currentRoles -> {
+                    Set<String> currentRoleIds = currentRoles.stream().map(RoleRepresentation::getId).collect(Collectors.toSet());
+                    Set<String> newRoleIds = newRoles.stream().map(RoleRepresentation::getId).collect(Collectors.toSet());
+
+                    // 제거 되어야 할 역할 목록.
+                    List<RoleRepresentation> rolesToRemove = currentRoles.stream()
+                            .filter(role -> !role.getName().startsWith(DEFAULT_ROLE_PREFIX)) // 기본 역할 제외
+                            .filter(role -> !newRoleIds.contains(role.getId()))
+                            .toList();
+
+                    // 할당 되어야 할 역할 목록.
+                    List<RoleRepresentation> rolesToAdd = newRoles.stream()
+                            .filter(newRole -> !currentRoleIds.contains(newRole.getId()))
+                            .toList();
+
+                    log.info("Updating roles for user '{}': Removing {} | Adding {}",
+                            username, rolesToRemove, rolesToAdd);
+
+                    UserRoleAssignmentResponse response = UserRoleAssignmentResponse.builder()
+                            .username(username)
+                            .status(rolesToRemove.isEmpty() && rolesToAdd.isEmpty()
+                                    ? UserRoleAssignmentResponse.Status.UNCHANGED
+                                    : UserRoleAssignmentResponse.Status.UPDATED)
+                            .addedRoles(rolesToAdd.stream().map(RoleRepresentation::getName).toList())
+                            .removedRoles(rolesToRemove.stream().map(RoleRepresentation::getName).toList())
+                            .build();
+
+                    return removeRolesFromUser(userId, rolesToRemove)
+                            .then(addRolesToUserByUserId(userId, rolesToAdd))
+                            .thenReturn(response);
+                });
+    }
+
+    /**
+     * 사용자 아이디를 Keycloak UUID 로 변환하여 작업 수행. 캐시된 UUID 가 있으면 조회 요청을 생략한다.
+     * 캐시된 UUID 의 사용자가 이미 없으면(다른 경로로 삭제/재생성) 캐시를 비우고 한 번만 다시 조회한다.
+     */
+    private <T> Mono<T> withUserId(String username, Function<String, Mono<T>> action) {
+        KeycloakUserIdCache.Lookup cached = userIdCache.get(username);
+
+        return switch (cached.status()) {
+            case NOT_CACHED -> lookupUserId(username, action);
+            case MISSING -> {
+                log.warn("User not found: {}", username);
+                yield Mono.empty();
+            }
+            case FOUND -> action.apply(cached.userId())
+                    .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                        userIdCache.evict(username);
+                        return lookupUserId(username, action);
+                    });
+        };
+    }
+
+    private <T> Mono<T> lookupUserId(String username, Function<String, Mono<T>> action) {
         return getUserInfoByUsername(username)
                 .flatMap(userRepresentation -> {
                     if (userRepresentation.isPresent()) {
-                        String userId = userRepresentation.get().getId();
-
-                        // 현재 사용자에게 할당된 역할 목록 조회.
-                        return getUserRoles(userId)
-                                .zipWith(getAllRolesByNames())
-                                .flatMap(tuple -> {
-                                    List<RoleRepresentation> currentRoles = tuple.getT1();
-                                    List<RoleRepresentation> newRoles = tuple.getT2().stream()
-                                            .filter(role -> roleNames.contains(role.getName()))
-                                            .toList();
-
-                                    // 제거 되어야 할 역할 목록.
-                                    List<RoleRepresentation> rolesToRemove = currentRoles.stream()
-                                            .filter(role -> !role.getName().startsWith(DEFAULT_ROLE_PREFIX)) // 기본 역할 제외
-                                            .filter(role ->
-                                                    newRoles.stream().noneMatch(newRole ->
-                                                            newRole.getId().equals(role.getId())))
-                                            .toList();
-
-                                    // 할당 되어야 할 역할 목록.
-                                    List<RoleRepresentation> rolesToAdd = newRoles.stream()
-                                            .filter(newRole ->
-                                                    currentRoles.stream().noneMatch(existingRole ->
-                                                            existingRole.getId().equals(newRole.getId())))
-                                            .toList();
-
-                                    log.info("Updating roles for user '{}': Removing {} | Adding {}",
-                                            username, rolesToRemove, rolesToAdd);
-
-                                    return removeRolesFromUser(userId, rolesToRemove)
-                                            .then(addRolesToUserByUserId(userId, rolesToAdd));
-                                });
-                    }
-                    else {
-                        log.warn("User not found: {}", username);
-                        return Mono.empty();
+                        return action.apply(userRepresentation.get().getId());
                     }
+                    log.warn("User not found: {}", username);
+                    return Mono.empty();
+                });
+    }
+
+    // 역할 변경이 성공한 뒤 카탈로그 반영. 반영에 실패해도 다음 주기적 갱신에서 맞춰진다.
+    private Mono<Void> reloadCatalog(String roleName) {
+        return Mono.defer(() -> roleCatalog.reload(roleName))
+                .onErrorResume(e -> {
+                    log.warn("Failed to reload role '{}' into catalog: {}", roleName, e.getMessage());
+                    return Mono.empty();
                 });
     }
 
+    private void cacheCreatedUserId(String username, @Nullable URI location) {
+        if (location == null) {
+            userIdCache.evict(username);
+            return;
+        }
+        String path = location.getPath();
+        userIdCache.put(username, path.substring(path.lastIndexOf('/') + 1));
+    }
+
     // 사용자 특정 권한(역할) 제거.
     private Mono<Void> removeRolesFromUser(String userId, List<RoleRepresentation> roles) {
 
+        // 제거할 역할이 없으면 요청 생략
+        if (roles.isEmpty()) return Mono.empty();
+
         return webClient.method(HttpMethod.DELETE)
                 .uri(uriBuilder -> uriBuilder
                         .path("/users/{userId}/role-mappings/realm")
@@ -211,6 +348,7 @@ public class KeycloakService {
                 .bodyValue(roles)
                 .retrieve()
                 .toBodilessEntity()
+                .transform(resilience.idempotent("role-mappings.remove"))
                 .doOnSuccess(response -> log.info("Successfully removed all roles from user: {}", userId))
                 .doOnError(error -> log.error("Failed to remove roles from user: {}", userId, error))
                 .then();
@@ -228,6 +366,8 @@ public class KeycloakService {
                 .bodyValue(roles)
                 .retrieve()
                 .toBodilessEntity()
+                // 이미 할당된 역할을 다시 추가해도 결과가 같으므로 멱등 작업으로 취급.
+                .transform(resilience.idempotent("role-mappings.add"))
                 .doOnSuccess(response -> log.info("Successfully assigned roles {} to user: {}", roles, userId))
                 .doOnError(error -> log.error("Failed to assign roles {} to user: {}", roles, userId, error))
                 .then();
@@ -235,11 +375,12 @@ public class KeycloakService {
 
     // keycloak에 등록된 사용자 UUID로, 해당 사용자에게 할당된 역할 목록 조회.
     private Mono<List<RoleRepresentation>> getUserRoles(String userId) {
-        return webClient.get()
+        return userRoleLookups.execute(userId, () -> webClient.get()
                 .uri("/users/{userId}/role-mappings/realm", userId)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<RoleRepresentation>>() {});
+                .bodyToMono(new ParameterizedTypeReference<List<RoleRepresentation>>() {})
+                .transform(resilience.idempotent("role-mappings.list")));
     }
 
 
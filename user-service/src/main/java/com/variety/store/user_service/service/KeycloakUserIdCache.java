@@ -0,0 +1,95 @@
+package com.variety.store.user_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 사용자 아이디(username) -> Keycloak 사용자 UUID 캐시.
+ *
+ * 사용자 생성/조회 시 채워지고, 삭제 시 제거된다.
+ * 존재하지 않는 사용자도 Optional.empty() 로 짧게 보관하여, 같은 사용자에 대한 반복 조회가 Keycloak 까지 가지 않도록 한다.
+ */
+@Component
+public class KeycloakUserIdCache {
+
+    public static final String CACHE_NAME = "keycloak.user-id";
+
+    private final Cache<String, Optional<String>> cache;
+
+    public KeycloakUserIdCache(KeycloakCacheProperties properties, MeterRegistry meterRegistry) {
+        KeycloakCacheProperties.UserId userId = properties.getUserId();
+        long timeToLive = userId.getTimeToLive().toNanos();
+        long negativeTimeToLive = userId.getNegativeTimeToLive().toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(userId.getMaximumSize())
+                .expireAfter(new Expiry<String, Optional<String>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<String> value, long currentTime) {
+                        return value.isPresent() ? timeToLive : negativeTimeToLive;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<String> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<String> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 UUID 조회. 캐시되지 않은 사용자와 존재하지 않는 사용자로 캐시된 사용자를 구분해 반환한다.
+     */
+    public Lookup get(String username) {
+        Optional<String> cached = cache.getIfPresent(username);
+        if (cached == null) {
+            return Lookup.NOT_CACHED;
+        }
+        return cached.map(Lookup::found).orElse(Lookup.MISSING);
+    }
+
+    public void put(String username, String userId) {
+        cache.put(username, Optional.of(userId));
+    }
+
+    public void putMissing(String username) {
+        cache.put(username, Optional.empty());
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * 캐시 조회 결과. userId 는 FOUND 일 때만 값이 있다.
+     */
+    public record Lookup(Status status, String userId) {
+
+        public enum Status {
+            NOT_CACHED,  // 캐시되지 않음 -> Keycloak 조회 필요
+            MISSING,     // 존재하지 않는 사용자로 캐시됨
+            FOUND
+        }
+
+        static final Lookup NOT_CACHED = new Lookup(Status.NOT_CACHED, null);
+        static final Lookup MISSING = new Lookup(Status.MISSING, null);
+
+        static Lookup found(String userId) {
+            return new Lookup(Status.FOUND, userId);
+        }
+    }
+}
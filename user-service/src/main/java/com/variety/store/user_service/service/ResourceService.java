@@ -5,11 +5,13 @@ import com.variety.store.user_service.domain.dto.response.ResourceResponse;
 import com.variety.store.user_service.domain.entity.Resource;
 import com.variety.store.user_service.domain.entity.ResourceRole;
 import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
 import com.variety.store.user_service.repository.ResourceRepository;
 import com.variety.store.user_service.repository.RoleRepository;
 import com.variety.store.user_service.utility.mapper.ResourceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,14 +27,22 @@ public class ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 리소스 생성.
      */
     public ResourceResponse createResource(ResourceRequest resourceRequest) {
         Resource resource = ResourceMapper.convertToEntity(resourceRequest);
+
+        if (resourceRequest.getRoles() != null) {
+            roleRepository.findAllById(resourceRequest.getRoles()).forEach(resource::addRole);
+        }
         Resource savedResource = resourceRepository.save(resource);
 
+        // 커밋 이후 인가 매핑에 반영.
+        eventPublisher.publishEvent(ResourceChangedEvent.created(savedResource));
+
         return ResourceMapper.convertToResponse(savedResource);
     }
 
@@ -77,6 +87,8 @@ public class ResourceService {
         );
 
 //        resourceRepository.save(existingResource);
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(existingResource));
+
         return ResourceMapper.convertToResponse(existingResource);
     }
 
@@ -89,6 +101,7 @@ public class ResourceService {
 
         // 관련된 ResourceRole 은 Cascade 옵션을 통해 삭제.
         resourceRepository.delete(existingResource);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(existingResource));
         log.info("Resource with ID {} deleted successfully.", resourceId);
     }
 }
@@ -1,14 +1,20 @@
 package com.variety.store.user_service.service;
 
 import com.variety.store.user_service.domain.dto.request.RoleRequest;
+import com.variety.store.user_service.domain.entity.Resource;
 import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
+import com.variety.store.user_service.domain.event.UserDirectoryChangedEvent;
+import com.variety.store.user_service.repository.ResourceRepository;
 import com.variety.store.user_service.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -17,6 +23,9 @@ import java.util.List;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final ResourceRepository resourceRepository;
+    private final KeycloakOutboxService keycloakOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 권한 생성.
@@ -25,6 +34,9 @@ public class RoleService {
         Role role = convertToEntity(roleRequest);
         roleRepository.save(role);
 
+        // Keycloak 역할 생성은 같은 트랜잭션에서 아웃박스에 기록하고, 커밋 이후 비동기로 반영.
+        keycloakOutboxService.enqueueRoleCreation(role.getName(), role.getDescription());
+
         return convertToDto(role);
     }
 
@@ -57,8 +69,18 @@ public class RoleService {
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new IllegalArgumentException("role not found with roleId:" + roleId));
 
+        String previousName = role.getName();
         Role updatedRole = role.updateRole(roleRequest.getName(), roleRequest.getDescription());
 
+        // 이름이 바뀌면 이 역할을 허용하는 리소스의 인가 매핑도 커밋 이후 새 이름으로 반영. (변경 이력으로 다른 인스턴스에도 전파)
+        if (!Objects.equals(previousName, updatedRole.getName())) {
+            resourceRepository.findAllWithRolesByRoleId(roleId)
+                    .forEach(resource -> eventPublisher.publishEvent(ResourceChangedEvent.updated(resource)));
+        }
+
+        // 역할 이름으로 검색한 사용자 수가 달라질 수 있으므로, 커밋 이후 사용자 검색 개수 캐시를 비운다.
+        eventPublisher.publishEvent(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.ROLE_UPDATED));
+
         return convertToDto(updatedRole);
     }
 
@@ -66,7 +88,17 @@ public class RoleService {
      * 권한 삭제.
      */
     public void deleteRole(Long roleId) {
-        roleRepository.deleteById(roleId);
+        Role role = roleRepository.findById(roleId)
+                .orElseThrow(() -> new IllegalArgumentException("role not found with roleId:" + roleId));
+
+        // 이 역할을 허용하는 리소스에서 역할을 제외하고, 커밋 이후 인가 매핑에 반영. (변경 이력으로 다른 인스턴스에도 전파)
+        for (Resource resource : resourceRepository.findAllWithRolesByRoleId(roleId)) {
+            resource.removeRole(role);
+            eventPublisher.publishEvent(ResourceChangedEvent.updated(resource));
+        }
+
+        roleRepository.delete(role);
+        eventPublisher.publishEvent(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.ROLE_DELETED));
     }
 
     public RoleRequest convertToDto(Role role) {
@@ -0,0 +1,44 @@
+package com.variety.store.user_service.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 키에 대한 동시 조회를 하나의 호출로 합친다. (single-flight)
+ *
+ * - 진행 중인 호출이 있으면 새로 호출하지 않고, 그 결과(값 또는 오류)를 함께 받는다.
+ * - 호출이 끝나면 바로 제거되므로 결과를 보관하지 않는다. (캐시가 아님)
+ * - 구독자 하나가 취소해도 진행 중인 호출은 취소되지 않아, 함께 기다리는 다른 구독자에게 영향을 주지 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            Mono<V> existing = inFlight.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> shared = Mono.defer(call)
+                    // 다른 호출로 교체된 뒤라면 제거하지 않는다.
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .share();
+            self.set(shared);
+
+            Mono<V> previous = inFlight.putIfAbsent(key, shared);
+            return previous != null ? previous : shared;
+        });
+    }
+
+    // 진행 중인 호출 수
+    public int size() {
+        return inFlight.size();
+    }
+}
@@ -6,6 +6,7 @@ import com.variety.store.user_service.domain.dto.response.RoleResponse;
 import com.variety.store.user_service.domain.dto.response.UserResponse;
 import com.variety.store.user_service.domain.entity.Role;
 import com.variety.store.user_service.domain.entity.User;
+import com.variety.store.user_service.domain.event.UserDirectoryChangedEvent;
 import com.variety.store.user_service.repository.RoleRepository;
 import com.variety.store.user_service.repository.UserRepository;
 import com.variety.store.user_service.utility.mapper.AddressMapper;
@@ -14,6 +15,7 @@ import com.variety.store.user_service.utility.mapper.UserMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final KeycloakOutboxService keycloakOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public static final String DEFAULT_ROLE_NAME = "ROLE_USER";
 
@@ -60,6 +64,12 @@ public class UserService {
         user.addRole(defaultRole);
         userRepository.save(user);
 
+        // Keycloak 사용자 등록은 같은 트랜잭션에서 아웃박스에 기록하고, 커밋 이후 비동기로 반영.
+        keycloakOutboxService.enqueueUserCreation(userRequest.getUsername(), userRequest.getEmail(), encodedPassword);
+
+        // 커밋 이후 사용자 검색 개수 캐시를 비운다.
+        eventPublisher.publishEvent(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.USER_CREATED));
+
         log.info("사용자 DB 저장 완료: {}", user.getEmail());
 
         return UserMapper.convertToResponse(user);
@@ -110,6 +120,7 @@ public class UserService {
 
         user.delete();
 //        userRepository.save(user);
+        eventPublisher.publishEvent(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.USER_DELETED));
     }
 
     /**
@@ -123,6 +134,7 @@ public class UserService {
 
         user.updateRoles(updateRoles);
 //        userRepository.save(user);
+        eventPublisher.publishEvent(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.USER_ROLES_UPDATED));
     }
 
 }
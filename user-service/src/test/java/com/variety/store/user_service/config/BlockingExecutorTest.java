@@ -0,0 +1,94 @@
+package com.variety.store.user_service.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BlockingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        BlockingSchedulerProperties properties = new BlockingSchedulerProperties();
+        properties.setQueuedTaskCap(1);
+        executor = new BlockingExecutor(properties, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.dispose();
+    }
+
+    @Test
+    void testTaskRunsOnBlockingThread() {
+        StepVerifier.create(executor.call(() -> Thread.currentThread().getName()))
+                .assertNext(threadName -> assertThat(threadName).startsWith("blocking-"))
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("blocking.scheduler.wait").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blocking.scheduler.execution").timer().count()).isEqualTo(1);
+        assertThat(gauge("blocking.scheduler.threads.max")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testQueuedTasksAreCountedAndOverflowIsRejected() {
+        // 스레드 1개를 점유하고, 대기열(1개)을 채운다.
+        Disposable running = executor.call(() -> release.await(5, TimeUnit.SECONDS)).subscribe();
+        waitUntil(() -> gauge("blocking.scheduler.active") == 1.0);
+        Disposable waiting = executor.call(() -> "queued").subscribe();
+
+        assertThat(gauge("blocking.scheduler.queued")).isEqualTo(1.0);
+
+        StepVerifier.create(executor.call(() -> "rejected"))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(ResponseStatusException.class,
+                                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)))
+                .verify();
+        assertThat(meterRegistry.get("blocking.scheduler.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        waitUntil(() -> gauge("blocking.scheduler.queued") == 0.0 && gauge("blocking.scheduler.active") == 0.0);
+        running.dispose();
+        waiting.dispose();
+    }
+
+    @Test
+    void testCancelledTaskLeavesQueue() {
+        Disposable running = executor.call(() -> release.await(5, TimeUnit.SECONDS)).subscribe();
+        waitUntil(() -> gauge("blocking.scheduler.active") == 1.0);
+
+        Disposable waiting = executor.call(() -> "queued").subscribe();
+        waiting.dispose();
+
+        assertThat(gauge("blocking.scheduler.queued")).isZero();
+        running.dispose();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
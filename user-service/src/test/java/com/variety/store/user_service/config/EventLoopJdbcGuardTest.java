@@ -0,0 +1,38 @@
+package com.variety.store.user_service.config;
+
+import com.variety.store.user_service.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 테스트 설정(event-loop-check: fail)에서는 논블로킹 스레드의 DB 접근이 실패해야 한다.
+ */
+@SpringBootTest
+class EventLoopJdbcGuardTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BlockingExecutor blockingExecutor;
+
+    @Test
+    void testJdbcOnNonBlockingThreadFails() {
+        Mono<Long> onParallel = Mono.fromCallable(roleRepository::count)
+                .subscribeOn(Schedulers.parallel());
+
+        assertThatThrownBy(onParallel::block)
+                .hasStackTraceContaining("Blocking JDBC call on non-blocking thread");
+    }
+
+    @Test
+    void testJdbcThroughBlockingExecutorSucceeds() {
+        assertThat(blockingExecutor.call(roleRepository::count).block()).isNotNull();
+    }
+}
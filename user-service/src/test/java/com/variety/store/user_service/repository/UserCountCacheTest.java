@@ -0,0 +1,113 @@
+package com.variety.store.user_service.repository;
+
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.domain.event.UserDirectoryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCountCacheTest {
+
+    private final UserCountCacheProperties properties = new UserCountCacheProperties();
+    private final UserCountCache countCache = new UserCountCache(properties, new SimpleMeterRegistry());
+    private final AtomicInteger exactCounts = new AtomicInteger();
+    private final AtomicInteger estimates = new AtomicInteger();
+
+    @Test
+    void testSameNormalizedFilterReusesCount() {
+        assertThat(countCache.count(search("John", "ADMIN", "USER"), exact(3), estimate(100L))).isEqualTo(3);
+        assertThat(countCache.count(search("john", "USER", "ADMIN", "USER"), exact(5), estimate(100L))).isEqualTo(3);
+
+        assertThat(exactCounts).hasValue(1);
+        assertThat(estimates).hasValue(0);
+    }
+
+    @Test
+    void testExactModeRecountsAndRefreshesCache() {
+        countCache.count(search("john"), exact(3), estimate(100L));
+
+        UserSearch exactSearch = search("john");
+        exactSearch.setCount(UserSearch.CountMode.EXACT);
+        assertThat(countCache.count(exactSearch, exact(4), estimate(100L))).isEqualTo(4);
+        assertThat(countCache.count(search("john"), exact(5), estimate(100L))).isEqualTo(4);
+
+        assertThat(exactCounts).hasValue(2);
+    }
+
+    @Test
+    void testUnfilteredListingUsesEstimate() {
+        assertThat(countCache.count(search(null), exact(42), estimate(40L))).isEqualTo(40);
+        assertThat(exactCounts).hasValue(0);
+
+        // 추정치가 없으면 정확한 개수
+        countCache.invalidateAll();
+        assertThat(countCache.count(search(""), exact(42), estimate(null))).isEqualTo(42);
+        assertThat(exactCounts).hasValue(1);
+    }
+
+    @Test
+    void testEstimateDisabled() {
+        properties.setApproximateUnfiltered(false);
+        UserCountCache exactOnly = new UserCountCache(properties, new SimpleMeterRegistry());
+
+        assertThat(exactOnly.count(search(null), exact(42), estimate(40L))).isEqualTo(42);
+        assertThat(estimates).hasValue(0);
+    }
+
+    @Test
+    void testDirectoryChangeInvalidatesCounts() {
+        countCache.count(search("john"), exact(3), estimate(100L));
+
+        countCache.onUserDirectoryChanged(new UserDirectoryChangedEvent(UserDirectoryChangedEvent.Type.USER_CREATED));
+
+        assertThat(countCache.count(search("john"), exact(4), estimate(100L))).isEqualTo(4);
+        assertThat(exactCounts).hasValue(2);
+    }
+
+    @Test
+    void testReactiveCountSharesCache() {
+        StepVerifier.create(countCache.count(search("john"), Mono.fromCallable(() -> {
+                    exactCounts.incrementAndGet();
+                    return 7L;
+                }), Mono.empty()))
+                .expectNext(7L)
+                .verifyComplete();
+
+        assertThat(countCache.count(search("JOHN"), exact(9), estimate(100L))).isEqualTo(7);
+
+        // 조건 없는 목록에서 추정치가 없으면 정확한 개수
+        StepVerifier.create(countCache.count(search(null), Mono.just(11L), Mono.empty()))
+                .expectNext(11L)
+                .verifyComplete();
+        assertThat(exactCounts).hasValue(1);
+    }
+
+    private LongSupplier exact(long total) {
+        return () -> {
+            exactCounts.incrementAndGet();
+            return total;
+        };
+    }
+
+    private Supplier<Long> estimate(Long total) {
+        return () -> {
+            estimates.incrementAndGet();
+            return total;
+        };
+    }
+
+    private static UserSearch search(String username, String... roleNames) {
+        UserSearch search = new UserSearch();
+        search.setUsername(username);
+        search.setRoleNames(roleNames.length == 0 ? null : List.of(roleNames));
+        return search;
+    }
+}
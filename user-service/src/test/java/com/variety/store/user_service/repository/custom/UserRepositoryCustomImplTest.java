@@ -1,6 +1,7 @@
 package com.variety.store.user_service.repository.custom;
 
 import com.variety.store.user_service.domain.dto.request.UserRequest;
+import com.variety.store.user_service.domain.dto.response.CursorPage;
 import com.variety.store.user_service.domain.dto.response.UserResponse;
 import com.variety.store.user_service.domain.dto.search.UserSearch;
 import com.variety.store.user_service.domain.entity.Role;
@@ -13,11 +14,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -97,4 +100,93 @@ class UserRepositoryCustomImplTest {
         assertThat(result.getContent().get(0).getUsername()).isEqualTo("john_doe");
         assertThat(result.getContent().get(0).getRoles()).hasSize(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchUserListPagesByUserId() {
+        UserSearch userSearch = new UserSearch();
+        userSearch.setRoleNames(List.of("USER"));
+        userSearch.setCount(UserSearch.CountMode.EXACT);
+
+        Page<UserResponse> first = userRepository.searchUserList(userSearch, PageRequest.of(0, 1));
+        Page<UserResponse> second = userRepository.searchUserList(userSearch, PageRequest.of(1, 1));
+
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(UserResponse::getUsername).containsExactly("john_doe");
+        assertThat(second.getContent()).extracting(UserResponse::getUsername).containsExactly("alice_smith");
+        assertThat(second.getContent().get(0).getRoles()).hasSize(2);
+    }
+
+    @Test
+    void testSearchUserSlice() {
+        UserSearch userSearch = new UserSearch();
+        userSearch.setRoleNames(List.of("USER"));
+
+        Slice<UserResponse> first = userRepository.searchUserSlice(userSearch, PageRequest.of(0, 1));
+        Slice<UserResponse> second = userRepository.searchUserSlice(userSearch, PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).extracting(UserResponse::getUsername).containsExactly("john_doe");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(UserResponse::getUsername).containsExactly("alice_smith");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void testScrollUserListByUsername() {
+        UserSearch userSearch = new UserSearch();
+        userSearch.setRoleNames(List.of("USER"));
+        userSearch.setSort(UserSearch.SortKey.USERNAME);
+
+        CursorPage<UserResponse> first = userRepository.scrollUserList(userSearch, null, 1);
+
+        assertThat(first.getContent()).extracting(UserResponse::getUsername).containsExactly("alice_smith");
+        assertThat(first.getContent().get(0).getRoles()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorPage<UserResponse> second = userRepository.scrollUserList(userSearch, first.getNextCursor(), 1);
+
+        assertThat(second.getContent()).extracting(UserResponse::getUsername).containsExactly("john_doe");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testScrollUserListById() {
+        UserSearch userSearch = new UserSearch();
+        userSearch.setRoleNames(List.of("USER"));
+
+        CursorPage<UserResponse> first = userRepository.scrollUserList(userSearch, null, 1);
+        CursorPage<UserResponse> second = userRepository.scrollUserList(userSearch, first.getNextCursor(), 5);
+
+        assertThat(first.getContent()).extracting(UserResponse::getUsername).containsExactly("john_doe");
+        assertThat(second.getContent()).extracting(UserResponse::getUsername).containsExactly("alice_smith");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void testScrollUserListRejectsInvalidCursor() {
+        UserSearch byId = new UserSearch();
+        UserSearch byUsername = new UserSearch();
+        byUsername.setSort(UserSearch.SortKey.USERNAME);
+
+        String idCursor = userRepository.scrollUserList(byId, null, 1).getNextCursor();
+
+        assertThatThrownBy(() -> userRepository.scrollUserList(byUsername, idCursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userRepository.scrollUserList(byId, "not-a-cursor", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFindSyncViewsAfterPagesOnLowerCaseUsername() {
+        userRepository.save(User.builder().username("Zed_sync").password("password").email("zed@example.com").build());
+        userRepository.save(User.builder().username("bob_sync").password("password").email("bob@example.com").build());
+
+        List<String> first = userRepository.findSyncViewsAfter("", PageRequest.of(0, 2)).stream()
+                .map(UserRepository.SyncView::getUsername).toList();
+        List<String> second = userRepository.findSyncViewsAfter(first.get(1).toLowerCase(), PageRequest.of(0, 10)).stream()
+                .map(UserRepository.SyncView::getUsername).toList();
+
+        assertThat(first).containsExactly("alice_smith", "bob_sync");
+        assertThat(second).containsSubsequence("john_doe", "Zed_sync");
+    }
+}
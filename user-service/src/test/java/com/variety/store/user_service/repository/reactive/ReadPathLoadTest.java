@@ -0,0 +1,155 @@
+package com.variety.store.user_service.repository.reactive;
+
+import com.variety.store.user_service.config.BlockingExecutor;
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.entity.User;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.repository.UserRepository;
+import com.variety.store.user_service.service.KeycloakLoadHarness;
+import com.variety.store.user_service.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로 비교. 같은 부하에서 JPA(BlockingExecutor) 경로와 R2DBC 경로의 처리량, 지연 시간, 사용한 스레드 수를 출력한다.
+ *
+ * 일반 테스트에서는 실행되지 않으며, ./gradlew readPathLoadTest 로 실행한다.
+ * -Pread.load.requests=20000 -Pread.load.concurrency=256 으로 조건을 바꿀 수 있다.
+ *
+ * 요청은 이벤트 루프와 같이 논블로킹 스레드(parallel)에서 시작한다.
+ * 인메모리 H2 는 네트워크 왕복이 없어 스레드 점유 차이가 작게 나타나므로, 실제 비교는 네트워크 DB 에서 다시 측정해야 한다.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "read.load.enabled", matches = "true")
+class ReadPathLoadTest {
+
+    private static final int USERS = 2_000;
+    private static final int REQUESTS = Integer.getInteger("read.load.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("read.load.concurrency", 256);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BlockingExecutor blockingExecutor;
+
+    @Autowired
+    private UserReadRepository userReadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<String> results = new ArrayList<>();
+    private Role role;
+
+    @BeforeAll
+    void seed() {
+        role = roleRepository.save(Role.builder().name("LOAD_TEST_USER").description("load test").build());
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = User.builder()
+                    .username(String.format("load-%05d", i))
+                    .password("password")
+                    .email(String.format("load-%05d@example.com", i))
+                    .build();
+            user.addRole(role);
+            users.add(user);
+        }
+        userRepository.saveAll(users).forEach(user -> userIds.add(user.getId()));
+    }
+
+    @AfterAll
+    void printResults() {
+        System.out.println();
+        System.out.println("Read path load test: users=" + USERS + ", requests=" + REQUESTS + ", concurrency=" + CONCURRENCY);
+        System.out.println(KeycloakLoadHarness.Result.header() + String.format(" %8s %8s", "threads", "peak"));
+        results.forEach(System.out::println);
+
+        userRepository.deleteAllById(userIds);
+        roleRepository.delete(role);
+    }
+
+    @Test
+    void findUserById() {
+        measure("users.get (jpa)", i -> blockingExecutor.call(() -> userService.getUserBasicInfo(userId(i))));
+        measure("users.get (r2dbc)", i -> userReadRepository.findById(userId(i)));
+    }
+
+    @Test
+    void searchUsers() {
+        UserSearch search = new UserSearch();
+        search.setUsername("load-0");
+        search.setRoleNames(List.of("LOAD_TEST_USER"));
+
+        measure("users.search (jpa)", i -> blockingExecutor.call(() -> userRepository.searchUserList(search, PageRequest.of(i % 10, 20))));
+        measure("users.search (r2dbc)", i -> userReadRepository.searchUserList(search, PageRequest.of(i % 10, 20)));
+    }
+
+    /**
+     * operation 을 REQUESTS 번, 최대 CONCURRENCY 건씩 동시에 실행한다.
+     * threads: 결과를 내보낸 서로 다른 스레드 수, peak: 측정 중 JVM 의 최대 스레드 수
+     */
+    private void measure(String name, IntFunction<Mono<?>> operation) {
+        run(operation, 1_000, ConcurrentHashMap.newKeySet());
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        long[] latencies = new long[REQUESTS];
+        long startedAt = System.nanoTime();
+        AtomicInteger errors = run(i -> {
+            long operationStartedAt = System.nanoTime();
+            return operation.apply(i).doFinally(signal -> latencies[i] = System.nanoTime() - operationStartedAt);
+        }, REQUESTS, threads);
+
+        KeycloakLoadHarness.Result result = new KeycloakLoadHarness.Result(name, CONCURRENCY, REQUESTS, errors.get(),
+                Duration.ofNanos(System.nanoTime() - startedAt), latencies);
+        results.add(result + String.format(" %8d %8d", threads.size(), threadBean.getPeakThreadCount()));
+        System.out.println(results.get(results.size() - 1));
+
+        assertThat(errors.get()).isZero();
+    }
+
+    private AtomicInteger run(IntFunction<Mono<?>> operation, int requests, Set<String> threads) {
+        AtomicInteger errors = new AtomicInteger();
+        Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> operation.apply(i))
+                        .subscribeOn(Schedulers.parallel())
+                        .doOnNext(value -> threads.add(Thread.currentThread().getName()))
+                        .doOnError(e -> errors.incrementAndGet())
+                        .onErrorResume(e -> Mono.empty()), CONCURRENCY)
+                .blockLast();
+        return errors;
+    }
+
+    private Long userId(int i) {
+        return userIds.get(i % userIds.size());
+    }
+}
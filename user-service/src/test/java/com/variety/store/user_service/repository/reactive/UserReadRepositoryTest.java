@@ -0,0 +1,218 @@
+package com.variety.store.user_service.repository.reactive;
+
+import com.variety.store.user_service.domain.dto.response.CursorPage;
+import com.variety.store.user_service.domain.dto.response.RoleResponse;
+import com.variety.store.user_service.domain.dto.response.UserResponse;
+import com.variety.store.user_service.domain.dto.search.UserSearch;
+import com.variety.store.user_service.domain.entity.Resource;
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.entity.User;
+import com.variety.store.user_service.domain.entity.value.Address;
+import com.variety.store.user_service.repository.ResourceRepository;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 로 저장한 데이터를 R2DBC 조회 저장소로 읽는다.
+ * R2DBC 연결은 JPA 트랜잭션의 미커밋 데이터를 볼 수 없으므로 @Transactional 을 사용하지 않고, 테스트 후 직접 삭제한다.
+ */
+@SpringBootTest
+class UserReadRepositoryTest {
+
+    @Autowired
+    private UserReadRepository userReadRepository;
+
+    @Autowired
+    private RoleReadRepository roleReadRepository;
+
+    @Autowired
+    private ResourceReadRepository resourceReadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    private Role adminRole;
+    private Role userRole;
+    private User john;
+    private User alice;
+    private final List<User> users = new ArrayList<>();
+    private Resource resource;
+
+    @BeforeEach
+    void setUp() {
+        adminRole = roleRepository.save(Role.builder().name("READ_TEST_ADMIN").description("Administrator Role").build());
+        userRole = roleRepository.save(Role.builder().name("READ_TEST_USER").description("Regular User Role").build());
+
+        john = User.builder()
+                .username("read_test_john")
+                .password("password123")
+                .firstName("John")
+                .lastName("Doe")
+                .email("read_test_john@example.com")
+                .address(Address.builder().city("성남시").street("판교역로").zipCode("13529").build())
+                .build();
+        john.addRole(adminRole);
+        john.addRole(userRole);
+        users.add(userRepository.save(john));
+
+        alice = User.builder()
+                .username("read_test_alice")
+                .password("password456")
+                .email("read_test_alice@example.com")
+                .build();
+        alice.addRole(userRole);
+        users.add(userRepository.save(alice));
+
+        for (int i = 0; i < 5; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("read_test_no_role_" + i)
+                    .password("password")
+                    .email("read_test_no_role_" + i + "@example.com")
+                    .build()));
+        }
+
+        Resource newResource = Resource.builder().name("read-test").pattern("/read-test/**").httpMethod("GET").priority(1L).build();
+        newResource.addRole(adminRole);
+        resource = resourceRepository.save(newResource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceRepository.delete(resource);
+        userRepository.deleteAll(users);
+        roleRepository.deleteAll(List.of(adminRole, userRole));
+    }
+
+    @Test
+    void testFindByIdWithRolesAndAddress() {
+        StepVerifier.create(userReadRepository.findById(john.getId()))
+                .assertNext(user -> {
+                    assertThat(user.getUsername()).isEqualTo("read_test_john");
+                    assertThat(user.getPassword()).isNull();
+                    assertThat(user.getAddress().getCity()).isEqualTo("성남시");
+                    assertThat(user.getAddress().getZipCode()).isEqualTo("13529");
+                    assertThat(user.getRoles()).extracting(RoleResponse::getName)
+                            .containsExactlyInAnyOrder("READ_TEST_ADMIN", "READ_TEST_USER");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(userReadRepository.findById(alice.getId()))
+                .assertNext(user -> assertThat(user.getAddress()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        StepVerifier.create(userReadRepository.findById(-1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void testSearchByUsernameAndRoleNames() {
+        UserSearch search = new UserSearch();
+        search.setUsername("READ_TEST");
+        search.setRoleNames(List.of("READ_TEST_USER"));
+
+        StepVerifier.create(userReadRepository.searchUserList(search, PageRequest.of(0, 10)))
+                .assertNext(page -> {
+                    assertThat(page.getTotalElements()).isEqualTo(2);
+                    assertThat(page.getContent()).extracting(UserResponse::getUsername)
+                            .containsExactly("read_test_john", "read_test_alice");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testSearchPagesWithTotalCount() {
+        UserSearch search = new UserSearch();
+        search.setUsername("read_test_");
+
+        StepVerifier.create(userReadRepository.searchUserList(search, PageRequest.of(1, 3)))
+                .assertNext(page -> {
+                    assertThat(page.getTotalElements()).isEqualTo(7);
+                    assertThat(page.getTotalPages()).isEqualTo(3);
+                    assertThat(page.getContent()).hasSize(3)
+                            .allSatisfy(user -> assertThat(user.getRoles()).isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testScrollVisitsEveryUserOnce() {
+        UserSearch search = new UserSearch();
+        search.setUsername("read_test_");
+        search.setSort(UserSearch.SortKey.USERNAME);
+
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<UserResponse> page = userReadRepository.scrollUserList(search, cursor, 3).block();
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(3);
+            page.getContent().forEach(user -> usernames.add(user.getUsername()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(usernames).hasSize(7).isSorted().doesNotHaveDuplicates();
+        assertThat(usernames.get(0)).isEqualTo("read_test_alice");
+    }
+
+    @Test
+    void testScrollRejectsCursorOfAnotherSort() {
+        UserSearch byId = new UserSearch();
+        byId.setUsername("read_test_");
+        String cursor = userReadRepository.scrollUserList(byId, null, 1).block().getNextCursor();
+
+        UserSearch byUsername = new UserSearch();
+        byUsername.setSort(UserSearch.SortKey.USERNAME);
+
+        StepVerifier.create(userReadRepository.scrollUserList(byUsername, cursor, 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testSearchEscapesLikeWildcards() {
+        UserSearch search = new UserSearch();
+        search.setUsername("read%test");
+
+        StepVerifier.create(userReadRepository.searchUserList(search, PageRequest.of(0, 10)))
+                .assertNext(page -> assertThat(page.getContent()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    void testRoleAndResourceReads() {
+        StepVerifier.create(roleReadRepository.findById(adminRole.getId()))
+                .assertNext(role -> assertThat(role.getName()).isEqualTo("READ_TEST_ADMIN"))
+                .verifyComplete();
+
+        StepVerifier.create(roleReadRepository.findAll().collectList())
+                .assertNext(roles -> assertThat(roles).extracting("name").contains("READ_TEST_ADMIN", "READ_TEST_USER"))
+                .verifyComplete();
+
+        StepVerifier.create(resourceReadRepository.findById(resource.getId()))
+                .assertNext(found -> {
+                    assertThat(found.getPattern()).isEqualTo("/read-test/**");
+                    assertThat(found.getRoles()).extracting(RoleResponse::getName).containsExactly("READ_TEST_ADMIN");
+                })
+                .verifyComplete();
+    }
+}
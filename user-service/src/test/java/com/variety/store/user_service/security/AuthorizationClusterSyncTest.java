@@ -0,0 +1,126 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.UserServiceApplication;
+import com.variety.store.user_service.domain.dto.request.ResourceRequest;
+import com.variety.store.user_service.domain.dto.response.ResourceResponse;
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.service.ResourceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 JVM 에서 같은 H2(in-memory) DB 를 공유하는 두 인스턴스(애플리케이션 컨텍스트)를 띄워,
+ * 한 인스턴스의 리소스 변경이 다른 인스턴스의 인가 매핑에 반영되는지 확인. (외부 브로커 없이 동작)
+ */
+class AuthorizationClusterSyncTest {
+
+    private final String databaseUrl = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void testChangeIsPushedToPeerInstance() throws InterruptedException {
+        nodeB = startNode(null);
+        nodeA = startNode("http://localhost:" + nodeB.getEnvironment().getProperty("local.server.port"));
+
+        createReportResource(nodeA);
+
+        // 변경한 인스턴스는 커밋 직후 반영
+        assertThat(match(nodeA, "/reports/1")).isNotNull();
+
+        // 다른 인스턴스는 알림을 받아 변경된 리소스만 다시 읽는다. (poll 주기는 충분히 길게 설정)
+        assertThat(awaitMatch(nodeB, "/reports/1")).isNotNull();
+    }
+
+    @Test
+    void testPeerCatchesUpByPollingChangeLog() {
+        nodeA = startNode(null);
+        nodeB = startNode(null);
+
+        ResourceResponse created = createReportResource(nodeA);
+        AuthorizationMappingLoader loaderB = nodeB.getBean(AuthorizationMappingLoader.class);
+
+        assertThat(match(nodeB, "/reports/1")).isNull();
+        assertThat(loaderB.synchronize()).isEqualTo(1);
+        assertThat(match(nodeB, "/reports/1").getValue().getResourceId()).isEqualTo(created.getId());
+
+        // 이미 반영한 이력은 다시 읽지 않으며, 버전도 바뀌지 않는다.
+        long version = nodeB.getBean(AuthorizationService.class).getVersion();
+        assertThat(loaderB.synchronize()).isZero();
+        assertThat(nodeB.getBean(AuthorizationService.class).getVersion()).isEqualTo(version);
+
+        nodeA.getBean(ResourceService.class).deleteResource(created.getId());
+        loaderB.synchronize();
+
+        assertThat(match(nodeB, "/reports/1")).isNull();
+    }
+
+    private ConfigurableApplicationContext startNode(String peerUri) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + databaseUrl,
+                "spring.jpa.hibernate.ddl-auto=update",
+                "spring.jpa.show-sql=false",
+                "eureka.client.enabled=false",
+                "authorization.cluster.poll-interval=1h",
+                "authorization.cluster.shared-secret=cluster-test-secret"));
+        if (peerUri != null) {
+            properties.add("spring.cloud.discovery.client.simple.instances.user-service-test[0].uri=" + peerUri);
+        }
+        return new SpringApplicationBuilder(UserServiceApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private ResourceResponse createReportResource(ConfigurableApplicationContext node) {
+        RoleRepository roleRepository = node.getBean(RoleRepository.class);
+        Role managerRole = roleRepository.findByName("ROLE_MANAGER")
+                .orElseGet(() -> roleRepository.save(Role.builder().name("ROLE_MANAGER").description("매니저 권한").build()));
+
+        return node.getBean(ResourceService.class).createResource(ResourceRequest.builder()
+                .name("report api")
+                .pattern("/reports/**")
+                .httpMethod("GET")
+                .priority(1L)
+                .roles(Set.of(managerRole.getId()))
+                .build());
+    }
+
+    private PathPatternTrie.Match<AuthorizationService.AuthorizationMapping> match(ConfigurableApplicationContext node, String path) {
+        return node.getBean(AuthorizationService.class).match(HttpMethod.GET, PathContainer.parsePath(path));
+    }
+
+    private PathPatternTrie.Match<AuthorizationService.AuthorizationMapping> awaitMatch(ConfigurableApplicationContext node, String path)
+            throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            PathPatternTrie.Match<AuthorizationService.AuthorizationMapping> match = match(node, path);
+            if (match != null) {
+                return match;
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
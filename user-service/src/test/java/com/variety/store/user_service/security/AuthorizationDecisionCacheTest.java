@@ -0,0 +1,71 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.security.AuthorizationDecisionCache.DecisionKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationDecisionCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthorizationDecisionCache decisionCache;
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        roleRegistry = new RoleRegistry();
+        roleRegistry.registerAll(List.of("ROLE_ADMIN", "ROLE_USER"));
+
+        meterRegistry = new SimpleMeterRegistry();
+        decisionCache = new AuthorizationDecisionCache(new AuthorizationCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void testKeyIgnoresAuthorityOrder() {
+        DecisionKey first = DecisionKey.of(HttpMethod.GET, "/user/1", mask("ROLE_USER", "ROLE_ADMIN"));
+        DecisionKey second = DecisionKey.of(HttpMethod.GET, "/user/1", mask("ROLE_ADMIN", "ROLE_USER", "ROLE_USER", "SCOPE_profile"));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(DecisionKey.of(HttpMethod.POST, "/user/1", mask("ROLE_USER", "ROLE_ADMIN")));
+    }
+
+    @Test
+    void testNewerVersionInvalidatesDecisions() {
+        DecisionKey key = DecisionKey.of(HttpMethod.GET, "/admin/dashboard", mask("ROLE_ADMIN"));
+
+        decisionCache.put(key, 1L, true, null);
+        assertThat(decisionCache.get(key, 1L).isGranted()).isTrue();
+
+        // 매핑이 변경되어 버전이 올라가면 이전 결정은 사용되지 않는다.
+        assertThat(decisionCache.get(key, 2L)).isNull();
+        assertThat(decisionCache.size()).isZero();
+
+        // 이전 버전으로 계산된 결정은 저장되지 않는다.
+        decisionCache.put(key, 1L, true, null);
+        assertThat(decisionCache.get(key, 2L)).isNull();
+    }
+
+    @Test
+    void testHitAndMissMetrics() {
+        DecisionKey key = DecisionKey.of(HttpMethod.GET, "/user/profile", mask("ROLE_USER"));
+
+        decisionCache.get(key, 0L);
+        decisionCache.put(key, 0L, true, null);
+        decisionCache.get(key, 0L);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", AuthorizationDecisionCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", AuthorizationDecisionCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private RoleMask mask(String... authorities) {
+        return roleRegistry.maskOf(AuthorityUtils.createAuthorityList(authorities));
+    }
+}
@@ -0,0 +1,213 @@
+package com.variety.store.user_service.security;
+
+import com.variety.store.user_service.domain.dto.request.ResourceRequest;
+import com.variety.store.user_service.domain.dto.request.RoleRequest;
+import com.variety.store.user_service.domain.dto.response.ResourceResponse;
+import com.variety.store.user_service.domain.entity.AuthorizationChange;
+import com.variety.store.user_service.domain.entity.Resource;
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
+import com.variety.store.user_service.repository.AuthorizationChangeRepository;
+import com.variety.store.user_service.repository.ResourceRepository;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.service.ResourceService;
+import com.variety.store.user_service.service.RoleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트랜잭션 커밋 이후에 매핑이 반영되는지 확인하기 위해, 테스트 메서드에 @Transactional 을 사용하지 않는다.
+ */
+@SpringBootTest
+class AuthorizationMappingLoaderTest {
+
+    @Autowired
+    private AuthorizationMappingLoader authorizationMappingLoader;
+
+    @Autowired
+    private AuthorizationService authorizationService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private AuthorizationChangeRepository changeRepository;
+
+    @Autowired
+    private AuthorizationClusterSync clusterSync;
+
+    private Role managerRole;
+
+    @BeforeEach
+    void setUp() {
+        managerRole = roleRepository.findByName("ROLE_MANAGER")
+                .orElseGet(() -> roleRepository.save(Role.builder().name("ROLE_MANAGER").description("매니저 권한").build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceRepository.deleteAll();
+        authorizationMappingLoader.loadAll();
+    }
+
+    @Test
+    void testLoadAllBuildsMappingsFromResources() {
+        Resource resource = Resource.builder()
+                .name("manager api")
+                .pattern("/manager/**")
+                .httpMethod("GET")
+                .priority(1L)
+                .build();
+        resource.addRole(managerRole);
+        resourceRepository.save(resource);
+
+        authorizationMappingLoader.loadAll();
+
+        PathPatternTrie.Match<AuthorizationService.AuthorizationMapping> match =
+                authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/manager/reports"));
+
+        assertThat(match).isNotNull();
+        assertThat(match.getValue().getResourceId()).isEqualTo(resource.getId());
+        assertThat(match.getValue().getRoles()).containsExactly("ROLE_MANAGER");
+    }
+
+    @Test
+    void testResourceChangesAreAppliedAfterCommit() {
+        ResourceResponse created = resourceService.createResource(ResourceRequest.builder()
+                .name("report api")
+                .pattern("/reports/**")
+                .httpMethod("GET")
+                .priority(1L)
+                .roles(Set.of(managerRole.getId()))
+                .build());
+
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/reports/1"))).isNotNull();
+
+        resourceService.updateResource(created.getId(), ResourceRequest.builder()
+                .name("report api")
+                .pattern("/reports/v2/**")
+                .httpMethod("GET")
+                .priority(1L)
+                .roles(Set.of(managerRole.getId()))
+                .build());
+
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/reports/1"))).isNull();
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/reports/v2/1"))).isNotNull();
+
+        resourceService.deleteResource(created.getId());
+
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/reports/v2/1"))).isNull();
+    }
+
+    @Test
+    void testRoleRenameAndDeleteAreAppliedToMappings() {
+        Role auditorRole = roleRepository.save(Role.builder().name("ROLE_AUDITOR").description("감사 권한").build());
+        ResourceResponse created = resourceService.createResource(ResourceRequest.builder()
+                .name("audit api")
+                .pattern("/audits/**")
+                .httpMethod("GET")
+                .priority(1L)
+                .roles(Set.of(auditorRole.getId(), managerRole.getId()))
+                .build());
+        long changeId = changeRepository.findMaxId();
+
+        roleService.updateRole(auditorRole.getId(), RoleRequest.builder().name("ROLE_AUDIT_LEAD").description("감사 권한").build());
+
+        // 새 이름으로 반영되고, 다른 인스턴스가 따라잡을 수 있도록 변경 이력도 남는다.
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/audits/1")).getValue().getRoles())
+                .containsExactlyInAnyOrder("ROLE_AUDIT_LEAD", "ROLE_MANAGER");
+        assertThat(changeRepository.findMaxId()).isGreaterThan(changeId);
+
+        roleService.deleteRole(auditorRole.getId());
+
+        assertThat(roleRepository.existsById(auditorRole.getId())).isFalse();
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/audits/1")).getValue().getRoles())
+                .containsExactly("ROLE_MANAGER");
+        assertThat(resourceService.getResourceById(created.getId()).getRoles()).hasSize(1);
+    }
+
+    @Test
+    void testRolledBackChangeIdDoesNotReloadAllMappings() {
+        authorizationMappingLoader.loadAll();
+        clusterSync.pruneChangesBefore(LocalDateTime.now().plusMinutes(1));
+
+        // 롤백된 트랜잭션처럼 이력 id 하나를 소비하고 남기지 않는다.
+        changeRepository.delete(changeRepository.save(new AuthorizationChange(-1L, ResourceChangedEvent.Type.CREATED)));
+
+        // 이력 없이 저장한 리소스는 전체를 다시 읽을 때만 반영된다.
+        resourceRepository.save(Resource.builder().name("unlisted api").pattern("/unlisted/**").httpMethod("GET").priority(1L).build());
+        Resource listed = resourceRepository.save(Resource.builder().name("listed api").pattern("/listed/**").httpMethod("GET").priority(1L).build());
+        changeRepository.save(new AuthorizationChange(listed.getId(), ResourceChangedEvent.Type.CREATED));
+
+        // 주기적 조회(poll)가 먼저 반영할 수 있으므로 반환값 대신 결과 매핑을 확인한다.
+        authorizationMappingLoader.synchronize();
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/listed/1"))).isNotNull();
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/unlisted/1"))).isNull();
+    }
+
+    @Test
+    void testPrunedChangesReloadAllMappings() {
+        authorizationMappingLoader.loadAll();
+
+        Resource missed = resourceRepository.save(Resource.builder().name("missed api").pattern("/missed/**").httpMethod("GET").priority(1L).build());
+        long changeId = changeRepository.save(new AuthorizationChange(missed.getId(), ResourceChangedEvent.Type.CREATED)).getId();
+
+        // 이 인스턴스가 반영하기 전에 이력이 정리되었다.
+        clusterSync.pruneChangesBefore(LocalDateTime.now().plusMinutes(1));
+        assertThat(changeRepository.existsById(changeId)).isFalse();
+
+        authorizationMappingLoader.synchronize();
+
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/missed/1"))).isNotNull();
+        assertThat(authorizationMappingLoader.getAppliedChangeId()).isGreaterThanOrEqualTo(changeId);
+    }
+
+    /**
+     * 대량 리소스 적재 시간 측정. (-Dauthorization.load-test=true 로 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "authorization.load-test", matches = "true")
+    void testLoadTenThousandResources() {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Resource resource = Resource.builder()
+                    .name("resource-" + i)
+                    .pattern("/load/" + i + "/{id}/**")
+                    .httpMethod("GET")
+                    .priority((long) i)
+                    .build();
+            resource.addRole(managerRole);
+            resources.add(resource);
+        }
+        resourceRepository.saveAll(resources);
+
+        long startedAt = System.nanoTime();
+        authorizationMappingLoader.loadAll();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("Loaded %d mappings in %d ms%n", authorizationService.getMappings().size(), elapsedMillis);
+        assertThat(authorizationService.getMappings()).hasSize(10_000);
+    }
+}
@@ -0,0 +1,98 @@
+package com.variety.store.user_service.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationServiceTest {
+
+    private AuthorizationService authorizationService;
+
+    @BeforeEach
+    void setUp() {
+        authorizationService = new AuthorizationService(new RoleRegistry());
+    }
+
+    @Test
+    void testEachChangePublishesNewVersion() {
+        AuthorizationSnapshot initial = authorizationService.getSnapshot();
+
+        authorizationService.addMapping(2L, "/admin/**", Set.of("ROLE_ADMIN"));
+        authorizationService.addMapping(1L, "/user/**", Set.of("ROLE_USER"));
+
+        AuthorizationSnapshot current = authorizationService.getSnapshot();
+        assertThat(current.getVersion()).isEqualTo(initial.getVersion() + 2);
+        assertThat(current.getMappings())
+                .extracting(AuthorizationService.AuthorizationMapping::getPattern)
+                .containsExactly("/user/**", "/admin/**");
+
+        // 이전 스냅샷은 변경되지 않는다.
+        assertThat(initial.getMappings()).isEmpty();
+    }
+
+    @Test
+    void testBatchIsPublishedAsSingleSwap() {
+        long before = authorizationService.getVersion();
+
+        authorizationService.applyChanges(batch -> batch
+                .addMapping(3L, "/c/**", Set.of("ROLE_C"))
+                .addMapping(1L, "/a/**", Set.of("ROLE_A"))
+                .addMapping(2L, "/b/**", Set.of("ROLE_B"))
+                .removeMapping("/c/**"));
+
+        assertThat(authorizationService.getVersion()).isEqualTo(before + 1);
+        assertThat(authorizationService.getMappings())
+                .extracting(AuthorizationService.AuthorizationMapping::getPattern)
+                .isEqualTo(List.of("/a/**", "/b/**"));
+        assertThat(authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/c/1"))).isNull();
+    }
+
+    @Test
+    void testRoleMaskCheck() {
+        RoleRegistry roleRegistry = new RoleRegistry();
+        authorizationService = new AuthorizationService(roleRegistry);
+        authorizationService.addMapping(1L, "/admin/**", Set.of("ROLE_ADMIN", "ROLE_MANAGER"));
+
+        AuthorizationService.AuthorizationMapping mapping = authorizationService.match(HttpMethod.GET, PathContainer.parsePath("/admin/users")).getValue();
+
+        assertThat(mapping.isGranted(roleRegistry.maskOf(AuthorityUtils.createAuthorityList("ROLE_MANAGER")))).isTrue();
+        assertThat(mapping.isGranted(roleRegistry.maskOf(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_GUEST")))).isFalse();
+        assertThat(mapping.isGranted(RoleMask.EMPTY)).isFalse();
+    }
+
+    @Test
+    void testMappingsArePartitionedByMethod() {
+        authorizationService.addMapping(HttpMethod.DELETE, 1L, "/users/{id}", Set.of("ROLE_ADMIN"));
+        authorizationService.addMapping(2L, "/users/**", Set.of("ROLE_USER"));
+
+        PathContainer path = PathContainer.parsePath("/users/1");
+
+        assertThat(authorizationService.match(HttpMethod.DELETE, path).getValue().getRoles()).containsExactly("ROLE_ADMIN");
+        assertThat(authorizationService.match(HttpMethod.GET, path).getValue().getRoles()).containsExactly("ROLE_USER");
+        assertThat(authorizationService.match(HttpMethod.PATCH, path).getValue().getRoles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void testParseHttpMethod() {
+        assertThat(AuthorizationService.parseHttpMethod(null)).isNull();
+        assertThat(AuthorizationService.parseHttpMethod("*")).isNull();
+        assertThat(AuthorizationService.parseHttpMethod("get")).isEqualTo(HttpMethod.GET);
+    }
+
+    @Test
+    void testNoOpBatchKeepsVersion() {
+        authorizationService.addMapping(1L, "/user/**", Set.of("ROLE_USER"));
+        long before = authorizationService.getVersion();
+
+        authorizationService.removeMapping("/unknown/**");
+
+        assertThat(authorizationService.getVersion()).isEqualTo(before);
+    }
+}
@@ -43,6 +43,12 @@ class CustomAuthorizationManagerTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private AuthorizationMetrics authorizationMetrics;
+
+    @Autowired
+    private AuthorizationDecisionCache decisionCache;
+
     @BeforeEach
     void setUp() {
         // 권한 매핑 추가 (순서가 중요한 경우 priority 값을 설정)
@@ -76,6 +82,53 @@ class CustomAuthorizationManagerTest {
         assertThat(authorizationResult.block()).isFalse();
     }
 
+    @Test
+    void testEquivalentPathsShareMatchAndCacheEntry() {
+        Authentication user = mockAuthenticationWithRole("ROLE_USER");
+
+        // 중복/끝 슬래시로 보호된 경로의 매핑을 피할 수 없다.
+        assertThat(customAuthorizationManager.authorize(Mono.just(user),
+                new AuthorizationContext(mockServerWebExchange("/admin//dashboard/"), Map.of())).block().isGranted()).isFalse();
+
+        decisionCache.invalidateAll();
+        customAuthorizationManager.authorize(Mono.just(user),
+                new AuthorizationContext(mockServerWebExchange("/user/settings"), Map.of())).block();
+        customAuthorizationManager.authorize(Mono.just(user),
+                new AuthorizationContext(mockServerWebExchange("/user//settings/"), Map.of())).block();
+
+        assertThat(decisionCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testNormalizePath() {
+        assertThat(CustomAuthorizationManager.normalizePath("/users/1")).isEqualTo("/users/1");
+        assertThat(CustomAuthorizationManager.normalizePath("/users//1/")).isEqualTo("/users/1");
+        assertThat(CustomAuthorizationManager.normalizePath("//")).isEqualTo("/");
+        assertThat(CustomAuthorizationManager.normalizePath("/")).isEqualTo("/");
+    }
+
+    @Test
+    void testMetricsCountOutcomesAndResourceHits() {
+        authorizationService.applyChanges(batch -> batch.putResource(900L, null, 0L, "/reports/**", Set.of("ROLE_MANAGER")));
+        long granted = authorizationMetrics.count(AuthorizationMetrics.Outcome.GRANTED);
+        long noMatch = authorizationMetrics.count(AuthorizationMetrics.Outcome.NO_MATCH);
+
+        Authentication authentication = mockAuthenticationWithRole("ROLE_MANAGER");
+        AuthorizationContext context = new AuthorizationContext(mockServerWebExchange("/reports/daily"), Map.of());
+
+        // 두 번째 요청은 결정 캐시에서 처리되지만, 리소스 적중 횟수에는 포함된다.
+        customAuthorizationManager.authorize(Mono.just(authentication), context).block();
+        customAuthorizationManager.authorize(Mono.just(authentication), context).block();
+        customAuthorizationManager.authorize(Mono.just(authentication),
+                new AuthorizationContext(mockServerWebExchange("/unmapped/path"), Map.of())).block();
+
+        assertThat(authorizationMetrics.count(AuthorizationMetrics.Outcome.GRANTED)).isEqualTo(granted + 2);
+        assertThat(authorizationMetrics.count(AuthorizationMetrics.Outcome.NO_MATCH)).isEqualTo(noMatch + 1);
+        assertThat(authorizationMetrics.resourceHits()).containsEntry(900L, 2L);
+
+        authorizationService.applyChanges(batch -> batch.removeResource(900L));
+    }
+
     // Mock Authentication 객체 생성
     private Authentication mockAuthenticationWithRole(String role) {
         return new TestingAuthenticationToken("testUser", "testPassword", role);
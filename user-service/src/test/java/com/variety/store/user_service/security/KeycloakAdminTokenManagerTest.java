@@ -0,0 +1,183 @@
+package com.variety.store.user_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class KeycloakAdminTokenManagerTest {
+
+    private static final long TOKEN_LIFETIME_SECONDS = 60;
+
+    private final AtomicInteger issued = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private volatile boolean failIssuing;
+    private volatile Duration issueLatency = Duration.ZERO;
+    private KeycloakAdminTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("keycloak-admin-api-client")
+                .clientId("admin-cli")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .tokenUri("http://localhost/token")
+                .build();
+
+        tokenManager = new KeycloakAdminTokenManager(new InMemoryReactiveClientRegistrationRepository(registration),
+                grantRequest -> Mono.defer(this::issue),
+                new KeycloakClientProperties.Token(), meterRegistry, clock);
+    }
+
+    @Test
+    void testConcurrentCallersShareOneTokenRequest() {
+        issueLatency = Duration.ofMillis(100);
+
+        List<String> tokens = Flux.range(0, 10)
+                .flatMap(i -> tokenManager.getAccessToken())
+                .collectList()
+                .block();
+
+        assertThat(tokens).hasSize(10).containsOnly("token-1");
+        assertThat(issued).hasValue(1);
+    }
+
+    @Test
+    void testTokenIsRefreshedAheadOfExpiryWithoutWaiting() {
+        assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+
+        // 만료 25초 전: 기존 토큰을 바로 반환하고, 새 토큰은 백그라운드에서 발급.
+        issueLatency = Duration.ofMillis(200);
+        clock.advance(Duration.ofSeconds(35));
+
+        assertThat(tokenManager.getAccessToken().block(Duration.ofMillis(50))).isEqualTo("token-1");
+        await().atMost(Duration.ofSeconds(2)).until(() -> "token-2".equals(tokenManager.getAccessToken().block()));
+        assertThat(issued).hasValue(2);
+    }
+
+    @Test
+    void testScheduledCheckRefreshesOnlyNearExpiry() {
+        tokenManager.getAccessToken().block();
+
+        tokenManager.refreshIfNeeded();
+        assertThat(issued).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(40));
+        tokenManager.refreshIfNeeded();
+        await().atMost(Duration.ofSeconds(2)).until(() -> issued.get() == 2);
+    }
+
+    @Test
+    void testExpiredTokenIsNotUsed() {
+        tokenManager.getAccessToken().block();
+        clock.advance(Duration.ofSeconds(TOKEN_LIFETIME_SECONDS));
+
+        assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-2");
+    }
+
+    @Test
+    void testBackgroundRefreshFailureKeepsValidToken() {
+        tokenManager.getAccessToken().block();
+
+        failIssuing = true;
+        clock.advance(Duration.ofSeconds(35));
+
+        assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+        await().atMost(Duration.ofSeconds(2))
+                .until(() -> meterRegistry.get("keycloak.admin-token.refresh").tag("outcome", "failure").timer().count() == 1);
+        assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+    }
+
+    @Test
+    void testRejectedTokenIsReplacedAndRequestRetriedOnce() {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/users")).build();
+        AtomicInteger exchanges = new AtomicInteger();
+
+        ClientResponse response = tokenManager.filter(request, exchangeRequest -> {
+            exchanges.incrementAndGet();
+            boolean valid = "Bearer token-2".equals(exchangeRequest.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            return Mono.just(ClientResponse.create(valid ? HttpStatus.OK : HttpStatus.UNAUTHORIZED).build());
+        }).block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchanges).hasValue(2);
+        assertThat(issued).hasValue(2);
+    }
+
+    @Test
+    void testTokenMetrics() {
+        tokenManager.getAccessToken().block();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThat(meterRegistry.get("keycloak.admin-token.age").gauge().value()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("keycloak.admin-token.remaining").gauge().value()).isBetween(49.0, 50.0);
+        assertThat(meterRegistry.get("keycloak.admin-token.refresh").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    private Mono<OAuth2AccessTokenResponse> issue() {
+        if (failIssuing) {
+            return Mono.error(new IllegalStateException("token endpoint unavailable"));
+        }
+        int number = issued.incrementAndGet();
+
+        // OAuth2AccessTokenResponse 는 시스템 시각 기준으로 만료 시각을 계산하므로, 테스트 시각 기준 수명에 맞춰 보정.
+        long expiresIn = Duration.between(Instant.now(), clock.instant().plusSeconds(TOKEN_LIFETIME_SECONDS)).toSeconds();
+        Mono<OAuth2AccessTokenResponse> response = Mono.just(OAuth2AccessTokenResponse.withToken("token-" + number)
+                .tokenType(OAuth2AccessToken.TokenType.BEARER)
+                .expiresIn(expiresIn)
+                .build());
+        return issueLatency.isZero() ? response : response.delayElement(issueLatency);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
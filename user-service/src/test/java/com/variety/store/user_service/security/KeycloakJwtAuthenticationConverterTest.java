@@ -0,0 +1,86 @@
+package com.variety.store.user_service.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeycloakJwtAuthenticationConverterTest {
+
+    private MeterRegistry meterRegistry;
+    private KeycloakJwtAuthenticationConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        converter = new KeycloakJwtAuthenticationConverter(new JwtAuthoritiesCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void testRealmRolesAreMappedToAuthorities() {
+        Jwt jwt = jwt("token-1", Instant.now().plusSeconds(300));
+
+        List<String> authorities = converter.convert(jwt).block().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        assertThat(authorities).contains("ROLE_USER", "ROLE_MANAGER", "SCOPE_profile");
+    }
+
+    @Test
+    void testSameTokenReusesCachedAuthorities() {
+        Jwt first = jwt("token-1", Instant.now().plusSeconds(300));
+        Jwt second = jwt("token-1", Instant.now().plusSeconds(300));
+
+        // 같은 토큰(jti)이면 권한 목록 객체를 그대로 재사용한다.
+        assertThat(converter.authoritiesOf(second)).isSameAs(converter.authoritiesOf(first));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", KeycloakJwtAuthenticationConverter.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", KeycloakJwtAuthenticationConverter.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testTokenWithoutJtiIsKeyedByHash() {
+        Jwt first = jwt(null, Instant.now().plusSeconds(300));
+        Jwt second = jwt(null, Instant.now().plusSeconds(300));
+
+        // 토큰 원문 대신 해시를 키로 사용한다.
+        assertThat(KeycloakJwtAuthenticationConverter.cacheKey(first))
+                .isEqualTo(KeycloakJwtAuthenticationConverter.cacheKey(second))
+                .doesNotContain(first.getTokenValue())
+                .hasSize(43);
+        assertThat(converter.authoritiesOf(second)).isSameAs(converter.authoritiesOf(first));
+    }
+
+    @Test
+    void testExpiredTokenIsNotCached() {
+        Jwt expired = jwt("token-2", Instant.now().minus(Duration.ofSeconds(1)));
+
+        assertThat(converter.authoritiesOf(expired)).isNotSameAs(converter.authoritiesOf(expired));
+    }
+
+    // jti 가 null 이면 jti 클레임 없이 생성.
+    private Jwt jwt(String jti, Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue("token-value-" + jti)
+                .header("alg", "RS256")
+                .subject("user-1")
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .claim("scope", "profile email")
+                .claim("realm_access", Map.of("roles", List.of("ROLE_USER", "ROLE_MANAGER")));
+        if (jti != null) {
+            builder.jti(jti);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.variety.store.user_service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PathPatternTrieTest {
+
+    @Test
+    void testLiteralAndDoubleWildcard() {
+        PathPatternTrie<String> trie = PathPatternTrie.<String>builder()
+                .add("/user/**", "user")
+                .add("/admin/**", "admin")
+                .build();
+
+        assertThat(match(trie, "/user/profile").getValue()).isEqualTo("user");
+        assertThat(match(trie, "/user").getValue()).isEqualTo("user");
+        assertThat(match(trie, "/admin/dashboard/stats").getValue()).isEqualTo("admin");
+        assertThat(match(trie, "/product/1")).isNull();
+    }
+
+    @Test
+    void testPriorityOrderWins() {
+        // 먼저 추가된 패턴(우선순위가 높은 패턴)이 더 구체적인 패턴보다 우선한다.
+        PathPatternTrie<String> trie = PathPatternTrie.<String>builder()
+                .add("/api/**", "api")
+                .add("/api/users/{id}", "user")
+                .build();
+
+        assertThat(match(trie, "/api/users/1").getValue()).isEqualTo("api");
+
+        PathPatternTrie<String> reversed = PathPatternTrie.<String>builder()
+                .add("/api/users/{id}", "user")
+                .add("/api/**", "api")
+                .build();
+
+        assertThat(match(reversed, "/api/users/1").getValue()).isEqualTo("user");
+        assertThat(match(reversed, "/api/roles").getValue()).isEqualTo("api");
+
+        // 두 패턴 모두 경로와 매칭되므로 후보 2개를 비교한다.
+        assertThat(match(reversed, "/api/users/1").getEvaluated()).isEqualTo(2);
+    }
+
+    @Test
+    void testPathVariables() {
+        PathPatternTrie<String> trie = PathPatternTrie.<String>builder()
+                .add("/users/{userId}/roles/{roleId:\\d+}", "roles")
+                .add("/files/{*path}", "files")
+                .add("/images/*.png", "images")
+                .build();
+
+        PathPatternTrie.Match<String> roles = match(trie, "/users/42/roles/7");
+        assertThat(roles.getValue()).isEqualTo("roles");
+        assertThat(roles.getVariables()).containsEntry("userId", "42").containsEntry("roleId", "7");
+        assertThat(match(trie, "/users/42/roles/admin")).isNull();
+
+        PathPatternTrie.Match<String> files = match(trie, "/files/a/b.txt");
+        assertThat(files.getVariables()).containsEntry("path", "/a/b.txt");
+
+        assertThat(match(trie, "/images/logo.png").getValue()).isEqualTo("images");
+        assertThat(match(trie, "/images/logo.gif")).isNull();
+    }
+
+    @Test
+    void testWildcardDoesNotMatchEmptySegment() {
+        PathPatternTrie<String> trie = PathPatternTrie.<String>builder()
+                .add("/users/{id}", "user")
+                .build();
+
+        assertThat(match(trie, "/users/1")).isNotNull();
+        assertThat(match(trie, "/users/")).isNull();
+        assertThat(match(trie, "/users")).isNull();
+    }
+
+    @Test
+    void testDoubleWildcardMustBeLastSegment() {
+        assertThatThrownBy(() -> PathPatternTrie.<String>builder().add("/api/**/users", "invalid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PathPatternTrie.Match<String> match(PathPatternTrie<String> trie, String path) {
+        return trie.match(PathContainer.parsePath(path));
+    }
+}
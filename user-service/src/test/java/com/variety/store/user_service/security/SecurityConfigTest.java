@@ -0,0 +1,86 @@
+package com.variety.store.user_service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+/**
+ * 인증 없이 열려 있는 경로와 관리자 전용 경로 확인.
+ */
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health, info, metrics, authorization",
+        "authorization.cluster.shared-secret=test-secret"
+})
+@AutoConfigureWebTestClient
+class SecurityConfigTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testHealthIsPublic() {
+        webTestClient.get().uri("/actuator/health")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testManagementEndpointsRequireAdmin() {
+        webTestClient.get().uri("/actuator/authorization")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.delete().uri("/actuator/authorization")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                .get().uri("/actuator/metrics")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority(SecurityConfig.ADMIN_AUTHORITY)))
+                .get().uri("/actuator/authorization")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testUserAndResourceListsRequireAdmin() {
+        for (String uri : new String[]{"/users", "/users/slice", "/users/scroll", "/resources", "/resources/1"}) {
+            webTestClient.get().uri(uri)
+                    .exchange()
+                    .expectStatus().isUnauthorized();
+
+            webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                    .get().uri(uri)
+                    .exchange()
+                    .expectStatus().isForbidden();
+        }
+
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority(SecurityConfig.ADMIN_AUTHORITY)))
+                .get().uri("/users/scroll")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testPeerNotificationRequiresSharedSecret() {
+        webTestClient.post().uri(AuthorizationClusterSync.NOTIFY_PATH + "?changeId=1")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.post().uri(AuthorizationClusterSync.NOTIFY_PATH + "?changeId=1")
+                .header(AuthorizationClusterSync.SECRET_HEADER, "wrong-secret")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.post().uri(AuthorizationClusterSync.NOTIFY_PATH + "?changeId=1")
+                .header(AuthorizationClusterSync.SECRET_HEADER, "test-secret")
+                .exchange()
+                .expectStatus().isAccepted();
+    }
+}
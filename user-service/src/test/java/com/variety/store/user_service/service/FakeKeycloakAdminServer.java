@@ -0,0 +1,558 @@
+package com.variety.store.user_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 메모리에서 동작하는 Keycloak Admin API 대역 서버.
+ *
+ * user-service 가 사용하는 Admin API(/users, /roles, /users/{id}/role-mappings/realm)와 토큰 발급(client_credentials)을
+ * 상태를 유지하며 흉내낸다. 실제 Keycloak 없이 KeycloakService 전체 경로(연결 풀, 토큰, 재시도)를 실행할 수 있다.
+ *
+ * - 경로별(또는 전체 "*") 지연 시간과 무작위 편차, 오류 비율, 처음 N 번의 오류 응답을 지정할 수 있다.
+ * - 경로 키는 "GET /users/{id}/role-mappings/realm" 처럼 id/이름을 치환한 형태이다.
+ * - 발급하지 않은 토큰으로 요청하면 401 로 응답한다.
+ */
+public class FakeKeycloakAdminServer implements AutoCloseable {
+
+    public static final String REALM = "variety-store";
+    public static final String ANY_ROUTE = "*";
+
+    private static final String ADMIN_PREFIX = "/admin/realms/" + REALM;
+    private static final String TOKEN_PATH = "/realms/" + REALM + "/protocol/openid-connect/token";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final DisposableServer server;
+
+    // 사용자: id -> 사용자, username -> id (이름순 페이지 조회)
+    private final Map<String, Map<String, Object>> users = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, String> userIds = new ConcurrentSkipListMap<>();
+    // 역할: 이름 -> 역할
+    private final ConcurrentSkipListMap<String, Map<String, Object>> roles = new ConcurrentSkipListMap<>();
+    // 사용자 id -> 할당된 역할 이름
+    private final Map<String, Set<String>> roleMappings = new ConcurrentHashMap<>();
+
+    private final Set<String> issuedTokens = ConcurrentHashMap.newKeySet();
+    private volatile Duration tokenLifetime = Duration.ofMinutes(5);
+
+    private final Map<String, Fault> faults = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public FakeKeycloakAdminServer() {
+        this(0);
+    }
+
+    // port 가 0 이면 사용 가능한 포트를 사용한다. (애플리케이션을 연결해 보려면 고정 포트 지정)
+    public FakeKeycloakAdminServer(int port) {
+        registerEndpoints();
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(port)
+                .handle(this::handle)
+                .bindNow();
+    }
+
+    // keycloak.client.base-url 에 지정할 주소
+    public String baseUrl() {
+        return "http://localhost:" + server.port() + ADMIN_PREFIX;
+    }
+
+    public String tokenUri() {
+        return "http://localhost:" + server.port() + TOKEN_PATH;
+    }
+
+    // ===== 데이터 =====
+
+    public FakeKeycloakAdminServer seedRoles(String... roleNames) {
+        for (String roleName : roleNames) {
+            createRole(roleName, roleName + " 역할");
+        }
+        return this;
+    }
+
+    /**
+     * user-00001 형식의 사용자 count 명 생성. 각 사용자에게 roleNames 역할을 할당한다. (이미 있는 사용자는 역할만 할당)
+     */
+    public FakeKeycloakAdminServer seedUsers(int count, String... roleNames) {
+        for (int i = 1; i <= count; i++) {
+            String username = String.format("user-%05d", i);
+            String userId = userIds.containsKey(username)
+                    ? userIds.get(username)
+                    : createUser(username, username + "@variety.store");
+            roleMappings.get(userId).addAll(Arrays.asList(roleNames));
+        }
+        return this;
+    }
+
+    public int userCount() {
+        return users.size();
+    }
+
+    public Optional<String> userIdOf(String username) {
+        return Optional.ofNullable(userIds.get(username.toLowerCase(Locale.ROOT)));
+    }
+
+    public Set<String> roleNamesOf(String username) {
+        return userIdOf(username).map(id -> Set.copyOf(roleMappings.get(id))).orElse(Set.of());
+    }
+
+    // ===== 토큰 =====
+
+    public FakeKeycloakAdminServer tokenLifetime(Duration lifetime) {
+        this.tokenLifetime = lifetime;
+        return this;
+    }
+
+    // 발급한 토큰을 모두 폐기. 이후 요청은 새 토큰을 받을 때까지 401 로 응답한다.
+    public void revokeTokens() {
+        issuedTokens.clear();
+    }
+
+    // ===== 지연/오류 주입 =====
+
+    /**
+     * 응답 지연. 실제 지연은 latency 에 [0, jitter) 범위의 무작위 시간이 더해진다.
+     */
+    public FakeKeycloakAdminServer latency(String route, Duration latency, Duration jitter) {
+        fault(route).latency = latency;
+        fault(route).jitter = jitter;
+        return this;
+    }
+
+    // rate(0.0 ~ 1.0) 비율의 요청을 status 로 실패.
+    public FakeKeycloakAdminServer errorRate(String route, double rate, int status) {
+        fault(route).errorRate = rate;
+        fault(route).errorStatus = status;
+        return this;
+    }
+
+    // 다음 count 번의 요청을 status 로 실패.
+    public FakeKeycloakAdminServer failNext(String route, int count, int status) {
+        fault(route).failures.set(count);
+        fault(route).errorStatus = status;
+        return this;
+    }
+
+    public void clearFaults() {
+        faults.clear();
+    }
+
+    // ===== 통계 =====
+
+    public int hits(String route) {
+        return hits.getOrDefault(route, new AtomicInteger()).get();
+    }
+
+    public Map<String, Integer> hits() {
+        Map<String, Integer> snapshot = new TreeMap<>();
+        hits.forEach((route, count) -> snapshot.put(route, count.get()));
+        return snapshot;
+    }
+
+    // 동시에 처리 중이던 최대 요청 수
+    public int maxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    public void resetStats() {
+        hits.clear();
+        maxInFlight.set(inFlight.get());
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    // ===== 요청 처리 =====
+
+    private void registerEndpoints() {
+        endpoint("POST", TOKEN_PATH, "POST /token", false, request -> issueToken());
+
+        admin("GET", "/users", "GET /users", this::searchUsers);
+        admin("POST", "/users", "POST /users", this::createUser);
+        admin("GET", "/users/([^/]+)", "GET /users/{id}", request -> findUser(request.param(1))
+                .map(Reply::json).orElseGet(Reply::notFound));
+        admin("PUT", "/users/([^/]+)", "PUT /users/{id}", this::updateUser);
+        admin("DELETE", "/users/([^/]+)", "DELETE /users/{id}", request -> deleteUser(request.param(1)));
+        admin("GET", "/users/([^/]+)/role-mappings/realm", "GET /users/{id}/role-mappings/realm", this::listUserRoles);
+        admin("POST", "/users/([^/]+)/role-mappings/realm", "POST /users/{id}/role-mappings/realm",
+                request -> changeUserRoles(request, Set::addAll));
+        admin("DELETE", "/users/([^/]+)/role-mappings/realm", "DELETE /users/{id}/role-mappings/realm",
+                request -> changeUserRoles(request, Set::removeAll));
+
+        admin("GET", "/roles", "GET /roles", request -> Reply.json(List.copyOf(roles.values())));
+        admin("POST", "/roles", "POST /roles", this::createRole);
+        admin("GET", "/roles/([^/]+)", "GET /roles/{name}", request -> Optional.ofNullable(roles.get(request.param(1)))
+                .map(Reply::json).orElseGet(Reply::notFound));
+        admin("PUT", "/roles/([^/]+)", "PUT /roles/{name}", this::updateRole);
+        admin("DELETE", "/roles/([^/]+)", "DELETE /roles/{name}", request -> deleteRole(request.param(1)));
+        admin("GET", "/roles/([^/]+)/users", "GET /roles/{name}/users", this::listRoleMembers);
+    }
+
+    private void admin(String method, String path, String route, Function<Request, Reply> handler) {
+        endpoint(method, ADMIN_PREFIX + path, route, true, handler);
+    }
+
+    private void endpoint(String method, String path, String route, boolean authenticated, Function<Request, Reply> handler) {
+        endpoints.add(new Endpoint(method, Pattern.compile(path), route, authenticated, handler));
+    }
+
+    private Mono<Void> handle(HttpServerRequest httpRequest, HttpServerResponse httpResponse) {
+        URI uri = URI.create(httpRequest.uri());
+        String method = httpRequest.method().name();
+
+        Endpoint endpoint = null;
+        Matcher matcher = null;
+        for (Endpoint candidate : endpoints) {
+            Matcher candidateMatcher = candidate.path.matcher(uri.getPath());
+            if (candidate.method.equals(method) && candidateMatcher.matches()) {
+                endpoint = candidate;
+                matcher = candidateMatcher;
+                break;
+            }
+        }
+        if (endpoint == null) {
+            return httpResponse.status(404).send();
+        }
+
+        Endpoint matched = endpoint;
+        Matcher pathMatcher = matcher;
+        hits.computeIfAbsent(matched.route, key -> new AtomicInteger()).incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        Mono<Reply> reply = httpRequest.receive().aggregate().asString().defaultIfEmpty("")
+                .map(body -> {
+                    Integer injected = injectedError(matched.route);
+                    if (injected != null) {
+                        return new Reply(injected, null, Map.of());
+                    }
+                    if (matched.authenticated && !isAuthorized(httpRequest.requestHeaders().get(HttpHeaders.AUTHORIZATION))) {
+                        return new Reply(401, null, Map.of());
+                    }
+                    return matched.handler.apply(new Request(pathMatcher, new QueryStringDecoder(httpRequest.uri()).parameters(), body));
+                });
+
+        Duration delay = delayOf(matched.route);
+        if (!delay.isZero()) {
+            reply = Mono.delay(delay).then(reply);
+        }
+
+        return reply
+                .flatMap(result -> write(httpResponse, result))
+                .doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    private Mono<Void> write(HttpServerResponse httpResponse, Reply reply) {
+        HttpServerResponse response = httpResponse.status(reply.status);
+        reply.headers.forEach(response::header);
+
+        if (reply.body == null) {
+            return response.send().then();
+        }
+        try {
+            String json = objectMapper.writeValueAsString(reply.body);
+            return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .sendString(Mono.just(json))
+                    .then();
+        }
+        catch (JsonProcessingException e) {
+            return response.status(500).send().then();
+        }
+    }
+
+    private boolean isAuthorized(String authorization) {
+        return authorization != null && authorization.startsWith("Bearer ")
+                && issuedTokens.contains(authorization.substring("Bearer ".length()));
+    }
+
+    private Reply issueToken() {
+        String token = UUID.randomUUID().toString();
+        issuedTokens.add(token);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("access_token", token);
+        response.put("token_type", "Bearer");
+        response.put("expires_in", tokenLifetime.toSeconds());
+        return Reply.json(response);
+    }
+
+    private Reply searchUsers(Request request) {
+        String username = request.query("username");
+        if (username != null) {
+            boolean exact = Boolean.parseBoolean(request.query("exact"));
+            String normalized = username.toLowerCase(Locale.ROOT);
+            Stream<String> ids = exact
+                    ? Stream.ofNullable(userIds.get(normalized))
+                    : userIds.entrySet().stream().filter(entry -> entry.getKey().contains(normalized)).map(Map.Entry::getValue);
+            return Reply.json(ids.map(users::get).filter(Objects::nonNull).toList());
+        }
+        return Reply.json(page(userIds.values().stream(), request).map(users::get).filter(Objects::nonNull).toList());
+    }
+
+    private Reply createUser(Request request) {
+        Map<String, Object> body = request.json(objectMapper);
+        String username = String.valueOf(body.get("username")).toLowerCase(Locale.ROOT);
+        if (userIds.containsKey(username)) {
+            return new Reply(409, Map.of("errorMessage", "User exists with same username"), Map.of());
+        }
+        String userId = createUser(username, (String) body.get("email"));
+        return new Reply(201, null, Map.of(HttpHeaders.LOCATION, baseUrl() + "/users/" + userId));
+    }
+
+    private String createUser(String username, String email) {
+        String userId = UUID.randomUUID().toString();
+        Map<String, Object> user = new ConcurrentHashMap<>();
+        user.put("id", userId);
+        user.put("username", username.toLowerCase(Locale.ROOT));
+        if (email != null) {
+            user.put("email", email);
+        }
+        user.put("enabled", true);
+
+        roleMappings.put(userId, ConcurrentHashMap.newKeySet());
+        users.put(userId, user);
+        userIds.put(username.toLowerCase(Locale.ROOT), userId);
+        return userId;
+    }
+
+    private Optional<Map<String, Object>> findUser(String userId) {
+        return Optional.ofNullable(users.get(userId));
+    }
+
+    private Reply updateUser(Request request) {
+        Optional<Map<String, Object>> user = findUser(request.param(1));
+        if (user.isEmpty()) {
+            return Reply.notFound();
+        }
+        Object email = request.json(objectMapper).get("email");
+        if (email != null) {
+            user.get().put("email", email);
+        }
+        return Reply.noContent();
+    }
+
+    private Reply deleteUser(String userId) {
+        Map<String, Object> removed = users.remove(userId);
+        if (removed == null) {
+            return Reply.notFound();
+        }
+        userIds.remove((String) removed.get("username"));
+        roleMappings.remove(userId);
+        return Reply.noContent();
+    }
+
+    private Reply listUserRoles(Request request) {
+        Set<String> assigned = roleMappings.get(request.param(1));
+        if (assigned == null) {
+            return Reply.notFound();
+        }
+        return Reply.json(assigned.stream().map(roles::get).filter(Objects::nonNull).toList());
+    }
+
+    private Reply changeUserRoles(Request request, RoleMappingChange change) {
+        Set<String> assigned = roleMappings.get(request.param(1));
+        if (assigned == null) {
+            return Reply.notFound();
+        }
+        List<String> roleNames = request.jsonList(objectMapper).stream()
+                .map(role -> String.valueOf(role.get("name")))
+                .toList();
+        if (!roles.keySet().containsAll(roleNames)) {
+            return Reply.notFound();
+        }
+        change.apply(assigned, roleNames);
+        return Reply.noContent();
+    }
+
+    private Reply createRole(Request request) {
+        Map<String, Object> body = request.json(objectMapper);
+        String roleName = String.valueOf(body.get("name"));
+        if (roles.containsKey(roleName)) {
+            return new Reply(409, Map.of("errorMessage", "Role with name " + roleName + " already exists"), Map.of());
+        }
+        createRole(roleName, (String) body.get("description"));
+        return new Reply(201, null, Map.of());
+    }
+
+    private void createRole(String roleName, String description) {
+        Map<String, Object> role = new ConcurrentHashMap<>();
+        role.put("id", UUID.randomUUID().toString());
+        role.put("name", roleName);
+        if (description != null) {
+            role.put("description", description);
+        }
+        roles.put(roleName, role);
+    }
+
+    private Reply updateRole(Request request) {
+        Map<String, Object> role = roles.remove(request.param(1));
+        if (role == null) {
+            return Reply.notFound();
+        }
+        Map<String, Object> body = request.json(objectMapper);
+        String newName = body.get("name") != null ? String.valueOf(body.get("name")) : request.param(1);
+        role.put("name", newName);
+        if (body.get("description") != null) {
+            role.put("description", body.get("description"));
+        }
+        roles.put(newName, role);
+        // 이름이 바뀌면 할당도 새 이름으로 옮긴다.
+        roleMappings.values().forEach(assigned -> {
+            if (assigned.remove(request.param(1))) {
+                assigned.add(newName);
+            }
+        });
+        return Reply.noContent();
+    }
+
+    private Reply deleteRole(String roleName) {
+        if (roles.remove(roleName) == null) {
+            return Reply.notFound();
+        }
+        roleMappings.values().forEach(assigned -> assigned.remove(roleName));
+        return Reply.noContent();
+    }
+
+    private Reply listRoleMembers(Request request) {
+        String roleName = request.param(1);
+        if (!roles.containsKey(roleName)) {
+            return Reply.notFound();
+        }
+        Stream<String> memberIds = userIds.values().stream()
+                .filter(userId -> roleMappings.getOrDefault(userId, Set.of()).contains(roleName));
+        return Reply.json(page(memberIds, request).map(users::get).filter(Objects::nonNull).toList());
+    }
+
+    private static <T> Stream<T> page(Stream<T> sorted, Request request) {
+        int first = request.query("first") != null ? Integer.parseInt(request.query("first")) : 0;
+        int max = request.query("max") != null ? Integer.parseInt(request.query("max")) : 100;
+        return sorted.skip(first).limit(max);
+    }
+
+    private Fault fault(String route) {
+        return faults.computeIfAbsent(route, key -> new Fault());
+    }
+
+    // 경로별 설정이 없으면 전체("*") 설정을 따른다.
+    private Fault faultOf(String route) {
+        Fault fault = faults.get(route);
+        return fault != null ? fault : faults.get(ANY_ROUTE);
+    }
+
+    private Integer injectedError(String route) {
+        Fault fault = faultOf(route);
+        if (fault == null) {
+            return null;
+        }
+        if (fault.failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return fault.errorStatus;
+        }
+        if (fault.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < fault.errorRate) {
+            return fault.errorStatus;
+        }
+        return null;
+    }
+
+    private Duration delayOf(String route) {
+        Fault fault = faultOf(route);
+        if (fault == null) {
+            return Duration.ZERO;
+        }
+        long jitter = fault.jitter.toNanos();
+        return fault.latency.plusNanos(jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+    }
+
+    @FunctionalInterface
+    private interface RoleMappingChange {
+        void apply(Set<String> assigned, Collection<String> roleNames);
+    }
+
+    private record Endpoint(String method, Pattern path, String route, boolean authenticated,
+                            Function<Request, Reply> handler) {
+    }
+
+    private record Request(Matcher pathMatcher, Map<String, List<String>> parameters, String body) {
+
+        private static final TypeReference<Map<String, Object>> OBJECT = new TypeReference<>() {};
+        private static final TypeReference<List<Map<String, Object>>> LIST = new TypeReference<>() {};
+
+        // 경로 변수. (0 번은 전체 경로)
+        String param(int group) {
+            return pathMatcher.group(group);
+        }
+
+        String query(String name) {
+            List<String> values = parameters.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        Map<String, Object> json(ObjectMapper objectMapper) {
+            return read(objectMapper, OBJECT, Map.of());
+        }
+
+        List<Map<String, Object>> jsonList(ObjectMapper objectMapper) {
+            return read(objectMapper, LIST, List.of());
+        }
+
+        private <T> T read(ObjectMapper objectMapper, TypeReference<T> type, T empty) {
+            if (body.isBlank()) {
+                return empty;
+            }
+            try {
+                return objectMapper.readValue(body, type);
+            }
+            catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("잘못된 요청 본문입니다: " + body, e);
+            }
+        }
+    }
+
+    private record Reply(int status, Object body, Map<String, String> headers) {
+
+        static Reply json(Object body) {
+            return new Reply(200, body, Map.of());
+        }
+
+        static Reply noContent() {
+            return new Reply(204, null, Map.of());
+        }
+
+        static Reply notFound() {
+            return new Reply(404, null, Map.of());
+        }
+    }
+
+    private static class Fault {
+
+        private volatile Duration latency = Duration.ZERO;
+        private volatile Duration jitter = Duration.ZERO;
+        private volatile double errorRate;
+        private volatile int errorStatus = 503;
+        private final AtomicInteger failures = new AtomicInteger();
+    }
+}
@@ -0,0 +1,108 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.dto.request.UserRoleAssignmentRequest;
+import com.variety.store.user_service.domain.dto.response.UserRoleAssignmentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가짜 Admin API 서버를 대상으로 애플리케이션과 같은 구성의 KeycloakService 가 동작하는지 확인한다.
+ * (연결 풀, 토큰 발급/갱신, 재시도까지 실제 HTTP 로 실행)
+ */
+class FakeKeycloakAdminServerTest {
+
+    private FakeKeycloakAdminServer server;
+    private KeycloakLoadHarness harness;
+    private KeycloakService keycloakService;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeKeycloakAdminServer()
+                .seedRoles("ROLE_USER", "ROLE_ADMIN")
+                .seedUsers(3, "ROLE_USER");
+        harness = KeycloakLoadHarness.against(server,
+                settings -> settings.resilience.getRetry().setInitialBackoff(Duration.ofMillis(10)));
+        keycloakService = harness.keycloakService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        harness.close();
+        server.close();
+    }
+
+    @Test
+    void testUserLifecycle() {
+        keycloakService.createUser("Alice", "alice@variety.store", "secret").block();
+
+        assertThat(keycloakService.getUserInfoByUsername("alice").block())
+                .hasValueSatisfying(user -> assertThat(user.getEmail()).isEqualTo("alice@variety.store"));
+
+        keycloakService.updateUserRoles("alice", List.of("ROLE_ADMIN")).block();
+        assertThat(server.roleNamesOf("alice")).containsExactly("ROLE_ADMIN");
+
+        keycloakService.deleteUser("alice").block();
+        assertThat(server.userIdOf("alice")).isEmpty();
+    }
+
+    @Test
+    void testBulkReassignmentAgainstFakeServer() {
+        List<UserRoleAssignmentResponse> responses = keycloakService.updateUserRolesInBulk(Flux.just(
+                        new UserRoleAssignmentRequest("user-00001", List.of("ROLE_USER", "ROLE_ADMIN")),
+                        new UserRoleAssignmentRequest("user-00002", List.of("ROLE_USER")),
+                        new UserRoleAssignmentRequest("nobody", List.of("ROLE_USER"))), 4)
+                .collectList()
+                .block();
+
+        assertThat(responses).extracting(UserRoleAssignmentResponse::getStatus)
+                .containsExactlyInAnyOrder(UserRoleAssignmentResponse.Status.UPDATED,
+                        UserRoleAssignmentResponse.Status.UNCHANGED,
+                        UserRoleAssignmentResponse.Status.NOT_FOUND);
+        assertThat(server.roleNamesOf("user-00001")).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void testRevokedTokenIsReplaced() {
+        keycloakService.getUserInfoByUsername("user-00001").block();
+        server.revokeTokens();
+
+        assertThat(keycloakService.getUserInfoByUsername("user-00002").block()).isPresent();
+        assertThat(server.hits("POST /token")).isEqualTo(2);
+    }
+
+    @Test
+    void testInjectedErrorsAreRetried() {
+        server.failNext("GET /users", 2, 503);
+
+        assertThat(keycloakService.getUserInfoByUsername("user-00003").block()).isPresent();
+        assertThat(server.hits("GET /users")).isEqualTo(3);
+    }
+
+    @Test
+    void testRealmIsStreamedInPages() {
+        server.seedUsers(250);
+
+        assertThat(harness.realmReader().streamUsers(100).count().block()).isEqualTo(250);
+        assertThat(server.hits("GET /users")).isEqualTo(3);
+    }
+
+    @Test
+    void testHarnessReportsLatencyDistribution() {
+        server.latency(FakeKeycloakAdminServer.ANY_ROUTE, Duration.ofMillis(5), Duration.ZERO);
+
+        KeycloakLoadHarness.Result result = harness.run("users.lookup", 10, 100, 10,
+                i -> keycloakService.getUserInfoByUsername("user-0000" + (i % 3 + 1)));
+
+        assertThat(result.errors()).isZero();
+        assertThat(result.percentile(50)).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+        assertThat(result.percentile(99)).isGreaterThanOrEqualTo(result.percentile(50));
+        assertThat(result.throughput()).isPositive();
+    }
+}
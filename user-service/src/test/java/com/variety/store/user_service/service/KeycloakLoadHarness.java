@@ -0,0 +1,175 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.security.KeycloakAdminTokenManager;
+import com.variety.store.user_service.security.KeycloakClientProperties;
+import com.variety.store.user_service.security.KeycloakWebClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * FakeKeycloakAdminServer 를 대상으로 KeycloakService 작업을 반복 실행하여 처리량과 지연 시간 분포를 측정한다.
+ *
+ * 애플리케이션과 같은 구성(KeycloakWebClientConfig 의 연결 풀, 토큰 관리, 재시도/서킷 브레이커, 캐시)으로
+ * KeycloakService 를 만들므로, 캐시/연결 풀/동시성 설정 변경의 효과를 Keycloak 없이 비교할 수 있다.
+ */
+public class KeycloakLoadHarness implements AutoCloseable {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionProvider connectionProvider;
+    private final KeycloakResilience resilience;
+    private final KeycloakService keycloakService;
+    private final KeycloakRealmReader realmReader;
+
+    private KeycloakLoadHarness(FakeKeycloakAdminServer server, Settings settings) {
+        KeycloakClientProperties clientProperties = settings.client;
+        clientProperties.setBaseUrl(server.baseUrl());
+
+        ClientRegistration registration = ClientRegistration.withRegistrationId(clientProperties.getToken().getRegistrationId())
+                .clientId("admin-cli")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .tokenUri(server.tokenUri())
+                .build();
+
+        KeycloakWebClientConfig config = new KeycloakWebClientConfig();
+        this.connectionProvider = config.keycloakConnectionProvider(clientProperties);
+        KeycloakAdminTokenManager tokenManager = config.keycloakAdminTokenManager(
+                new InMemoryReactiveClientRegistrationRepository(registration), connectionProvider, clientProperties, meterRegistry);
+        WebClient webClient = config.keycloakWebClient(tokenManager, connectionProvider, clientProperties);
+
+        this.resilience = new KeycloakResilience(settings.resilience, meterRegistry);
+        this.keycloakService = new KeycloakService(webClient,
+                new KeycloakUserIdCache(settings.cache, meterRegistry),
+                new KeycloakRoleCatalog(webClient, resilience, settings.cache, meterRegistry),
+                settings.bulk,
+                resilience);
+        this.realmReader = new KeycloakRealmReader(webClient, resilience, settings.paging);
+    }
+
+    public static KeycloakLoadHarness against(FakeKeycloakAdminServer server) {
+        return against(server, settings -> {});
+    }
+
+    /**
+     * 설정을 바꿔서 생성. (예: settings -> settings.client.getPool().setMaxConnections(10))
+     */
+    public static KeycloakLoadHarness against(FakeKeycloakAdminServer server, Consumer<Settings> customizer) {
+        Settings settings = new Settings();
+        customizer.accept(settings);
+        return new KeycloakLoadHarness(server, settings);
+    }
+
+    public KeycloakService keycloakService() {
+        return keycloakService;
+    }
+
+    public KeycloakRealmReader realmReader() {
+        return realmReader;
+    }
+
+    public KeycloakResilience resilience() {
+        return resilience;
+    }
+
+    public SimpleMeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * operation 을 requests 번, 최대 concurrency 건씩 동시에 실행한다. 실패한 작업도 지연 시간에 포함된다.
+     * 측정 전에 warmup 번 먼저 실행하여 연결, 토큰, 캐시를 준비한다.
+     */
+    public Result run(String name, int warmup, int requests, int concurrency, IntFunction<Mono<?>> operation) {
+        if (warmup > 0) {
+            Flux.range(0, warmup)
+                    .flatMap(i -> operation.apply(i).onErrorResume(e -> Mono.empty()), concurrency)
+                    .blockLast();
+        }
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    long operationStartedAt = System.nanoTime();
+                    return operation.apply(i)
+                            .then()
+                            .doOnError(e -> errors.incrementAndGet())
+                            .onErrorResume(e -> Mono.empty())
+                            .doFinally(signal -> latencies[i] = System.nanoTime() - operationStartedAt);
+                }), concurrency)
+                .blockLast();
+
+        return new Result(name, concurrency, requests, errors.get(), Duration.ofNanos(System.nanoTime() - startedAt), latencies);
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    /**
+     * 측정 대상 KeycloakService 의 설정. 기본값은 각 설정 클래스의 기본값과 같다.
+     */
+    public static class Settings {
+
+        public final KeycloakClientProperties client = new KeycloakClientProperties();
+        public final KeycloakCacheProperties cache = new KeycloakCacheProperties();
+        public final KeycloakResilienceProperties resilience = new KeycloakResilienceProperties();
+        public final KeycloakBulkProperties bulk = new KeycloakBulkProperties();
+        public final KeycloakPagingProperties paging = new KeycloakPagingProperties();
+    }
+
+    /**
+     * 측정 결과. 지연 시간은 작업 하나가 끝날 때까지의 시간(재시도 포함)이다.
+     */
+    public record Result(String name, int concurrency, int requests, int errors, Duration elapsed, long[] latencies) {
+
+        public Result {
+            latencies = latencies.clone();
+            Arrays.sort(latencies);
+        }
+
+        public double throughput() {
+            return requests / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        public Duration percentile(double percentile) {
+            if (latencies.length == 0) {
+                return Duration.ZERO;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return Duration.ofNanos(latencies[Math.max(0, Math.min(index, latencies.length - 1))]);
+        }
+
+        public static String header() {
+            return String.format("%-40s %6s %8s %7s %12s %9s %9s %9s %9s",
+                    "scenario", "conc", "requests", "errors", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %6d %8d %7d %12.1f %9.2f %9.2f %9.2f %9.2f",
+                    name, concurrency, requests, errors, throughput(),
+                    millis(percentile(50)), millis(percentile(90)), millis(percentile(99)), millis(percentile(100)));
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
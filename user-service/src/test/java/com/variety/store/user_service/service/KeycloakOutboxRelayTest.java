@@ -0,0 +1,178 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.dto.request.RoleRequest;
+import com.variety.store.user_service.domain.entity.KeycloakOutbox;
+import com.variety.store.user_service.repository.KeycloakOutboxRepository;
+import com.variety.store.user_service.repository.RoleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 기록과 릴레이 동작 확인. Keycloak 호출은 KeycloakService 목(mock)으로 대체한다.
+ * (테스트 설정에서 자동 릴레이는 꺼져 있으므로, relayBatch() 를 직접 호출한다)
+ */
+@SpringBootTest
+class KeycloakOutboxRelayTest {
+
+    @Autowired
+    private KeycloakOutboxRelay relay;
+
+    @Autowired
+    private KeycloakOutboxService outboxService;
+
+    @Autowired
+    private KeycloakOutboxRepository outboxRepository;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private KeycloakService keycloakService;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        roleRepository.findByName("ROLE_OUTBOX").ifPresent(roleRepository::delete);
+    }
+
+    @Test
+    void testRoleCreationIsRelayedAfterCommit() {
+        when(keycloakService.createRole(any(), any())).thenReturn(Mono.empty());
+
+        roleService.createRole(RoleRequest.builder().name("ROLE_OUTBOX").description("아웃박스 테스트").build());
+
+        // DB 저장 시점에는 Keycloak 을 호출하지 않는다.
+        verifyNoInteractions(keycloakService);
+        assertThat(outboxRepository.findAll())
+                .extracting(KeycloakOutbox::getStatus)
+                .containsExactly(KeycloakOutbox.Status.PENDING);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        verify(keycloakService).createRole("ROLE_OUTBOX", "아웃박스 테스트");
+        assertThat(outboxRepository.findAll())
+                .extracting(KeycloakOutbox::getStatus)
+                .containsExactly(KeycloakOutbox.Status.DONE);
+    }
+
+    @Test
+    void testEnqueueRequiresTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxService.enqueueRoleCreation("ROLE_OUTBOX", null));
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void testTransientFailureBlocksLaterEntriesOfSameAggregate() {
+        when(keycloakService.createRole(eq("ROLE_A"), any()))
+                .thenReturn(Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
+        when(keycloakService.createRole(eq("ROLE_B"), any())).thenReturn(Mono.empty());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueueRoleCreation("ROLE_A", "first");
+            outboxService.enqueueRoleCreation("ROLE_A", "second");
+            outboxService.enqueueRoleCreation("ROLE_B", null);
+        });
+
+        relay.relayBatch();
+
+        // ROLE_A 의 두 번째 작업은 첫 번째 작업이 끝날 때까지 보내지 않는다.
+        verify(keycloakService, times(1)).createRole(eq("ROLE_A"), any());
+        verify(keycloakService, times(1)).createRole(eq("ROLE_B"), any());
+
+        List<KeycloakOutbox> entries = findAllOrdered();
+        assertThat(entries.get(0).getStatus()).isEqualTo(KeycloakOutbox.Status.PENDING);
+        assertThat(entries.get(0).getAttempts()).isEqualTo(1);
+        assertThat(entries.get(0).getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(entries.get(0).getClaimedBy()).isNull();
+        assertThat(entries.get(1).getStatus()).isEqualTo(KeycloakOutbox.Status.PENDING);
+        assertThat(entries.get(1).getAttempts()).isZero();
+        assertThat(entries.get(1).getClaimedBy()).isNull();
+        assertThat(entries.get(2).getStatus()).isEqualTo(KeycloakOutbox.Status.DONE);
+
+        // 재시도 시각 전에는 ROLE_A 의 어떤 작업도 다시 점유하지 않는다.
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void testNonRetryableFailureIsDeadLetteredAndConflictIsCompleted() {
+        when(keycloakService.createRole(eq("ROLE_BAD"), any()))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+        when(keycloakService.createRole(eq("ROLE_EXISTING"), any()))
+                .thenReturn(Mono.error(WebClientResponseException.create(409, "Conflict", null, null, null)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueueRoleCreation("ROLE_BAD", null);
+            outboxService.enqueueRoleCreation("ROLE_EXISTING", null);
+        });
+
+        relay.relayBatch();
+
+        List<KeycloakOutbox> entries = findAllOrdered();
+        assertThat(entries.get(0).getStatus()).isEqualTo(KeycloakOutbox.Status.DEAD);
+        assertThat(entries.get(0).getLastError()).contains("400");
+        assertThat(entries.get(1).getStatus()).isEqualTo(KeycloakOutbox.Status.DONE);
+    }
+
+    @Test
+    void testPasswordIsRemovedFromFinishedEntries() {
+        when(keycloakService.createUser(eq("outbox-done"), any(), any())).thenReturn(Mono.empty());
+        when(keycloakService.createUser(eq("outbox-dead"), any(), any()))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueueUserCreation("outbox-done", "done@example.com", "{bcrypt}hash-1");
+            outboxService.enqueueUserCreation("outbox-dead", "dead@example.com", "{bcrypt}hash-2");
+        });
+        assertThat(findAllOrdered()).allSatisfy(entry -> assertThat(entry.getPayload()).contains("{bcrypt}hash"));
+
+        relay.relayBatch();
+
+        verify(keycloakService).createUser("outbox-done", "done@example.com", "{bcrypt}hash-1");
+        List<KeycloakOutbox> entries = findAllOrdered();
+        assertThat(entries).extracting(KeycloakOutbox::getStatus)
+                .containsExactly(KeycloakOutbox.Status.DONE, KeycloakOutbox.Status.DEAD);
+        assertThat(entries).allSatisfy(entry -> {
+            assertThat(entry.getPayload()).doesNotContain("password", "{bcrypt}hash");
+            assertThat(outboxService.readPayload(entry)).containsKey("username");
+        });
+    }
+
+    @Test
+    void testBackoffIsBoundedAndJittered() {
+        for (int attempts = 1; attempts < 30; attempts++) {
+            assertThat(relay.backoff(attempts)).isLessThanOrEqualTo(Duration.ofMinutes(5));
+        }
+        assertThat(relay.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+    }
+
+    private List<KeycloakOutbox> findAllOrdered() {
+        return outboxRepository.findAll().stream()
+                .sorted(Comparator.comparing(KeycloakOutbox::getId))
+                .toList();
+    }
+}
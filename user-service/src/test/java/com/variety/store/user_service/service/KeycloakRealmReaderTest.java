@@ -0,0 +1,155 @@
+package com.variety.store.user_service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * first/max 로 페이지를 나눠 응답하는 ExchangeFunction 으로 Realm 스트림 조회를 확인한다.
+ */
+class KeycloakRealmReaderTest {
+
+    private static final int TOTAL_USERS = 250;
+
+    private final List<String> pageRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+
+    private KeycloakPagingProperties properties;
+    private KeycloakRealmReader reader;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeycloakPagingProperties();
+
+        KeycloakResilienceProperties resilienceProperties = new KeycloakResilienceProperties();
+        resilienceProperties.getRetry().setInitialBackoff(Duration.ofMillis(10));
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(this::respond)
+                .build();
+        reader = new KeycloakRealmReader(webClient,
+                new KeycloakResilience(resilienceProperties, new SimpleMeterRegistry()), properties);
+    }
+
+    @Test
+    void testStreamsAllPagesInOrder() {
+        List<String> usernames = reader.streamUsers(100)
+                .map(KeycloakService.UserRepresentation::getUsername)
+                .collectList()
+                .block();
+
+        assertThat(usernames).hasSize(TOTAL_USERS);
+        assertThat(usernames.get(0)).isEqualTo("user-0");
+        assertThat(usernames.get(TOTAL_USERS - 1)).isEqualTo("user-" + (TOTAL_USERS - 1));
+        // 마지막 페이지(50건)를 받은 뒤에는 더 요청하지 않는다.
+        assertThat(pageRequests).containsExactly("0:100", "100:100", "200:100");
+    }
+
+    @Test
+    void testExactMultipleOfPageSizeEndsWithEmptyPage() {
+        assertThat(reader.streamUsers(50).count().block()).isEqualTo(TOTAL_USERS);
+        assertThat(pageRequests).hasSize(6).endsWith("250:50");
+    }
+
+    @Test
+    void testNextPageIsRequestedOnlyOnDemand() {
+        StepVerifier.create(reader.streamUsers(100), 10)
+                .expectNextCount(10)
+                .then(() -> assertThat(pageRequests).containsExactly("0:100"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testPrefetchRequestsPagesAheadButKeepsOrder() {
+        properties.setPrefetchPages(3);
+
+        List<String> usernames = reader.streamUsers(40)
+                .map(KeycloakService.UserRepresentation::getUsername)
+                .collectList()
+                .block();
+
+        assertThat(usernames).containsExactlyElementsOf(IntStream.range(0, TOTAL_USERS).mapToObj(i -> "user-" + i).toList());
+    }
+
+    @Test
+    void testFailedPageIsRetriedWithoutDuplicates() {
+        failuresToInject.set(1);
+
+        List<String> usernames = reader.streamUsers(100)
+                .map(KeycloakService.UserRepresentation::getUsername)
+                .collectList()
+                .block();
+
+        assertThat(usernames).hasSize(TOTAL_USERS).doesNotHaveDuplicates();
+        assertThat(pageRequests).containsExactly("0:100", "0:100", "100:100", "200:100");
+    }
+
+    @Test
+    void testInvalidPageSizeIsRejected() {
+        StepVerifier.create(reader.streamUsers(0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testUserRoleMappingsKeepUserOrder() {
+        properties.setPageSize(100);
+
+        List<KeycloakRealmReader.UserRoleMapping> mappings = reader.streamUserRoleMappings().collectList().block();
+
+        assertThat(mappings).hasSize(TOTAL_USERS);
+        assertThat(mappings.get(7).getUser().getUsername()).isEqualTo("user-7");
+        assertThat(mappings.get(7).getRoles())
+                .extracting(KeycloakService.RoleRepresentation::getName)
+                .containsExactly("ROLE_USER");
+    }
+
+    private Mono<ClientResponse> respond(ClientRequest request) {
+        String path = request.url().getPath();
+
+        if (path.endsWith("/role-mappings/realm")) {
+            return json("[{\"id\":\"r-user\",\"name\":\"ROLE_USER\"}]");
+        }
+
+        Map<String, String> query = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().toSingleValueMap();
+        int first = Integer.parseInt(query.get("first"));
+        int max = Integer.parseInt(query.get("max"));
+        pageRequests.add(first + ":" + max);
+
+        if (failuresToInject.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+
+        String body = IntStream.range(first, Math.min(first + max, TOTAL_USERS))
+                .mapToObj(i -> "{\"id\":\"u-" + i + "\",\"username\":\"user-" + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        return json(body);
+    }
+
+    private Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
@@ -0,0 +1,314 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.entity.Role;
+import com.variety.store.user_service.repository.RoleRepository;
+import com.variety.store.user_service.repository.UserRepository;
+import com.variety.store.user_service.service.KeycloakReconciler.Drift;
+import com.variety.store.user_service.service.KeycloakReconciler.Report;
+import com.variety.store.user_service.service.KeycloakService.RoleRepresentation;
+import com.variety.store.user_service.service.KeycloakService.UserRepresentation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 정렬된 로컬/Keycloak 목록 비교와 수정 작업 반영 확인. 저장소와 Keycloak 호출은 목(mock)으로 대체한다.
+ */
+class KeycloakReconcilerTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final KeycloakService keycloakService = mock(KeycloakService.class);
+    private final KeycloakRealmReader realmReader = mock(KeycloakRealmReader.class);
+    private final KeycloakReconciliationProperties properties = new KeycloakReconciliationProperties();
+
+    private KeycloakReconciler reconciler;
+
+    // 로컬 페이지 조회와 Keycloak 호출 순서
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 페이지를 여러 번 나눠 읽도록 작게 설정.
+        properties.setLocalPageSize(2);
+        properties.setFixBatchSize(2);
+
+        localUsers(List.of());
+        keycloakUsers();
+        when(roleRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(keycloakService.getAllRolesByNames()).thenReturn(Mono.just(List.of()));
+
+        when(keycloakService.createUser(any(), any(), any())).thenReturn(Mono.empty());
+        when(keycloakService.deleteUser(any())).thenReturn(Mono.empty());
+        when(keycloakService.createRole(any(), any())).thenReturn(Mono.empty());
+        when(keycloakService.updateRole(any(), any())).thenReturn(Mono.empty());
+        when(keycloakService.deleteRole(any())).thenReturn(Mono.empty());
+
+        reconciler = new KeycloakReconciler(userRepository, roleRepository, keycloakService, realmReader,
+                properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testUserDriftIsFoundInOneMergePass() {
+        localUsers(List.of(
+                new LocalUser("alice", "alice@test.com", false),
+                new LocalUser("bob", "bob@test.com", true),
+                new LocalUser("carol", "carol@test.com", false),
+                new LocalUser("dave", "dave@test.com", false),
+                new LocalUser("frank", "frank@test.com", false)));
+        keycloakUsers("alice", "bob", "dave", "eve", "service-account-admin-cli");
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.getLocalUsers()).isEqualTo(5);
+        assertThat(report.getKeycloakUsers()).isEqualTo(5);
+        assertThat(report.countOf(Drift.USER_MISSING_IN_KEYCLOAK)).isEqualTo(2);
+        assertThat(report.countOf(Drift.USER_DELETED_LOCALLY)).isEqualTo(1);
+        assertThat(report.countOf(Drift.USER_ORPHANED_IN_KEYCLOAK)).isEqualTo(1);
+        assertThat(report.getFixesApplied()).isEqualTo(3);
+
+        verify(keycloakService).createUser("carol", "carol@test.com", "encoded");
+        verify(keycloakService).createUser("frank", "frank@test.com", "encoded");
+        verify(keycloakService).deleteUser("bob");
+        // Keycloak 에만 있는 사용자는 기본적으로 집계만 한다.
+        verify(keycloakService, never()).deleteUser("eve");
+    }
+
+    @Test
+    void testLocalUsernamesAreComparedInLowerCase() {
+        localUsers(List.of(new LocalUser("Alice", "alice@test.com", false)));
+        keycloakUsers("alice");
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.getDrift()).isEmpty();
+        verify(keycloakService, never()).createUser(any(), any(), any());
+    }
+
+    @Test
+    void testMixedCaseLocalUsersArePagedInLowerCase() {
+        // 대소문자 그대로 정렬하면 "Zed" 가 "alice" 보다 앞에 온다.
+        localUsers(List.of(
+                new LocalUser("Zed", "zed@test.com", false),
+                new LocalUser("alice", "alice@test.com", false),
+                new LocalUser("Bob", "bob@test.com", false)));
+        keycloakUsers("alice", "bob", "zed");
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.getLocalUsers()).isEqualTo(3);
+        assertThat(report.getDrift()).isEmpty();
+        verify(userRepository).findSyncViewsAfter(eq("bob"), any());
+    }
+
+    @Test
+    void testRoleDriftIsFixed() {
+        when(roleRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                Role.builder().name("ROLE_ADMIN").description("관리자").build(),
+                Role.builder().name("ROLE_USER").description("사용자 기본 권한").build()));
+        when(keycloakService.getAllRolesByNames()).thenReturn(Mono.just(List.of(
+                new RoleRepresentation("1", "ROLE_USER", "이전 설명"),
+                new RoleRepresentation("2", "default-roles-variety-store", null),
+                new RoleRepresentation("3", "offline_access", null),
+                new RoleRepresentation("4", "ROLE_LEGACY", null))));
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.countOf(Drift.ROLE_MISSING_IN_KEYCLOAK)).isEqualTo(1);
+        assertThat(report.countOf(Drift.ROLE_DESCRIPTION_MISMATCH)).isEqualTo(1);
+        assertThat(report.countOf(Drift.ROLE_ORPHANED_IN_KEYCLOAK)).isEqualTo(1);
+
+        verify(keycloakService).createRole("ROLE_ADMIN", "관리자");
+        verify(keycloakService).updateRole(eq("ROLE_USER"), argThat(role -> "사용자 기본 권한".equals(role.getDescription())));
+        verify(keycloakService, never()).deleteRole(any());
+    }
+
+    @Test
+    void testOrphansAreDeletedWhenEnabled() {
+        properties.setDeleteOrphans(true);
+        keycloakUsers("eve");
+
+        reconciler.reconcile();
+
+        verify(keycloakService).deleteUser("eve");
+    }
+
+    @Test
+    void testOrphansAreNotDeletedInARunThatCreatesUsers() {
+        properties.setDeleteOrphans(true);
+        localUsers(List.of(new LocalUser("alice", "alice@test.com", false)));
+        keycloakUsers("eve");
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.countOf(Drift.USER_ORPHANED_IN_KEYCLOAK)).isEqualTo(1);
+        verify(keycloakService).createUser("alice", "alice@test.com", "encoded");
+        verify(keycloakService, never()).deleteUser(any());
+    }
+
+    @Test
+    void testUserFixesAreAppliedAfterTheScan() {
+        localUsers(List.of(
+                new LocalUser("a", "a@test.com", false),
+                new LocalUser("b", "b@test.com", false),
+                new LocalUser("c", "c@test.com", false),
+                new LocalUser("d", "d@test.com", false),
+                new LocalUser("e", "e@test.com", false)));
+        when(keycloakService.createUser(any(), any(), any())).thenAnswer(invocation -> {
+            events.add("create");
+            return Mono.empty();
+        });
+
+        reconciler.reconcile();
+
+        // fixBatchSize(2) 를 넘어도 로컬/Keycloak 조회가 모두 끝난 뒤 생성한다.
+        assertThat(events).containsExactly("page", "page", "page", "create", "create", "create", "create", "create");
+    }
+
+    @Test
+    void testMissingUserIsReadAgainBeforeCreating() {
+        localUsers(List.of(
+                new LocalUser("alice", "alice@test.com", false),
+                new LocalUser("bob", "bob@test.com", false)));
+        // 조회가 끝난 뒤 alice 는 탈퇴했고, bob 은 이메일을 바꿨다.
+        when(userRepository.findSyncViewsByUsernameIn(any())).thenReturn(List.of(
+                new LocalUser("alice", "alice@test.com", true),
+                new LocalUser("bob", "bob@new.com", false)));
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.countOf(Drift.USER_MISSING_IN_KEYCLOAK)).isEqualTo(2);
+        verify(userRepository).findSyncViewsByUsernameIn(List.of("alice", "bob"));
+        verify(keycloakService, never()).createUser(eq("alice"), any(), any());
+        verify(keycloakService).createUser("bob", "bob@new.com", "encoded");
+    }
+
+    @Test
+    void testDuplicateKeycloakUserIsSkipped() {
+        properties.setDeleteOrphans(true);
+        localUsers(List.of(new LocalUser("alice", "alice@test.com", false)));
+        // 조회 중 앞쪽에 사용자가 추가되어 이전 페이지의 마지막 사용자가 다시 온 경우.
+        keycloakUsers("alice", "bob", "bob", "carol");
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.getKeycloakUsers()).isEqualTo(3);
+        assertThat(report.countOf(Drift.USER_ORPHANED_IN_KEYCLOAK)).isEqualTo(2);
+        verify(keycloakService).deleteUser("bob");
+        verify(keycloakService).deleteUser("carol");
+    }
+
+    @Test
+    void testDryRunOnlyCountsDrift() {
+        properties.setApplyFixes(false);
+        localUsers(List.of(new LocalUser("carol", "carol@test.com", false)));
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.countOf(Drift.USER_MISSING_IN_KEYCLOAK)).isEqualTo(1);
+        assertThat(report.getFixesApplied()).isZero();
+        verify(keycloakService, never()).createUser(any(), any(), any());
+    }
+
+    @Test
+    void testFailedFixIsCountedWithoutStoppingTheRun() {
+        localUsers(List.of(
+                new LocalUser("carol", "carol@test.com", false),
+                new LocalUser("frank", "frank@test.com", false)));
+        when(keycloakService.createUser(eq("carol"), any(), any()))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+
+        Report report = reconciler.reconcile();
+
+        assertThat(report.getFixesApplied()).isEqualTo(1);
+        assertThat(report.getFixesFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnsortedInputStopsTheRunWithoutFixes() {
+        localUsers(List.of(new LocalUser("alice", "alice@test.com", false)));
+        keycloakUsers("bob", "alice");
+
+        assertThrows(IllegalStateException.class, reconciler::reconcile);
+
+        verify(keycloakService, never()).createUser(any(), any(), any());
+        verify(keycloakService, never()).deleteUser(any());
+    }
+
+    @Test
+    void testConcurrentRunIsRejected() {
+        when(realmReader.streamUsers(anyInt())).thenAnswer(invocation -> {
+            assertThrows(IllegalStateException.class, reconciler::reconcile);
+            return Flux.empty();
+        });
+
+        reconciler.reconcile();
+
+        verify(realmReader).streamUsers(anyInt());
+    }
+
+    // 소문자 username 순서의 keyset 페이지 조회를 흉내낸다.
+    private void localUsers(List<LocalUser> users) {
+        List<UserRepository.SyncView> sorted = users.stream()
+                .sorted(Comparator.comparing(user -> user.getUsername().toLowerCase()))
+                .map(UserRepository.SyncView.class::cast)
+                .toList();
+
+        when(userRepository.findSyncViewsAfter(any(), any())).thenAnswer(invocation -> {
+            events.add("page");
+            String after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return sorted.stream()
+                    .filter(user -> user.getUsername().toLowerCase().compareTo(after) > 0)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(userRepository.findSyncViewsByUsernameIn(any())).thenAnswer(invocation -> {
+            Collection<String> usernames = invocation.getArgument(0);
+            return sorted.stream().filter(user -> usernames.contains(user.getUsername())).toList();
+        });
+    }
+
+    private void keycloakUsers(String... usernames) {
+        when(realmReader.streamUsers(anyInt())).thenReturn(Flux.fromArray(usernames)
+                .map(username -> new UserRepresentation("id-" + username, username, username + "@test.com", null)));
+    }
+
+    private record LocalUser(String username, String email, boolean deleted) implements UserRepository.SyncView {
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getPassword() {
+            return "encoded";
+        }
+
+        @Override
+        public boolean isDeleted() {
+            return deleted;
+        }
+    }
+}
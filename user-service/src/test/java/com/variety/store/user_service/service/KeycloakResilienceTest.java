@@ -0,0 +1,144 @@
+package com.variety.store.user_service.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연과 오류를 주입한 FakeKeycloakAdminServer 를 대상으로 Keycloak 호출 보호 동작을 확인한다.
+ */
+class KeycloakResilienceTest {
+
+    private FakeKeycloakAdminServer server;
+    private KeycloakLoadHarness harness;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeKeycloakAdminServer()
+                .seedRoles("ROLE_USER")
+                .seedUsers(1, "ROLE_USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (harness != null) {
+            harness.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void testIdempotentCallIsRetriedOnTransientError() {
+        server.failNext("GET /users", 2, 503);
+
+        StepVerifier.create(createService(settings -> {}).getUserInfoByUsername("user-00001"))
+                .assertNext(user -> assertThat(user).hasValueSatisfying(found ->
+                        assertThat(found.getId()).isEqualTo(server.userIdOf("user-00001").orElseThrow())))
+                .verifyComplete();
+
+        assertThat(server.hits("GET /users")).isEqualTo(3);
+    }
+
+    @Test
+    void testNonIdempotentCallIsNotRetried() {
+        server.failNext("POST /roles", 1, 503);
+
+        StepVerifier.create(createService(settings -> {}).createRole("ROLE_NEW", "신규 역할"))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        assertThat(server.hits("POST /roles")).isEqualTo(1);
+    }
+
+    @Test
+    void testClientErrorIsNotRetried() {
+        server.errorRate("GET /users", 1.0, 400);
+
+        StepVerifier.create(createService(settings -> {}).getUserInfoByUsername("user-00001"))
+                .expectError(WebClientResponseException.BadRequest.class)
+                .verify();
+
+        assertThat(server.hits("GET /users")).isEqualTo(1);
+    }
+
+    @Test
+    void testSlowCallTimesOutPerOperation() {
+        server.latency("GET /users", Duration.ofMillis(500), Duration.ZERO);
+
+        KeycloakService keycloakService = createService(settings -> {
+            settings.resilience.getTimeouts().put("users.lookup", Duration.ofMillis(100));
+            settings.resilience.getRetry().setMaxAttempts(2);
+        });
+
+        StepVerifier.create(keycloakService.getUserInfoByUsername("user-00001"))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(server.hits("GET /users")).isEqualTo(2);
+    }
+
+    @Test
+    void testCircuitOpensAndFailsFast() {
+        server.errorRate("POST /roles", 1.0, 503);
+
+        KeycloakService keycloakService = createService(settings -> {
+            settings.resilience.getCircuitBreaker().setSlidingWindowSize(4);
+            settings.resilience.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        });
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(keycloakService.createRole("ROLE_" + i, null))
+                    .expectError(WebClientResponseException.ServiceUnavailable.class)
+                    .verify();
+        }
+        assertThat(harness.resilience().getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 차단 상태에서는 Keycloak 으로 요청을 보내지 않고 즉시 실패.
+        StepVerifier.create(keycloakService.createRole("ROLE_4", null))
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        assertThat(server.hits("POST /roles")).isEqualTo(4);
+    }
+
+    @Test
+    void testBulkheadRejectsExcessConcurrentCalls() {
+        server.latency("GET /users", Duration.ofMillis(300), Duration.ZERO);
+
+        KeycloakService keycloakService = createService(settings -> settings.resilience.getBulkhead().setMaxConcurrentCalls(2));
+
+        List<String> results = Flux.range(0, 3)
+                .flatMap(i -> keycloakService.getUserInfoByUsername("user" + i)
+                        .map(user -> "OK")
+                        .onErrorResume(BulkheadFullException.class, e -> Mono.just("REJECTED")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).containsExactlyInAnyOrder("OK", "OK", "REJECTED");
+        assertThat(server.hits("GET /users")).isEqualTo(2);
+    }
+
+    // 애플리케이션과 같은 구성(연결 풀, 토큰 발급)의 KeycloakService. 재시도 간격은 테스트 시간을 줄이기 위해 짧게 둔다.
+    private KeycloakService createService(Consumer<KeycloakLoadHarness.Settings> customizer) {
+        harness = KeycloakLoadHarness.against(server, settings -> {
+            settings.resilience.setDefaultTimeout(Duration.ofSeconds(2));
+            settings.resilience.getRetry().setInitialBackoff(Duration.ofMillis(10));
+            settings.resilience.getRetry().setMaxBackoff(Duration.ofMillis(50));
+            customizer.accept(settings);
+        });
+        return harness.keycloakService();
+    }
+}
@@ -0,0 +1,109 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.service.KeycloakService.RoleRepresentation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeycloakRoleCatalogTest {
+
+    private static final String ROLES_JSON = """
+            [{"id":"r-1","name":"ROLE_USER","description":"사용자"},
+             {"id":"r-2","name":"ROLE_ADMIN","description":"관리자"}]
+            """;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    // 목록 응답을 보내기 전에 기다릴 신호. (갱신 요청 중의 변경을 흉내낸다)
+    private Mono<Void> responseGate = Mono.empty();
+    private KeycloakCacheProperties properties;
+    private KeycloakRoleCatalog roleCatalog;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeycloakCacheProperties();
+        roleCatalog = createCatalog();
+    }
+
+    @Test
+    void testRolesAreServedFromCatalogAfterFirstLoad() {
+        List<RoleRepresentation> first = roleCatalog.getRolesByNames(List.of("ROLE_ADMIN")).block();
+        List<RoleRepresentation> second = roleCatalog.getRolesByNames(List.of("ROLE_USER", "ROLE_ADMIN")).block();
+
+        assertThat(first).extracting(RoleRepresentation::getId).containsExactly("r-2");
+        assertThat(second).extracting(RoleRepresentation::getId).containsExactly("r-1", "r-2");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testUnknownRoleRefreshesAtMostOncePerInterval() {
+        properties.getRoleCatalog().setMinimumRefreshInterval(Duration.ofHours(1));
+        roleCatalog = createCatalog();
+
+        roleCatalog.getRolesByNames(List.of("ROLE_USER")).block();
+        List<RoleRepresentation> unknown = roleCatalog.getRolesByNames(List.of("ROLE_UNKNOWN")).block();
+
+        assertThat(unknown).isEmpty();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testLocalChangesAreAppliedImmediately() {
+        roleCatalog.getRolesByNames(List.of("ROLE_USER")).block();
+
+        // 이름 변경(같은 id)과 삭제
+        roleCatalog.put(new RoleRepresentation("r-1", "ROLE_MEMBER", "회원"));
+        roleCatalog.remove("ROLE_ADMIN");
+
+        assertThat(roleCatalog.getAllRoles()).extracting(RoleRepresentation::getName).containsExactly("ROLE_MEMBER");
+        assertThat(roleCatalog.getRoleById("r-1")).get().extracting(RoleRepresentation::getName).isEqualTo("ROLE_MEMBER");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testChangesDuringRefreshAreNotReverted() {
+        roleCatalog.getRolesByNames(List.of("ROLE_USER")).block();
+
+        Sinks.Empty<Void> gate = Sinks.empty();
+        responseGate = gate.asMono();
+        Mono<KeycloakRoleCatalog.Catalog> refreshing = roleCatalog.refresh().cache();
+        refreshing.subscribe();
+
+        // 갱신 요청이 진행 중일 때 역할 삭제와 생성이 먼저 끝났다. 응답은 이전 목록이다.
+        roleCatalog.remove("ROLE_ADMIN");
+        roleCatalog.put(new RoleRepresentation("r-3", "ROLE_NEW", "신규"));
+        gate.tryEmitEmpty();
+        refreshing.block(Duration.ofSeconds(5));
+
+        assertThat(roleCatalog.getAllRoles()).extracting(RoleRepresentation::getName)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_NEW");
+        assertThat(requests).hasValue(2);
+    }
+
+    private KeycloakRoleCatalog createCatalog() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return responseGate.then(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(ROLES_JSON)
+                            .build()));
+                })
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new KeycloakRoleCatalog(webClient,
+                new KeycloakResilience(new KeycloakResilienceProperties(), meterRegistry), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.dto.request.UserRoleAssignmentRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.convert.DurationStyle;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeycloakService 부하 측정. 가짜 Admin API 서버를 대상으로 작업별 처리량과 p50/p90/p99 지연 시간을 출력한다.
+ *
+ * 일반 테스트에서는 실행되지 않으며, ./gradlew keycloakLoadTest 로 실행한다.
+ * -Pkeycloak.load.requests=20000 -Pkeycloak.load.concurrency=64 -Pkeycloak.load.latency=5ms 로 조건을 바꿀 수 있다.
+ */
+@EnabledIfSystemProperty(named = "keycloak.load.enabled", matches = "true")
+class KeycloakServiceLoadTest {
+
+    private static final int USERS = 5_000;
+    private static final int REQUESTS = Integer.getInteger("keycloak.load.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("keycloak.load.concurrency", 64);
+    private static final Duration LATENCY = DurationStyle.detectAndParse(System.getProperty("keycloak.load.latency", "5ms"));
+
+    private static FakeKeycloakAdminServer server;
+    private static final List<KeycloakLoadHarness.Result> results = new ArrayList<>();
+
+    @BeforeAll
+    static void startServer() {
+        server = new FakeKeycloakAdminServer()
+                .seedRoles("ROLE_USER", "ROLE_ADMIN", "ROLE_MANAGER")
+                .seedUsers(USERS, "ROLE_USER")
+                .latency(FakeKeycloakAdminServer.ANY_ROUTE, LATENCY, LATENCY.dividedBy(2));
+    }
+
+    @AfterAll
+    static void printResults() {
+        System.out.println();
+        System.out.println("Keycloak load test: latency=" + LATENCY.toMillis() + "ms(+jitter), users=" + USERS);
+        System.out.println(KeycloakLoadHarness.Result.header());
+        results.forEach(System.out::println);
+        server.close();
+    }
+
+    @Test
+    void userLookup() {
+        measure("users.lookup", settings -> {}, harness ->
+                harness.run("users.lookup", 1_000, REQUESTS, CONCURRENCY,
+                        i -> harness.keycloakService().getUserInfoByUsername(username(i))));
+    }
+
+    @Test
+    void userRoleUpdate() {
+        measure("role-mappings.update", settings -> {}, harness ->
+                harness.run("role-mappings.update", 1_000, REQUESTS, CONCURRENCY,
+                        i -> harness.keycloakService().updateUserRoles(username(i), roles(i))));
+    }
+
+    @Test
+    void userRoleUpdateWithoutUserIdCache() {
+        measure("role-mappings.update (no user-id cache)",
+                settings -> settings.cache.getUserId().setTimeToLive(Duration.ZERO),
+                harness -> harness.run("role-mappings.update (no user-id cache)", 1_000, REQUESTS, CONCURRENCY,
+                        i -> harness.keycloakService().updateUserRoles(username(i), roles(i))));
+    }
+
+    @Test
+    void userRoleUpdateWithSmallPool() {
+        measure("role-mappings.update (8 connections)",
+                settings -> settings.client.getPool().setMaxConnections(8),
+                harness -> harness.run("role-mappings.update (8 connections)", 1_000, REQUESTS, CONCURRENCY,
+                        i -> harness.keycloakService().updateUserRoles(username(i), roles(i))));
+    }
+
+    @Test
+    void bulkReassignment() {
+        int batch = 100;
+        measure("role-mappings.bulk x" + batch, settings -> {}, harness ->
+                harness.run("role-mappings.bulk x" + batch, 10, Math.max(1, REQUESTS / batch), Math.max(1, CONCURRENCY / 8),
+                        i -> harness.keycloakService().updateUserRolesInBulk(Flux.range(i * batch, batch)
+                                .map(n -> new UserRoleAssignmentRequest(username(n), roles(n))), null).then()));
+    }
+
+    @Test
+    void userLookupWithTransientErrors() {
+        measure("users.lookup (1% 503)", settings -> settings.resilience.getRetry().setInitialBackoff(Duration.ofMillis(20)),
+                harness -> {
+                    server.errorRate("GET /users", 0.01, 503);
+                    try {
+                        return harness.run("users.lookup (1% 503)", 1_000, REQUESTS, CONCURRENCY,
+                                i -> harness.keycloakService().getUserInfoByUsername(username(i)));
+                    }
+                    finally {
+                        server.clearFaults();
+                        server.latency(FakeKeycloakAdminServer.ANY_ROUTE, LATENCY, LATENCY.dividedBy(2));
+                    }
+                });
+    }
+
+    private void measure(String name, Consumer<KeycloakLoadHarness.Settings> customizer,
+                         Function<KeycloakLoadHarness, KeycloakLoadHarness.Result> scenario) {
+        try (KeycloakLoadHarness harness = KeycloakLoadHarness.against(server, customizer)) {
+            server.resetStats();
+            KeycloakLoadHarness.Result result = scenario.apply(harness);
+            results.add(result);
+
+            System.out.println(name + ": " + result + ", max concurrent requests at server=" + server.maxConcurrentRequests());
+            assertThat(result.requests()).isPositive();
+        }
+    }
+
+    private static String username(int i) {
+        return String.format("user-%05d", i % USERS + 1);
+    }
+
+    // 사용자마다 역할을 번갈아 바꿔 매번 추가/제거 요청이 발생하도록 한다.
+    private static List<String> roles(int i) {
+        return i % 2 == 0 ? List.of("ROLE_USER", "ROLE_MANAGER") : List.of("ROLE_USER");
+    }
+}
@@ -0,0 +1,159 @@
+package com.variety.store.user_service.service;
+
+import com.variety.store.user_service.domain.dto.request.UserRoleAssignmentRequest;
+import com.variety.store.user_service.domain.dto.response.UserRoleAssignmentResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keycloak Admin API 를 WebClient 의 ExchangeFunction 으로 대체하여, 요청 횟수와 결과를 확인한다.
+ */
+class KeycloakServiceTest {
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private KeycloakService keycloakService;
+
+    // 응답 지연 (동시 요청 테스트용)
+    private Duration latency = Duration.ZERO;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(this::respond)
+                .build();
+
+        KeycloakCacheProperties cacheProperties = new KeycloakCacheProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        KeycloakResilience resilience = new KeycloakResilience(new KeycloakResilienceProperties(), meterRegistry);
+
+        keycloakService = new KeycloakService(webClient,
+                new KeycloakUserIdCache(cacheProperties, meterRegistry),
+                new KeycloakRoleCatalog(webClient, resilience, cacheProperties, meterRegistry),
+                new KeycloakBulkProperties(),
+                resilience);
+    }
+
+    @Test
+    void testBulkReassignmentSkipsNoOpCalls() {
+        List<UserRoleAssignmentResponse> responses = keycloakService.updateUserRolesInBulk(Flux.just(
+                        new UserRoleAssignmentRequest("alice", List.of("ROLE_USER", "ROLE_ADMIN")),
+                        new UserRoleAssignmentRequest("carol", List.of("ROLE_USER")),
+                        new UserRoleAssignmentRequest("bob", List.of("ROLE_USER"))), 4)
+                .collectList()
+                .block();
+
+        Map<String, UserRoleAssignmentResponse> byUsername = responses.stream()
+                .collect(Collectors.toMap(UserRoleAssignmentResponse::getUsername, Function.identity()));
+
+        assertThat(byUsername.get("alice").getStatus()).isEqualTo(UserRoleAssignmentResponse.Status.UPDATED);
+        assertThat(byUsername.get("alice").getAddedRoles()).containsExactly("ROLE_ADMIN");
+        assertThat(byUsername.get("alice").getRemovedRoles()).isEmpty();
+        assertThat(byUsername.get("carol").getStatus()).isEqualTo(UserRoleAssignmentResponse.Status.UNCHANGED);
+        assertThat(byUsername.get("bob").getStatus()).isEqualTo(UserRoleAssignmentResponse.Status.NOT_FOUND);
+
+        // 역할 목록은 한 번만 조회하고, 변경이 없는 제거/추가 요청은 보내지 않는다.
+        assertThat(count("GET /roles")).isEqualTo(1);
+        assertThat(count("POST /users/u-alice/role-mappings/realm")).isEqualTo(1);
+        assertThat(count("DELETE /users/u-alice/role-mappings/realm")).isZero();
+        assertThat(count("POST /users/u-carol/role-mappings/realm")).isZero();
+        assertThat(count("DELETE /users/u-carol/role-mappings/realm")).isZero();
+    }
+
+    @Test
+    void testBulkReassignmentWithUnknownRoleChangesNothing() {
+        List<UserRoleAssignmentResponse> responses = keycloakService.updateUserRolesInBulk(Flux.just(
+                        new UserRoleAssignmentRequest("alice", List.of("ROLE_USER", "ROLE_GHOST")),
+                        new UserRoleAssignmentRequest("carol", List.of("ROLE_PHANTOM")),
+                        new UserRoleAssignmentRequest("dave", List.of("ROLE_USER"))), 1)
+                .collectList()
+                .block();
+
+        Map<String, UserRoleAssignmentResponse> byUsername = responses.stream()
+                .collect(Collectors.toMap(UserRoleAssignmentResponse::getUsername, Function.identity()));
+
+        assertThat(byUsername.get("alice").getStatus()).isEqualTo(UserRoleAssignmentResponse.Status.INVALID);
+        assertThat(byUsername.get("alice").getUnknownRoles()).containsExactly("ROLE_GHOST");
+        assertThat(byUsername.get("carol").getStatus()).isEqualTo(UserRoleAssignmentResponse.Status.INVALID);
+
+        // 카탈로그는 한 번만 다시 읽고, 알 수 없는 역할이 있는 사용자에게는 요청을 보내지 않는다.
+        assertThat(count("GET /roles")).isEqualTo(2);
+        assertThat(count("GET /users")).isEqualTo(1);
+        assertThat(count("GET /users/u-alice/role-mappings/realm")).isZero();
+        assertThat(count("DELETE /users/u-alice/role-mappings/realm")).isZero();
+    }
+
+    @Test
+    void testUserIdIsResolvedOnce() {
+        keycloakService.updateUserRoles("alice", List.of("ROLE_USER")).block();
+        keycloakService.updateUserRoles("alice", List.of("ROLE_USER")).block();
+
+        assertThat(count("GET /users")).isEqualTo(1);
+    }
+
+    @Test
+    void testConcurrentIdenticalReadsAreCoalesced() {
+        latency = Duration.ofMillis(100);
+
+        List<Optional<KeycloakService.UserRepresentation>> users = Flux.range(0, 10)
+                .flatMap(i -> keycloakService.getUserInfoByUsername("alice"))
+                .collectList()
+                .block();
+
+        assertThat(users).hasSize(10).allSatisfy(user -> assertThat(user).isPresent());
+        assertThat(count("GET /users")).isEqualTo(1);
+
+        // 진행 중인 요청이 끝난 뒤의 조회는 다시 요청한다.
+        keycloakService.getUserInfoByUsername("alice").block();
+        assertThat(count("GET /users")).isEqualTo(2);
+    }
+
+    private int count(String request) {
+        return requests.getOrDefault(request, new AtomicInteger()).get();
+    }
+
+    private Mono<ClientResponse> respond(ClientRequest request) {
+        String path = request.url().getPath();
+        requests.computeIfAbsent(request.method().name() + " " + path, key -> new AtomicInteger()).incrementAndGet();
+
+        String body = switch (request.method().name() + " " + path) {
+            case "GET /roles" -> """
+                    [{"id":"r-user","name":"ROLE_USER"},{"id":"r-admin","name":"ROLE_ADMIN"}]""";
+            case "GET /users" -> request.url().getQuery().contains("username=bob")
+                    ? "[]"
+                    : "[{\"id\":\"u-" + request.url().getQuery().replaceAll(".*username=([a-z]+).*", "$1") + "\"}]";
+            case "GET /users/u-alice/role-mappings/realm", "GET /users/u-carol/role-mappings/realm" -> """
+                    [{"id":"r-user","name":"ROLE_USER"},{"id":"r-default","name":"default-roles-variety-store"}]""";
+            default -> null;
+        };
+
+        if (body == null) {
+            return Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+        }
+        Mono<ClientResponse> response = Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+        return latency.isZero() ? response : response.delayElement(latency);
+    }
+}
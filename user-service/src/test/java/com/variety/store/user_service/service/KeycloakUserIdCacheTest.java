@@ -0,0 +1,47 @@
+package com.variety.store.user_service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeycloakUserIdCacheTest {
+
+    private KeycloakCacheProperties properties;
+    private KeycloakUserIdCache userIdCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeycloakCacheProperties();
+        userIdCache = new KeycloakUserIdCache(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testPutAndEvict() {
+        assertThat(userIdCache.get("user1")).isEqualTo(KeycloakUserIdCache.Lookup.NOT_CACHED);
+
+        userIdCache.put("user1", "0b8c6a1e-uuid");
+        assertThat(userIdCache.get("user1")).isEqualTo(KeycloakUserIdCache.Lookup.found("0b8c6a1e-uuid"));
+
+        userIdCache.evict("user1");
+        assertThat(userIdCache.get("user1").status()).isEqualTo(KeycloakUserIdCache.Lookup.Status.NOT_CACHED);
+    }
+
+    @Test
+    void testNegativeResultExpiresSooner() throws InterruptedException {
+        properties.getUserId().setNegativeTimeToLive(Duration.ofMillis(50));
+        userIdCache = new KeycloakUserIdCache(properties, new SimpleMeterRegistry());
+
+        userIdCache.putMissing("ghost");
+        userIdCache.put("user1", "0b8c6a1e-uuid");
+        assertThat(userIdCache.get("ghost").status()).isEqualTo(KeycloakUserIdCache.Lookup.Status.MISSING);
+
+        Thread.sleep(100);
+
+        assertThat(userIdCache.get("ghost").status()).isEqualTo(KeycloakUserIdCache.Lookup.Status.NOT_CACHED);
+        assertThat(userIdCache.get("user1").status()).isEqualTo(KeycloakUserIdCache.Lookup.Status.FOUND);
+    }
+}
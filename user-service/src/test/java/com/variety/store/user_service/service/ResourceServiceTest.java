@@ -3,12 +3,14 @@ package com.variety.store.user_service.service;
 import com.variety.store.user_service.domain.dto.request.ResourceRequest;
 import com.variety.store.user_service.domain.dto.response.ResourceResponse;
 import com.variety.store.user_service.domain.entity.Resource;
+import com.variety.store.user_service.domain.event.ResourceChangedEvent;
 import com.variety.store.user_service.repository.ResourceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -20,6 +22,9 @@ class ResourceServiceTest {
     @Mock
     private ResourceRepository resourceRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ResourceService resourceService;
 
@@ -57,6 +62,7 @@ class ResourceServiceTest {
         assertEquals("Test Resource", savedResource.getName());
 
         verify(resourceRepository, times(1)).save(any(Resource.class));
+        verify(eventPublisher, times(1)).publishEvent(any(ResourceChangedEvent.class));
     }
 
     @Test
@@ -77,5 +83,6 @@ class ResourceServiceTest {
         resourceService.deleteResource(1L);
 
         verify(resourceRepository, times(1)).delete(resource);
+        verify(eventPublisher, times(1)).publishEvent(any(ResourceChangedEvent.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.variety.store.user_service.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void testConcurrentCallsShareOneInFlightCall() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        List<Mono<String>> callers = Flux.range(0, 10)
+                .map(i -> singleFlight.execute("alice", () -> {
+                    calls.incrementAndGet();
+                    return result.asMono();
+                }))
+                .collectList()
+                .block();
+
+        Mono<List<String>> all = Flux.merge(callers).collectList();
+
+        StepVerifier.create(all)
+                .then(() -> {
+                    assertThat(singleFlight.size()).isEqualTo(1);
+                    result.tryEmitValue("u-alice");
+                })
+                .assertNext(values -> assertThat(values).hasSize(10).containsOnly("u-alice"))
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        // 완료된 결과는 보관하지 않는다.
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    void testCallAfterCompletionIsNotCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("alice", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet())).block();
+        String second = singleFlight.execute("alice", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet())).block();
+
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    void testErrorIsSharedAndNotRetained() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = singleFlight.execute("alice", () -> {
+            calls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).then(Mono.error(new IllegalStateException("boom")));
+        });
+        Mono<String> joined = singleFlight.execute("alice", () -> {
+            calls.incrementAndGet();
+            return Mono.just("unused");
+        });
+
+        StepVerifier.create(Flux.merge(failing.onErrorReturn("error"), joined.onErrorReturn("error")))
+                .expectNext("error", "error")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    @Test
+    void testCancelledSubscriberDoesNotCancelOthers() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> first = singleFlight.execute("alice", result::asMono);
+        Mono<String> second = singleFlight.execute("alice", () -> Mono.just("unused"));
+
+        first.subscribe().dispose();
+
+        StepVerifier.create(second)
+                .then(() -> result.tryEmitValue("u-alice"))
+                .expectNext("u-alice")
+                .verifyComplete();
+    }
+
+    @Test
+    void testDifferentKeysAreNotCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(Flux.merge(
+                        singleFlight.execute("alice", () -> Mono.delay(Duration.ofMillis(20)).map(t -> "a" + calls.incrementAndGet())),
+                        singleFlight.execute("bob", () -> Mono.delay(Duration.ofMillis(20)).map(t -> "b" + calls.incrementAndGet())))
+                        .collectList())
+                .assertNext(values -> assertThat(values).hasSize(2))
+                .verifyComplete();
+
+        assertThat(calls).hasValue(2);
+    }
+}